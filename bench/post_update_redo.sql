@@ -0,0 +1,89 @@
+-- #### 게시물 수정 시 redo 발생량/소요 시간 비교
+-- 큰 내용(CLOB)을 가진 게시물의 제목만 바꿀 때
+--   A. 기존 방식: 엔티티 save()로 모든 컬럼을 UPDATE (내용 CLOB 포함)
+--   B. 변경 방식: 바뀐 컬럼(title, updated_at)만 UPDATE
+-- 두 경우의 세션 redo size 증가량과 경과 시간을 출력합니다.
+--
+-- 실행 (SQL*Plus / SQLcl, 샘플 스키마 계정):
+--   @bench/post_update_redo.sql
+-- 필요 권한 (SYS로 실행):
+--   GRANT SELECT ON v_$mystat TO samgak;
+--   GRANT SELECT ON v_$statname TO samgak;
+--
+-- 결과는 환경(블록 크기, LOB 저장 옵션, 로그 설정)에 따라 달라지므로 실행한 값을 기록해서 비교합니다.
+
+SET SERVEROUTPUT ON
+SET FEEDBACK OFF
+
+DECLARE
+    c_iterations   CONSTANT PLS_INTEGER := 200;
+    c_content_size CONSTANT PLS_INTEGER := 1024 * 1024; -- 게시물 내용 1MB
+    c_chunk        CONSTANT VARCHAR2(1000) := RPAD('x', 1000, 'x');
+
+    v_user_id  users.id%TYPE;
+    v_post_id  posts.id%TYPE;
+    v_content  CLOB;
+    v_redo     NUMBER;
+    v_started  TIMESTAMP;
+
+    FUNCTION redo_size RETURN NUMBER IS
+        v_value NUMBER;
+    BEGIN
+        SELECT m.value INTO v_value
+          FROM v$mystat m
+          JOIN v$statname n ON n.statistic# = m.statistic#
+         WHERE n.name = 'redo size';
+        RETURN v_value;
+    END;
+
+    PROCEDURE report(p_label VARCHAR2, p_redo NUMBER, p_started TIMESTAMP) IS
+        v_elapsed INTERVAL DAY TO SECOND := SYSTIMESTAMP - p_started;
+        v_ms      NUMBER := EXTRACT(SECOND FROM v_elapsed) * 1000
+                            + EXTRACT(MINUTE FROM v_elapsed) * 60000;
+    BEGIN
+        DBMS_OUTPUT.PUT_LINE(RPAD(p_label, 28)
+            || ' redo/update: ' || LPAD(ROUND((redo_size - p_redo) / c_iterations), 10) || ' bytes'
+            || '   latency/update: ' || LPAD(TO_CHAR(ROUND(v_ms / c_iterations, 3), 'FM9990.000'), 10) || ' ms');
+    END;
+BEGIN
+    SELECT MIN(id) INTO v_user_id FROM users;
+
+    DBMS_LOB.CREATETEMPORARY(v_content, TRUE);
+    FOR i IN 1 .. c_content_size / LENGTH(c_chunk) LOOP
+        DBMS_LOB.WRITEAPPEND(v_content, LENGTH(c_chunk), c_chunk);
+    END LOOP;
+
+    INSERT INTO posts (id, user_id, title, content, view_count, created_at, updated_at)
+    VALUES (posts_seq.NEXTVAL, v_user_id, 'redo benchmark', v_content, 0, SYSTIMESTAMP, SYSTIMESTAMP)
+    RETURNING id INTO v_post_id;
+    COMMIT;
+
+    -- A. 전체 컬럼 UPDATE (Hibernate 기본 동작과 같은 형태)
+    v_redo := redo_size;
+    v_started := SYSTIMESTAMP;
+    FOR i IN 1 .. c_iterations LOOP
+        UPDATE posts
+           SET title = 'full ' || i, content = v_content, view_count = view_count,
+               updated_at = SYSTIMESTAMP, deleted_at = NULL
+         WHERE id = v_post_id;
+        COMMIT;
+    END LOOP;
+    report('A. full row (with CLOB)', v_redo, v_started);
+
+    -- B. 바뀐 컬럼만 UPDATE (updateTitleByOwner 와 같은 형태)
+    v_redo := redo_size;
+    v_started := SYSTIMESTAMP;
+    FOR i IN 1 .. c_iterations LOOP
+        UPDATE posts
+           SET title = 'partial ' || i, updated_at = SYSTIMESTAMP
+         WHERE id = v_post_id AND user_id = v_user_id AND deleted_at IS NULL
+           AND title <> 'partial ' || i;
+        COMMIT;
+    END LOOP;
+    report('B. changed columns only', v_redo, v_started);
+
+    DELETE FROM posts WHERE id = v_post_id;
+    COMMIT;
+    DBMS_LOB.FREETEMPORARY(v_content);
+END;
+/
@@ -0,0 +1,40 @@
+-- #### 사용자명/이메일 고유 제약 조건 추가
+-- sample.sql 로 만들지 않았거나 ddl-auto 로 만든 users 테이블에는 고유 제약이 없을 수 있습니다.
+-- 가입 시 중복 확인은 애플리케이션에서 하지만, 여러 인스턴스가 동시에 가입을 처리하면
+-- DB 제약 조건만이 중복 사용자를 막을 수 있습니다.
+--
+-- 실행 (SQL*Plus / SQLcl, 샘플 스키마 계정):
+--   @migration/001_users_unique_constraints.sql
+--
+-- 1. 아래 조회 결과가 있으면 중복 사용자를 먼저 정리한 뒤 다시 실행합니다.
+-- 2. 이미 같은 이름의 제약 조건이 있으면 건너뛰므로 여러 번 실행해도 됩니다.
+
+SET SERVEROUTPUT ON
+SET FEEDBACK OFF
+
+SELECT 'username' AS column_name, username AS value, COUNT(*) AS duplicates
+FROM users GROUP BY username HAVING COUNT(*) > 1
+UNION ALL
+SELECT 'email', email, COUNT(*)
+FROM users GROUP BY email HAVING COUNT(*) > 1;
+
+DECLARE
+    PROCEDURE add_unique(p_name IN VARCHAR2, p_column IN VARCHAR2) IS
+        v_count PLS_INTEGER;
+    BEGIN
+        SELECT COUNT(*) INTO v_count
+        FROM user_constraints
+        WHERE table_name = 'USERS' AND constraint_name = UPPER(p_name);
+
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'ALTER TABLE users ADD CONSTRAINT ' || p_name || ' UNIQUE (' || p_column || ')';
+            DBMS_OUTPUT.PUT_LINE('added ' || p_name);
+        ELSE
+            DBMS_OUTPUT.PUT_LINE('exists ' || p_name);
+        END IF;
+    END;
+BEGIN
+    add_unique('UK_username', 'username');
+    add_unique('UK_email', 'email');
+END;
+/
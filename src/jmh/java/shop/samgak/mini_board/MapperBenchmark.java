@@ -0,0 +1,108 @@
+package shop.samgak.mini_board;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import shop.samgak.mini_board.comment.dto.CommentDTO;
+import shop.samgak.mini_board.comment.entities.Comment;
+import shop.samgak.mini_board.comment.mapper.CommentMapper;
+import shop.samgak.mini_board.post.dto.PostDTO;
+import shop.samgak.mini_board.post.entities.Post;
+import shop.samgak.mini_board.post.mapper.PostMapper;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.entities.User;
+import shop.samgak.mini_board.user.mapper.UserMapper;
+
+/**
+ * MapStruct 가 생성한 엔티티/DTO 변환 비용
+ * 댓글 목록 캐시와 게시물 조회 응답에서 사용하는 변환을 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private UserMapper userMapper;
+    private PostMapper postMapper;
+    private CommentMapper commentMapper;
+
+    private User user;
+    private Post post;
+    private Comment comment;
+    private PostDTO postDTO;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        userMapper = newMapper(UserMapper.class, null);
+        postMapper = newMapper(PostMapper.class, userMapper);
+        commentMapper = newMapper(CommentMapper.class, userMapper);
+
+        Instant now = Instant.now();
+        user = new User(12345L, "benchmark_user", "user@example.com", "{bcrypt}hash", now, now, null);
+        post = new Post();
+        post.setId(100L);
+        post.setUser(user);
+        post.setTitle("Benchmark title");
+        post.setContent("Benchmark content ".repeat(50));
+        post.setViewCount(42L);
+        post.setVersion(3L);
+        comment = new Comment();
+        comment.setId(1000L);
+        comment.setUser(user);
+        comment.setPost(post);
+        comment.setContent("Benchmark comment");
+        comment.setVersion(1L);
+        postDTO = postMapper.toDTO(post);
+    }
+
+    /**
+     * Spring 컨텍스트 없이 생성된 구현 클래스를 만들고, 필드로 주입되는 UserMapper 를 직접 설정합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T newMapper(Class<T> mapperType, UserMapper userMapper) throws ReflectiveOperationException {
+        Class<?> implType = Class.forName(mapperType.getName() + "Impl");
+        T mapper = (T) implType.getDeclaredConstructor().newInstance();
+        for (Field field : implType.getDeclaredFields()) {
+            if (field.getType() == UserMapper.class) {
+                field.setAccessible(true);
+                field.set(mapper, userMapper);
+            }
+        }
+        return mapper;
+    }
+
+    @Benchmark
+    public UserDTO userToDTO() {
+        return userMapper.toDTO(user);
+    }
+
+    @Benchmark
+    public PostDTO postToDTO() {
+        return postMapper.toDTO(post);
+    }
+
+    @Benchmark
+    public Post postFromDTO() {
+        return postMapper.fromDTO(postDTO);
+    }
+
+    @Benchmark
+    public CommentDTO commentToDTO() {
+        return commentMapper.toDTO(comment);
+    }
+
+    @Benchmark
+    public CommentDTO commentToListDTO() {
+        return commentMapper.toListDTO(comment);
+    }
+}
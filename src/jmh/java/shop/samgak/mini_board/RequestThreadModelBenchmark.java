@@ -0,0 +1,103 @@
+package shop.samgak.mini_board;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청 처리 스레드 모델별 처리량 비교
+ * 요청 하나는 짧은 CPU 작업 뒤 DB/Redis 응답을 기다리는 시간(blockingMillis)만큼 대기합니다.
+ * 한 번의 호출은 동시 요청 concurrency 개를 모두 처리하는 것이므로 초당 요청 수는 결과에 concurrency 를 곱한 값입니다.
+ *
+ * platform 은 Tomcat 기본 최대 스레드 수(200)의 고정 스레드 풀, virtual 은 요청마다 가상 스레드를 사용합니다.
+ * virtual-synchronized 는 synchronized 블록 안에서 대기하여 가상 스레드가 캐리어 스레드에 고정되는 경우입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestThreadModel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestThreadModelBenchmark {
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({ "platform", "virtual", "virtual-synchronized" })
+    public String threadModel;
+
+    // 동시에 처리 중인 요청 수
+    @Param({ "200", "2000" })
+    public int concurrency;
+
+    // 요청 하나가 I/O 를 기다리는 시간
+    @Param({ "10" })
+    public int blockingMillis;
+
+    private ExecutorService executor;
+    private boolean pinned;
+    // 요청마다 다른 모니터, 필드에 보관하여 JIT 가 잠금을 제거하지 않도록 함
+    private Object[] monitors;
+
+    @Setup
+    public void setUp() {
+        executor = threadModel.equals("platform") ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        pinned = threadModel.equals("virtual-synchronized");
+        monitors = new Object[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            monitors[i] = new Object();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void handleConcurrentRequests(Blackhole blackhole) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int requestId = i;
+            executor.execute(() -> {
+                try {
+                    blackhole.consume(handle(requestId));
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private long handle(int requestId) {
+        Blackhole.consumeCPU(1_000);
+        if (pinned) {
+            // 경합은 없지만 대기 중에 캐리어 스레드를 놓지 못함
+            synchronized (monitors[requestId]) {
+                block();
+            }
+        } else {
+            block();
+        }
+        return requestId;
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(blockingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
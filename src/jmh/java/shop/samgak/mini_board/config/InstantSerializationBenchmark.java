@@ -0,0 +1,77 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import shop.samgak.mini_board.post.dto.PostDTO;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * JacksonConfig 의 Instant 유닉스 타임스탬프 직렬화 비용
+ * 게시물 목록 응답(게시물마다 Instant 3개)을 직렬화/역직렬화하며, JavaTimeModule 기본 형식(ISO-8601)과 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=InstantSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstantSerializationBenchmark {
+
+    @Param({ "unix", "iso" })
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private List<PostDTO> posts;
+    private String json;
+    private JavaType listType;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        if (format.equals("unix")) {
+            objectMapper = new JacksonConfig().objectMapper();
+        } else {
+            objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JavaTimeModule());
+            objectMapper.registerModule(new Jdk8Module());
+            // Spring Boot 기본 ObjectMapper 와 같이 문자열로 기록
+            objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+        posts = new ArrayList<>();
+        Instant now = Instant.now();
+        UserDTO user = new UserDTO(12345L, "benchmark_user");
+        for (long i = 0; i < 10; i++) {
+            posts.add(new PostDTO(i, user, "Benchmark title " + i, "Benchmark content", i * 3, now.minusSeconds(i),
+                    now, null, null));
+        }
+        json = objectMapper.writeValueAsString(posts);
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, PostDTO.class);
+    }
+
+    @Benchmark
+    public String serializePosts() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(posts);
+    }
+
+    @Benchmark
+    public List<PostDTO> deserializePosts() throws JsonProcessingException {
+        return objectMapper.readValue(json, listType);
+    }
+}
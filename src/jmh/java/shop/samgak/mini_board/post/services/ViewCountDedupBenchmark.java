@@ -0,0 +1,71 @@
+package shop.samgak.mini_board.post.services;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpSession;
+
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.post.cache.ViewerDedupCache;
+import shop.samgak.mini_board.post.repositories.PostRepository;
+
+/**
+ * PostServiceImpl 의 조회수 중복 확인 비용
+ * 이미 조회한 게시물을 다시 조회하는 경우(새로고침, 크롤러 재방문)를 측정하며 DB 는 호출되지 않습니다.
+ * 세션 방식은 세션에 쌓인 조회 게시물 목록을 순차 탐색하므로 목록 길이(viewedPosts)에 비례합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ViewCountDedup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewCountDedupBenchmark {
+    private static final String FINGERPRINT = "0123456789abcdef0123456789abcdef";
+
+    // 세션에 쌓인 조회한 게시물 수
+    @Param({ "10", "100", "1000" })
+    public int viewedPosts;
+
+    private PostServiceImpl postService;
+    private MockHttpSession session;
+    private Long lastViewedPostId;
+
+    @Setup
+    public void setUp() {
+        // 조회수 증가 UPDATE 만 성공으로 응답하는 저장소
+        PostRepository postRepository = (PostRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PostRepository.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("incrementViewCount")) {
+                        return 1;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        postService = new PostServiceImpl(null, postRepository, null, null,
+                new ViewerDedupCache(new CacheProperties()));
+
+        session = new MockHttpSession();
+        for (long postId = 1; postId <= viewedPosts; postId++) {
+            postService.increaseViewCount(postId, session);
+            postService.increaseViewCount(postId, FINGERPRINT);
+        }
+        lastViewedPostId = (long) viewedPosts;
+    }
+
+    @Benchmark
+    public boolean repeatViewWithSession() {
+        return postService.increaseViewCount(lastViewedPostId, session);
+    }
+
+    @Benchmark
+    public boolean repeatViewWithFingerprint() {
+        return postService.increaseViewCount(lastViewedPostId, FINGERPRINT);
+    }
+}
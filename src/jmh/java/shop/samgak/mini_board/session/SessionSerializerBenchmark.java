@@ -0,0 +1,100 @@
+package shop.samgak.mini_board.session;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import shop.samgak.mini_board.config.RedisConfig;
+import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * 로그인한 사용자 세션 하나를 Redis 해시에 저장/조회할 때의 직렬화 비용 비교
+ * 세션 해시의 값(생성 시간, 마지막 접근 시간, 만료 시간, SecurityContext, 조회한 게시물 목록)을 모두 직렬화/역직렬화합니다.
+ * 세션 하나의 직렬화 결과 크기는 Setup 에서 출력합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=SessionSerializer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionSerializerBenchmark {
+
+    @Param({ "json", "compact" })
+    public String format;
+
+    // 세션에 쌓인 조회한 게시물 수
+    @Param({ "10", "100" })
+    public int viewedPosts;
+
+    private RedisSerializer<Object> serializer;
+    private Map<String, Object> session;
+    private Map<String, byte[]> serialized;
+
+    @Setup
+    public void setUp() {
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(
+                RedisConfig.createObjectMapper(getClass().getClassLoader()));
+        serializer = format.equals("compact") ? new CompactSessionSerializer(json, true, true) : json;
+
+        MyUserDetails userDetails = new MyUserDetails(new UserDTO(12345L, "benchmark_user"), null);
+        SecurityContextImpl securityContext = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        List<Long> viewed = new ArrayList<>();
+        for (long i = 0; i < viewedPosts; i++) {
+            viewed.add(100_000L + i * 7);
+        }
+
+        session = new LinkedHashMap<>();
+        session.put("creationTime", System.currentTimeMillis());
+        session.put("lastAccessedTime", System.currentTimeMillis());
+        session.put("maxInactiveInterval", 1800);
+        session.put("sessionAttr:SPRING_SECURITY_CONTEXT", securityContext);
+        session.put("sessionAttr:viewedPosts", viewed);
+
+        serialized = new LinkedHashMap<>();
+        int totalBytes = 0;
+        for (Map.Entry<String, Object> entry : session.entrySet()) {
+            byte[] bytes = serializer.serialize(entry.getValue());
+            serialized.put(entry.getKey(), bytes);
+            totalBytes += bytes.length;
+        }
+        System.out.printf("%n[%s, viewedPosts=%d] bytes per session: %d (security context: %d)%n", format,
+                viewedPosts, totalBytes, serialized.get("sessionAttr:SPRING_SECURITY_CONTEXT").length);
+    }
+
+    @Benchmark
+    public void serializeSession(Blackhole blackhole) {
+        for (Object value : session.values()) {
+            blackhole.consume(serializer.serialize(value));
+        }
+    }
+
+    @Benchmark
+    public void deserializeSession(Blackhole blackhole) {
+        for (byte[] bytes : serialized.values()) {
+            blackhole.consume(serializer.deserialize(bytes));
+        }
+    }
+
+    @Benchmark
+    public Object deserializeSecurityContext() {
+        return serializer.deserialize(serialized.get("sessionAttr:SPRING_SECURITY_CONTEXT"));
+    }
+}
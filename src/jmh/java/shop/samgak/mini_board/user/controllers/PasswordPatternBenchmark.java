@@ -0,0 +1,40 @@
+package shop.samgak.mini_board.user.controllers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UserController 의 비밀번호 형식 확인 비용
+ * 요청마다 정규식을 컴파일하는 String.matches 와 미리 컴파일한 Pattern 을 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PasswordPattern
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PasswordPatternBenchmark {
+    // UserController.PASSWORD_PATTERN 과 같은 정규식
+    private static final String PASSWORD_PATTERN = "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[!@#$%^&*]).{8,}$";
+    private static final Pattern PASSWORD_REGEX = Pattern.compile(PASSWORD_PATTERN);
+
+    @Param({ "Valid#Passw0rd", "invalidpassword", "Aa1!" })
+    public String password;
+
+    @Benchmark
+    public boolean stringMatches() {
+        return password.matches(PASSWORD_PATTERN);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return PASSWORD_REGEX.matcher(password).matches();
+    }
+}
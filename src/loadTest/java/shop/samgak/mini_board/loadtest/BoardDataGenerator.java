@@ -0,0 +1,493 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 대용량 게시판 데이터를 만드는 생성기
+ * JPA 를 거치지 않고 JDBC 배치로 넣으며, ID 범위를 묶음(chunk)으로 나눠 여러 연결에서 동시에 씁니다.
+ * 묶음마다 (seed, 테이블, 묶음 번호)로 만든 난수를 사용하므로 쓰는 순서와 관계없이 같은 seed 면 같은 데이터가 만들어집니다.
+ * 작성 일시도 실행 시각이 아니라 고정 기준 시각(gen.epoch)과 seed 로 정한 오프셋에서 계산합니다.
+ *
+ * 테이블은 미리 만들어져 있어야 합니다. (Oracle 은 애플리케이션의 ddl-auto=update, 내장 DB 는 LoadTestRunner 가 생성)
+ * 기존 데이터가 있으면 각 테이블의 최대 ID 다음부터 이어서 넣고, 끝나면 시퀀스를 마지막 ID 다음으로 맞춥니다.
+ * 따라서 ID 는 실행 전 테이블 내용에 따라 달라지며, 같은 ID 까지 재현하려면 빈 테이블에서 실행해야 합니다.
+ *
+ * - 게시물/댓글 본문은 로그 정규 분포 길이의 CLOB
+ * - 댓글 수는 게시물 인기도(Zipf 분포)에 따라 나누고, 일부는 같은 게시물의 앞선 댓글에 대한 답글
+ * - 첨부 파일은 임의 게시물에 연결하며 uploadDir 를 주면 기록된 크기만큼 실제 파일도 만듦
+ *
+ * 실행: ./gradlew generateData --args="--gen.url=jdbc:oracle:thin:@localhost:1521/XEPDB1 --gen.username=samgak
+ * --gen.password=0000 --gen.users=1000000 --gen.posts=5000000 --gen.comments=20000000 --gen.files=500000"
+ */
+public class BoardDataGenerator {
+    public static final String PASSWORD = "Load#Passw0rd";
+    private static final String PREFIX = "--gen.";
+    private static final int CHUNK_SIZE = 10_000;
+    private static final double COMMENT_SKEW = 1.1;
+    private static final String[] WORDS = { "게시판", "질문", "답변", "감사합니다", "확인", "오류", "설정", "spring", "redis",
+            "oracle", "session", "cache", "query", "index", "lorem", "ipsum", "dolor", "sit", "amet", "performance",
+            "latency", "throughput", "좋아요", "공유", "업데이트" };
+    // 본문 조각을 잘라 쓰기 위한 고정 텍스트
+    private static final String CORPUS = buildCorpus();
+
+    private final DataSource dataSource;
+    private final Config config;
+    // 가장 최근 데이터의 작성 일시, 실행 시각과 관계없이 같은 설정이면 같은 값
+    private final Instant latest;
+
+    public BoardDataGenerator(DataSource dataSource, Config config) {
+        this.dataSource = dataSource;
+        this.config = config;
+        // 기준 시각에 seed 로 정한 하루 이내의 오프셋을 더해 seed 마다 다른 시각이 되도록 함
+        this.latest = config.epoch().plusSeconds(new SplittableRandom(config.seed()).nextLong(86_400L))
+                .truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.parse(args);
+        if (config.url() == null) {
+            System.err.println("--gen.url is required");
+            System.exit(2);
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(config.url(), config.username(),
+                config.password());
+        GeneratedData data = new BoardDataGenerator(dataSource, config).generate();
+        System.out.printf("Generated users %d.., posts %d.., comments %d.., files %d..%n", data.userIdBase(),
+                data.postIdBase(), data.commentIdBase(), data.fileIdBase());
+    }
+
+    /**
+     * 설정한 수만큼 데이터를 넣습니다.
+     *
+     * @return 넣은 데이터의 ID 범위
+     */
+    public GeneratedData generate() throws SQLException, IOException, InterruptedException {
+        if (config.uploadDir() != null) {
+            Files.createDirectories(config.uploadDir());
+        }
+        long userIdBase = nextId("users");
+        long postIdBase = nextId("posts");
+        long commentIdBase = nextId("comments");
+        long fileIdBase = nextId("post_files");
+        String passwordHash = passwordHash();
+        long[] filePostIds = new long[config.files()];
+
+        ExecutorService writers = Executors.newFixedThreadPool(config.writers());
+        try {
+            // 외래 키 순서대로 테이블마다 모든 묶음을 끝낸 뒤 다음 테이블로 진행
+            run(writers, "users", config.users(), config.users(), (connection, random, from, to) -> insertUsers(connection,
+                    userIdBase, from, to, passwordHash));
+            run(writers, "posts", config.posts(), config.posts(), (connection, random, from, to) -> insertPosts(connection, random,
+                    userIdBase, postIdBase, from, to));
+            long[] commentOffsets = commentOffsets();
+            // 댓글은 게시물 묶음 단위로 나눠 씀
+            run(writers, "comments", config.posts(), config.comments(), (connection, random, from, to) -> insertComments(connection,
+                    random, userIdBase, postIdBase, commentIdBase, commentOffsets, from, to));
+            run(writers, "post_files", config.files(), config.files(), (connection, random, from, to) -> insertPostFiles(connection,
+                    random, postIdBase, fileIdBase, filePostIds, from, to));
+        } finally {
+            writers.shutdown();
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            restartSequence(connection, "USERS_SEQ", userIdBase + config.users());
+            restartSequence(connection, "POSTS_SEQ", postIdBase + config.posts());
+            restartSequence(connection, "COMMENTS_SEQ", commentIdBase + config.comments());
+            restartSequence(connection, "POST_FILES_SEQ", fileIdBase + config.files());
+        }
+        return new GeneratedData(config.users(), config.posts(), config.comments(), userIdBase, postIdBase,
+                commentIdBase, fileIdBase, filePostIds);
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @return 사용자명
+     */
+    public static String username(long userId) {
+        return "loaduser" + userId;
+    }
+
+    /**
+     * 묶음 하나를 쓰는 작업
+     */
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(Connection connection, SplittableRandom random, int from, int to) throws SQLException, IOException;
+    }
+
+    /**
+     * @param count 묶음으로 나눌 개수
+     * @param rows  넣는 행 수 (진행 출력용)
+     */
+    private void run(ExecutorService writers, String table, int count, long rows, ChunkWriter writer)
+            throws InterruptedException, SQLException, IOException {
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(count, from + CHUNK_SIZE);
+            SplittableRandom random = new SplittableRandom(
+                    config.seed() * 31 + table.hashCode() * 1_000_003L + from / CHUNK_SIZE);
+            futures.add(writers.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    writer.write(connection, random, chunkFrom, chunkTo);
+                    connection.commit();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                futures.forEach(remaining -> remaining.cancel(true));
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        System.out.printf("%-10s %,12d rows in %6.1fs (%,.0f rows/s)%n", table, rows, elapsed.toMillis() / 1000.0,
+                rows / Math.max(0.001, elapsed.toMillis() / 1000.0));
+    }
+
+    private void insertUsers(Connection connection, long userIdBase, int from, int to, String passwordHash)
+            throws SQLException {
+        String sql = "INSERT INTO users (id, username, email, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                long id = userIdBase + i;
+                Timestamp createdAt = timestampAt(i, config.users());
+                statement.setLong(1, id);
+                statement.setString(2, username(id));
+                statement.setString(3, username(id) + "@loadtest.local");
+                statement.setString(4, passwordHash);
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+                addBatch(statement, i - from);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertPosts(Connection connection, SplittableRandom random, long userIdBase, long postIdBase,
+            int from, int to) throws SQLException {
+        String sql = "INSERT INTO posts (id, user_id, title, content, view_count, created_at, updated_at, deleted_at, version)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                Timestamp createdAt = timestampAt(i, config.posts());
+                String content = text(random, config.postMedianLength(), config.postMaxLength());
+                statement.setLong(1, postIdBase + i);
+                statement.setLong(2, ownerOf(userIdBase, i));
+                statement.setString(3, text(random, 30, 100));
+                statement.setCharacterStream(4, new StringReader(content), content.length());
+                statement.setLong(5, (long) Math.exp(random.nextDouble() * 10));
+                statement.setTimestamp(6, createdAt);
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, random.nextDouble() < config.deletedRatio() ? createdAt : null);
+                addBatch(statement, i - from);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 게시물 i 의 댓글은 commentOffsets[i] 부터 commentOffsets[i + 1] 전까지의 ID 를 사용
+     * 게시물마다 댓글 ID 범위가 정해져 있으므로 게시물 묶음 단위로 나눠 써도 답글이 같은 게시물의 앞선 댓글을 가리킬 수 있습니다.
+     */
+    private void insertComments(Connection connection, SplittableRandom random, long userIdBase, long postIdBase,
+            long commentIdBase, long[] commentOffsets, int from, int to) throws SQLException {
+        String sql = "INSERT INTO comments (id, user_id, post_id, parent_comment_id, content, created_at, updated_at, version)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int count = 0;
+            for (int post = from; post < to; post++) {
+                long first = commentOffsets[post];
+                long last = commentOffsets[post + 1];
+                Instant postCreatedAt = timestampAt(post, config.posts()).toInstant();
+                for (long offset = first; offset < last; offset++) {
+                    String content = text(random, config.commentMedianLength(), config.commentMaxLength());
+                    Timestamp createdAt = Timestamp.from(postCreatedAt.plusSeconds(offset - first + 1));
+                    statement.setLong(1, commentIdBase + offset);
+                    statement.setLong(2, userIdBase + random.nextInt(config.users()));
+                    statement.setLong(3, postIdBase + post);
+                    if (offset > first && random.nextDouble() < config.replyRatio()) {
+                        statement.setLong(4, commentIdBase + random.nextLong(first, offset));
+                    } else {
+                        statement.setNull(4, java.sql.Types.BIGINT);
+                    }
+                    statement.setCharacterStream(5, new StringReader(content), content.length());
+                    statement.setTimestamp(6, createdAt);
+                    statement.setTimestamp(7, createdAt);
+                    addBatch(statement, count++);
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertPostFiles(Connection connection, SplittableRandom random, long postIdBase, long fileIdBase,
+            long[] filePostIds, int from, int to) throws SQLException, IOException {
+        String sql = "INSERT INTO post_files (id, post_id, original_name, file_name, content_type, file_size, view_count, created_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = from; i < to; i++) {
+                long id = fileIdBase + i;
+                long postId = postIdBase + random.nextInt(config.posts());
+                int fileSize = logNormal(random, config.fileMedianBytes(), config.fileMaxBytes());
+                String fileName = "generated-" + id;
+                if (config.uploadDir() != null) {
+                    byte[] content = new byte[fileSize];
+                    random.nextBytes(content);
+                    Files.write(config.uploadDir().resolve(fileName), content);
+                }
+                statement.setLong(1, id);
+                statement.setLong(2, postId);
+                statement.setString(3, "image-" + id + ".png");
+                statement.setString(4, fileName);
+                statement.setString(5, "image/png");
+                statement.setLong(6, fileSize);
+                statement.setTimestamp(7, timestampAt(i, config.files()));
+                addBatch(statement, i - from);
+                filePostIds[i] = postId;
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 게시물 인기 순위를 seed 로 섞은 뒤 Zipf 가중치로 댓글 수를 나눠 게시물별 댓글 ID 시작 위치를 계산
+     */
+    private long[] commentOffsets() {
+        int posts = config.posts();
+        long[] offsets = new long[posts + 1];
+        if (posts == 0) {
+            return offsets;
+        }
+        int[] rankOf = new int[posts];
+        for (int i = 0; i < posts; i++) {
+            rankOf[i] = i + 1;
+        }
+        SplittableRandom random = new SplittableRandom(config.seed());
+        for (int i = posts - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = rankOf[i];
+            rankOf[i] = rankOf[j];
+            rankOf[j] = swap;
+        }
+        double total = 0;
+        for (int rank = 1; rank <= posts; rank++) {
+            total += 1 / Math.pow(rank, COMMENT_SKEW);
+        }
+        long assigned = 0;
+        long[] counts = new long[posts];
+        int mostPopular = 0;
+        for (int i = 0; i < posts; i++) {
+            counts[i] = (long) (config.comments() / Math.pow(rankOf[i], COMMENT_SKEW) / total);
+            assigned += counts[i];
+            if (rankOf[i] == 1) {
+                mostPopular = i;
+            }
+        }
+        // 버림으로 남은 댓글은 가장 인기 있는 게시물에 추가
+        counts[mostPopular] += config.comments() - assigned;
+        for (int i = 0; i < posts; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+        return offsets;
+    }
+
+    /**
+     * 게시물 i 의 작성자는 i % users 번째 사용자
+     */
+    private long ownerOf(long userIdBase, int post) {
+        return userIdBase + post % config.users();
+    }
+
+    /**
+     * @param userOffset 0부터 시작하는 사용자 순번
+     * @return 해당 사용자가 작성한 게시물 중 하나의 ID
+     */
+    public static long ownedPostId(GeneratedData data, int userOffset, java.util.Random random) {
+        int owned = Math.max(1, (data.posts() - 1 - userOffset) / data.users() + 1);
+        return data.postIdBase() + userOffset + (long) data.users() * random.nextInt(owned);
+    }
+
+    private Timestamp timestampAt(int index, int count) {
+        // 오래된 데이터부터 ID 순으로 기간 안에 고르게 배치
+        long seconds = config.days() * 86_400L;
+        long offset = count == 0 ? 0 : seconds * (count - index) / count;
+        return Timestamp.from(latest.minusSeconds(offset));
+    }
+
+    /**
+     * 테이블의 최대 ID 다음 값, 생성되는 ID 범위의 시작
+     * 테이블에 이미 있는 행에 따라 달라지므로 seed 만으로는 ID 가 재현되지 않습니다.
+     */
+    private long nextId(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT MAX(id) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1) + 1;
+        }
+    }
+
+    private void restartSequence(Connection connection, String sequence, long nextValue) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        // Oracle 은 18c 부터 RESTART START WITH 를 지원
+        String sql = product.toLowerCase().contains("oracle")
+                ? "ALTER SEQUENCE " + sequence + " RESTART START WITH " + nextValue
+                : "ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private String passwordHash() {
+        try {
+            // 해시 salt 도 seed 로 만들어 같은 seed 면 같은 값이 되도록 함
+            SecureRandom saltRandom = SecureRandom.getInstance("SHA1PRNG");
+            saltRandom.setSeed(config.seed());
+            return "{bcrypt}" + BCrypt.hashpw(PASSWORD, BCrypt.gensalt(10, saltRandom));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void addBatch(PreparedStatement statement, int count) throws SQLException {
+        statement.addBatch();
+        if ((count + 1) % config.batchSize() == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 중앙값이 median 이고 max 를 넘지 않는 로그 정규 분포 값
+     */
+    private static int logNormal(SplittableRandom random, int median, int max) {
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        return (int) Math.max(1, Math.min(max, median * Math.exp(gaussian)));
+    }
+
+    private static String text(SplittableRandom random, int median, int max) {
+        int length = logNormal(random, median, max);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int start = random.nextInt(CORPUS.length());
+            builder.append(CORPUS, start, Math.min(CORPUS.length(), start + length - builder.length()));
+        }
+        return builder.toString();
+    }
+
+    private static String buildCorpus() {
+        SplittableRandom random = new SplittableRandom(0);
+        StringBuilder builder = new StringBuilder(1 << 16);
+        while (builder.length() < 1 << 16) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 생성 설정
+     *
+     * @param url                 대상 DB JDBC URL, 단독 실행할 때만 사용
+     * @param seed                난수 seed
+     * @param epoch               작성 일시의 기준 시각 (ISO-8601), 가장 최근 데이터가 이 시각부터 하루 안에 놓임
+     * @param writers             동시에 쓰는 연결 수
+     * @param batchSize           JDBC 배치 크기
+     * @param days                데이터를 배치할 기간(일)
+     * @param deletedRatio        삭제 상태로 만들 게시물 비율
+     * @param replyRatio          답글 비율
+     * @param postMedianLength    게시물 본문 길이 중앙값
+     * @param commentMedianLength 댓글 길이 중앙값
+     * @param fileMedianBytes     첨부 파일 크기 중앙값
+     * @param uploadDir           실제 파일을 쓸 디렉터리, 없으면 DB 정보만 넣음
+     */
+    public record Config(String url, String username, String password, int users, int posts, int comments,
+            int files, long seed, Instant epoch, int writers, int batchSize, int days, double deletedRatio, double replyRatio,
+            int postMedianLength, int postMaxLength, int commentMedianLength, int commentMaxLength,
+            int fileMedianBytes, int fileMaxBytes, Path uploadDir) {
+
+        public static Config parse(String[] args) {
+            return parse(args, Map.of());
+        }
+
+        /**
+         * @param defaults 인자로 주지 않은 설정에 사용할 값
+         */
+        public static Config parse(String[] args, Map<String, String> defaults) {
+            Map<String, String> options = new HashMap<>(defaults);
+            Arrays.stream(args)
+                    .filter(arg -> arg.startsWith(PREFIX) && arg.contains("="))
+                    .forEach(arg -> options.put(arg.substring(PREFIX.length(), arg.indexOf('=')),
+                            arg.substring(arg.indexOf('=') + 1)));
+            return new Config(
+                    options.get("url"),
+                    options.get("username"),
+                    options.get("password"),
+                    Integer.parseInt(options.getOrDefault("users", "10000")),
+                    Integer.parseInt(options.getOrDefault("posts", "100000")),
+                    Integer.parseInt(options.getOrDefault("comments", "1000000")),
+                    Integer.parseInt(options.getOrDefault("files", "10000")),
+                    Long.parseLong(options.getOrDefault("seed", "42")),
+                    Instant.parse(options.getOrDefault("epoch", "2025-01-01T00:00:00Z")),
+                    Integer.parseInt(options.getOrDefault("writers", "4")),
+                    Integer.parseInt(options.getOrDefault("batchSize", "1000")),
+                    Integer.parseInt(options.getOrDefault("days", "365")),
+                    Double.parseDouble(options.getOrDefault("deletedRatio", "0.01")),
+                    Double.parseDouble(options.getOrDefault("replyRatio", "0.3")),
+                    Integer.parseInt(options.getOrDefault("postMedianLength", "600")),
+                    Integer.parseInt(options.getOrDefault("postMaxLength", "20000")),
+                    Integer.parseInt(options.getOrDefault("commentMedianLength", "60")),
+                    Integer.parseInt(options.getOrDefault("commentMaxLength", "2000")),
+                    Integer.parseInt(options.getOrDefault("fileMedianBytes", "65536")),
+                    Integer.parseInt(options.getOrDefault("fileMaxBytes", "1048576")),
+                    options.containsKey("uploadDir") ? Path.of(options.get("uploadDir")) : null);
+        }
+    }
+
+    /**
+     * 넣은 데이터의 ID 범위
+     * 각 테이블의 ID 는 base 부터 개수만큼 이어지며, filePostIds[i] 는 fileIdBase + i 번 파일의 게시물 ID
+     */
+    public record GeneratedData(int users, int posts, int comments, long userIdBase, long postIdBase,
+            long commentIdBase, long fileIdBase, long[] filePostIds) {
+    }
+}
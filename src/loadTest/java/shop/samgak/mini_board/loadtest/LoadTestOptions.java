@@ -0,0 +1,51 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ * --load.users=50 처럼 --load. 으로 시작하는 인자를 읽고, 나머지 인자는 애플리케이션에 그대로 전달합니다.
+ * 데이터 양은 --gen.users=1000 처럼 BoardDataGenerator 설정으로 정합니다.
+ *
+ * @param users           동시에 요청하는 가상 사용자 수
+ * @param warmup          결과에서 제외하는 워밍업 시간
+ * @param duration        측정 시간
+ * @param fileBytes       업로드할 첨부 파일 크기
+ * @param thinkTime       가상 사용자가 요청 사이에 쉬는 시간
+ * @param report          결과 JSON 파일 경로
+ * @param baseline        비교할 기준 결과 JSON 파일 경로, 없으면 비교하지 않음
+ * @param threshold       기준 대비 허용하는 p99 증가/처리량 감소 비율(%)
+ * @param applicationArgs 애플리케이션에 전달할 인자
+ */
+public record LoadTestOptions(int users, Duration warmup, Duration duration, int fileBytes, Duration thinkTime,
+        String report, String baseline, double threshold, String[] applicationArgs) {
+    private static final String PREFIX = "--load.";
+    private static final String GENERATOR_PREFIX = "--gen.";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIX) && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+            } else if (!arg.startsWith(GENERATOR_PREFIX)) {
+                applicationArgs.add(arg);
+            }
+        }
+        return new LoadTestOptions(
+                Integer.parseInt(options.getOrDefault("users", "50")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Integer.parseInt(options.getOrDefault("fileBytes", "65536")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("thinkTimeMillis", "0"))),
+                options.getOrDefault("report", "build/reports/load-test/results.json"),
+                options.get("baseline"),
+                Double.parseDouble(options.getOrDefault("threshold", "10")),
+                applicationArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,148 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 엔드포인트별 응답 시간을 모아 백분위와 처리량을 계산하고 기준 결과와 비교하는 클래스
+ */
+public class LoadTestReport {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 하나의 결과를 기록합니다.
+     *
+     * @param endpoint      "GET /api/posts/{id}" 처럼 경로 변수를 묶은 엔드포인트 이름
+     * @param latencyMicros 응답 시간
+     * @param success       성공 여부
+     */
+    public void record(String endpoint, long latencyMicros, boolean success) {
+        recorders.computeIfAbsent(endpoint, key -> new Recorder()).add(latencyMicros, success);
+    }
+
+    /**
+     * @param elapsed 측정 시간
+     * @return 엔드포인트 이름 순으로 정렬한 결과
+     */
+    public Result summarize(Duration elapsed) {
+        Map<String, EndpointStats> endpoints = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> endpoints.put(endpoint, recorder.summarize(elapsed)));
+        long count = endpoints.values().stream().mapToLong(EndpointStats::count).sum();
+        return new Result(Instant.now().toString(), elapsed.toSeconds(), count / secondsOf(elapsed), endpoints);
+    }
+
+    public static void print(Result result) {
+        System.out.printf("%n%-40s %8s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s",
+                "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        result.endpoints().forEach((endpoint, stats) -> System.out.printf(
+                "%-40s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint, stats.count(), stats.errors(),
+                stats.throughput(), stats.p50(), stats.p90(), stats.p95(), stats.p99(), stats.max()));
+        System.out.printf("total throughput: %.1f req/s over %d s%n", result.throughput(), result.durationSeconds());
+    }
+
+    public static void write(Result result, Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), result);
+    }
+
+    public static Result read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), Result.class);
+    }
+
+    /**
+     * 기준 결과와 비교하여 엔드포인트별 변화를 출력합니다.
+     * p99 가 threshold(%) 넘게 늘었거나 처리량이 threshold(%) 넘게 줄어든 엔드포인트를 성능 저하로 봅니다.
+     *
+     * @return 성능이 나빠진 엔드포인트 목록
+     */
+    public static List<String> compare(Result baseline, Result current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%n%-40s %21s %9s %21s %9s%n", "endpoint", "p99(ms) base -> now", "change",
+                "req/s base -> now", "change");
+        current.endpoints().forEach((endpoint, now) -> {
+            EndpointStats base = baseline.endpoints().get(endpoint);
+            if (base == null) {
+                return;
+            }
+            double p99Change = percentChange(base.p99(), now.p99());
+            double throughputChange = percentChange(base.throughput(), now.throughput());
+            System.out.printf("%-40s %9.2f -> %9.2f %+8.1f%% %9.1f -> %9.1f %+8.1f%%%n", endpoint, base.p99(),
+                    now.p99(), p99Change, base.throughput(), now.throughput(), throughputChange);
+            if (p99Change > threshold || throughputChange < -threshold) {
+                regressions.add(endpoint);
+            }
+        });
+        return regressions;
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double secondsOf(Duration duration) {
+        return Math.max(1, duration.toMillis()) / 1000.0;
+    }
+
+    /**
+     * 엔드포인트 하나의 응답 시간 목록, 측정 시간 동안의 요청 수만큼만 커지므로 모두 보관
+     */
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void add(long latencyMicros, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyMicros;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats summarize(Duration elapsed) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(size, errors, size / secondsOf(elapsed), percentile(sorted, 50),
+                    percentile(sorted, 90), percentile(sorted, 95), percentile(sorted, 99),
+                    percentile(sorted, 100));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / (double) TimeUnit.MILLISECONDS.toMicros(1);
+        }
+    }
+
+    /**
+     * 응답 시간은 밀리초 단위
+     */
+    public record EndpointStats(long count, long errors, double throughput, double p50, double p90, double p95,
+            double p99, double max) {
+    }
+
+    public record Result(String finishedAt, long durationSeconds, double throughput,
+            Map<String, EndpointStats> endpoints) {
+    }
+}
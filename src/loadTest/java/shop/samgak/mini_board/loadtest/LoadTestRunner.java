@@ -0,0 +1,156 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.context.support.StandardServletEnvironment;
+
+import shop.samgak.mini_board.MiniBoardApplication;
+import shop.samgak.mini_board.loadtest.BoardDataGenerator.Config;
+import shop.samgak.mini_board.loadtest.BoardDataGenerator.GeneratedData;
+import shop.samgak.mini_board.loadtest.LoadTestReport.Result;
+
+/**
+ * 외부 Oracle/Redis 없이 한 대의 머신에서 실행하는 종단 간 부하 테스트
+ * 메모리 H2(Oracle 호환 모드)와 프로세스 내 RESP 서버로 애플리케이션을 띄우고, 데이터를 넣은 뒤
+ * 가상 스레드 위의 가상 사용자들이 실제 HTTP 요청을 보내 엔드포인트별 응답 시간 백분위와 처리량을 측정합니다.
+ *
+ * 실행: ./gradlew loadTest --args="--load.users=50 --load.duration=60 --gen.posts=100000"
+ * 기준 비교: ./gradlew loadTest --args="--load.baseline=bench/load-test/baseline.json --load.threshold=10"
+ * 기준보다 나빠진 엔드포인트가 있으면 종료 코드 1 로 끝납니다.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path uploadDir = Files.createTempDirectory("mini-board-load-test");
+        int exitCode;
+        try (RespServer redis = new RespServer()) {
+            int redisPort = redis.start();
+            SpringApplication application = new SpringApplication(MiniBoardApplication.class);
+            // application.properties 보다 우선하도록 맨 앞에 추가, 명령행 인자는 이보다 앞에 놓임
+            StandardServletEnvironment environment = new StandardServletEnvironment();
+            environment.getPropertySources()
+                    .addFirst(new MapPropertySource("loadTest", applicationProperties(redisPort, uploadDir)));
+            application.setEnvironment(environment);
+            try (ConfigurableApplicationContext context = application.run(options.applicationArgs())) {
+                exitCode = run(options, generatorConfig(args, uploadDir), context);
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * application.properties 의 Oracle/Redis/로그 설정을 덮어쓰는 부하 테스트용 설정
+     * 명령행 인자로 준 설정이 이 값보다 우선합니다.
+     */
+    private static Map<String, Object> applicationProperties(int redisPort, Path uploadDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("server.port", 0);
+        properties.put("shop.samgak.mini-board.upload.uploadDir", uploadDir.toString());
+        properties.put("shop.samgak.mini-board.debug", "false");
+        properties.put("logging.level.root", "WARN");
+        // 접근 로그는 별도 로거라 root 설정을 따르지 않으므로 보고서 출력이 섞이지 않도록 함께 낮춤
+        properties.put("logging.level.shop.samgak.mini_board.access", "WARN");
+        return properties;
+    }
+
+    /**
+     * 부하 테스트용 데이터 생성 설정, --gen.* 인자로 바꿀 수 있음
+     * 측정 중 조회하는 게시물이 삭제 상태이면 오류로 기록되므로 삭제 비율은 0 으로 둡니다.
+     */
+    private static Config generatorConfig(String[] args, Path uploadDir) {
+        return Config.parse(args, Map.of(
+                "users", "1000",
+                "posts", "20000",
+                "comments", "200000",
+                "files", "2000",
+                "deletedRatio", "0",
+                "uploadDir", uploadDir.toString()));
+    }
+
+    private static int run(LoadTestOptions options, Config generatorConfig, ConfigurableApplicationContext context)
+            throws Exception {
+        // 명령행 인자로 외부 DB 를 지정한 경우 데이터를 넣지 않음
+        String url = context.getEnvironment().getProperty("spring.datasource.url", "");
+        if (!url.startsWith("jdbc:h2:")) {
+            System.err.println("Refusing to seed non-embedded database: " + url);
+            return 2;
+        }
+        if (options.users() > generatorConfig.users()) {
+            // 동시 세션 제한이 1이므로 가상 사용자마다 다른 계정을 사용해야 함
+            System.err.println("load.users must not exceed gen.users");
+            return 2;
+        }
+        GeneratedData data = new BoardDataGenerator(context.getBean(DataSource.class), generatorConfig).generate();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        byte[] uploadContent = new byte[options.fileBytes()];
+        new Random(7).nextBytes(uploadContent);
+
+        LoadTestReport report = new LoadTestReport();
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+        System.out.printf("Running %d virtual users against %s (warmup %ds, measure %ds)%n", options.users(), baseUrl,
+                options.warmup().toSeconds(), options.duration().toSeconds());
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+                ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                users.execute(new VirtualUser(client, baseUrl, i, data, report, measureFrom, stopAt,
+                        options.thinkTime(), uploadContent));
+            }
+            users.shutdown();
+            if (!users.awaitTermination(options.warmup().plus(options.duration()).toSeconds() + 60,
+                    TimeUnit.SECONDS)) {
+                users.shutdownNow();
+            }
+        }
+
+        Result result = report.summarize(options.duration());
+        LoadTestReport.print(result);
+        Path reportPath = Path.of(options.report());
+        LoadTestReport.write(result, reportPath);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+
+        if (options.baseline() == null) {
+            return 0;
+        }
+        List<String> regressions = LoadTestReport.compare(LoadTestReport.read(Path.of(options.baseline())), result,
+                options.threshold());
+        if (!regressions.isEmpty()) {
+            System.err.printf("Regressions over %.1f%%: %s%n", options.threshold(), regressions);
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,711 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트에서 Redis 대신 사용하는 프로세스 내 RESP2 서버
+ * 애플리케이션이 사용하는 명령(세션 해시, 사용자명 인덱스 집합, 만료, pub/sub, SCAN 등)만 구현합니다.
+ * 키 만료는 접근 시점에 확인하며 keyspace 알림은 보내지 않습니다.
+ *
+ * 키와 값은 바이트 그대로 보관하기 위해 ISO-8859-1 문자열로 다룹니다.
+ */
+public class RespServer implements AutoCloseable {
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    // 모든 데이터 변경과 조회는 이 잠금 안에서 수행
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Object> data = new HashMap<>();
+    private final Map<String, Long> expiresAt = new HashMap<>();
+    private final Map<String, Set<Client>> channelSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<Client>> patternSubscribers = new ConcurrentHashMap<>();
+
+    public RespServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * 연결 수락을 시작합니다.
+     *
+     * @return 서버 포트
+     */
+    public int start() {
+        Thread.ofVirtual().name("resp-accept").start(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    socket.setTcpNoDelay(true);
+                    connections.execute(() -> new Client(socket).serve());
+                } catch (IOException e) {
+                    if (!serverSocket.isClosed()) {
+                        System.err.println("RESP accept failed: " + e.getMessage());
+                    }
+                }
+            }
+        });
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    /**
+     * 연결 하나의 명령을 순서대로 처리
+     */
+    private class Client {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final Set<String> channels = new LinkedHashSet<>();
+        private final Set<String> patterns = new LinkedHashSet<>();
+
+        Client(Socket socket) {
+            this.socket = socket;
+            try {
+                this.in = new BufferedInputStream(socket.getInputStream());
+                this.out = new BufferedOutputStream(socket.getOutputStream());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void serve() {
+            try (socket) {
+                while (true) {
+                    List<String> command = readCommand();
+                    Reply reply = new Reply();
+                    try {
+                        execute(command, reply);
+                    } catch (RespError e) {
+                        reply.error(e.getMessage());
+                    }
+                    // 파이프라인으로 이어서 들어온 명령이 있으면 모아서 기록
+                    write(reply.bytes(), in.available() == 0);
+                }
+            } catch (EOFException | SocketException e) {
+                // 연결 종료
+            } catch (IOException e) {
+                System.err.println("RESP connection failed: " + e.getMessage());
+            } finally {
+                unsubscribeAll();
+            }
+        }
+
+        private List<String> readCommand() throws IOException {
+            int type = in.read();
+            if (type == -1) {
+                throw new EOFException();
+            }
+            if (type != '*') {
+                throw new IOException("Only RESP arrays are supported");
+            }
+            int count = Integer.parseInt(readLine());
+            List<String> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("Expected bulk string");
+                }
+                int length = Integer.parseInt(readLine());
+                byte[] bytes = in.readNBytes(length);
+                in.readNBytes(2);
+                args.add(new String(bytes, StandardCharsets.ISO_8859_1));
+            }
+            return args;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != '\r') {
+                if (b == -1) {
+                    throw new EOFException();
+                }
+                line.append((char) b);
+            }
+            in.read();
+            return line.toString();
+        }
+
+        void write(byte[] bytes, boolean flush) throws IOException {
+            writeLock.lock();
+            try {
+                out.write(bytes);
+                if (flush) {
+                    out.flush();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void execute(List<String> args, Reply reply) {
+            String name = args.get(0).toUpperCase();
+            switch (name) {
+                case "SUBSCRIBE" -> subscribe(args, reply, channels, channelSubscribers, "subscribe");
+                case "PSUBSCRIBE" -> subscribe(args, reply, patterns, patternSubscribers, "psubscribe");
+                case "UNSUBSCRIBE" -> unsubscribe(args, reply, channels, channelSubscribers, "unsubscribe");
+                case "PUNSUBSCRIBE" -> unsubscribe(args, reply, patterns, patternSubscribers, "punsubscribe");
+                case "PUBLISH" -> reply.integer(publish(args.get(1), args.get(2)));
+                default -> {
+                    lock.lock();
+                    try {
+                        RespServer.this.execute(name, args, reply);
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        private void subscribe(List<String> args, Reply reply, Set<String> own, Map<String, Set<Client>> registry,
+                String kind) {
+            for (String name : args.subList(1, args.size())) {
+                own.add(name);
+                registry.computeIfAbsent(name, key -> new CopyOnWriteArraySet<>()).add(this);
+                reply.array(3).bulk(kind).bulk(name).integer(channels.size() + patterns.size());
+            }
+        }
+
+        private void unsubscribe(List<String> args, Reply reply, Set<String> own, Map<String, Set<Client>> registry,
+                String kind) {
+            List<String> names = args.size() > 1 ? args.subList(1, args.size()) : new ArrayList<>(own);
+            for (String name : names) {
+                own.remove(name);
+                Set<Client> clients = registry.get(name);
+                if (clients != null) {
+                    clients.remove(this);
+                }
+                reply.array(3).bulk(kind).bulk(name).integer(channels.size() + patterns.size());
+            }
+            if (names.isEmpty()) {
+                reply.array(3).bulk(kind).nil().integer(0);
+            }
+        }
+
+        private void unsubscribeAll() {
+            channels.forEach(name -> channelSubscribers.getOrDefault(name, Set.of()).remove(this));
+            patterns.forEach(name -> patternSubscribers.getOrDefault(name, Set.of()).remove(this));
+        }
+    }
+
+    private int publish(String channel, String message) {
+        int delivered = 0;
+        for (Client client : channelSubscribers.getOrDefault(channel, Set.of())) {
+            delivered += deliver(client, new Reply().array(3).bulk("message").bulk(channel).bulk(message));
+        }
+        for (Map.Entry<String, Set<Client>> entry : patternSubscribers.entrySet()) {
+            if (glob(entry.getKey()).matcher(channel).matches()) {
+                for (Client client : entry.getValue()) {
+                    delivered += deliver(client,
+                            new Reply().array(4).bulk("pmessage").bulk(entry.getKey()).bulk(channel).bulk(message));
+                }
+            }
+        }
+        return delivered;
+    }
+
+    private static int deliver(Client client, Reply message) {
+        try {
+            client.write(message.bytes(), true);
+            return 1;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 데이터 명령 처리, 호출하는 쪽에서 잠금을 잡음
+     */
+    private void execute(String name, List<String> args, Reply reply) {
+        switch (name) {
+            case "PING" -> {
+                if (args.size() > 1) {
+                    reply.bulk(args.get(1));
+                } else {
+                    reply.simple("PONG");
+                }
+            }
+            case "HELLO" -> throw new RespError("ERR unknown command 'HELLO'");
+            case "CLIENT", "SELECT", "QUIT", "FLUSHALL", "FLUSHDB" -> {
+                if (name.startsWith("FLUSH")) {
+                    data.clear();
+                    expiresAt.clear();
+                }
+                reply.simple("OK");
+            }
+            case "CONFIG" -> {
+                if (args.get(1).equalsIgnoreCase("GET")) {
+                    reply.array(2).bulk(args.get(2)).bulk("");
+                } else {
+                    reply.simple("OK");
+                }
+            }
+            case "INFO" -> reply.bulk("# Server\r\nredis_version:7.0.0\r\nredis_mode:standalone\r\n");
+            case "DBSIZE" -> reply.integer(data.size());
+            case "GET" -> reply.bulk(get(args.get(1), String.class));
+            case "SET" -> {
+                String key = args.get(1);
+                boolean onlyIfAbsent = false;
+                boolean onlyIfPresent = false;
+                boolean keepTtl = false;
+                Long expiry = null;
+                // 옵션은 값이 없는 플래그(NX, XX, KEEPTTL)와 값이 있는 옵션(EX, PX)이 섞여 있으므로 한 토큰씩 읽음
+                for (int i = 3; i < args.size(); i++) {
+                    switch (args.get(i).toUpperCase()) {
+                        case "NX" -> onlyIfAbsent = true;
+                        case "XX" -> onlyIfPresent = true;
+                        case "KEEPTTL" -> keepTtl = true;
+                        case "EX", "PX" -> {
+                            if (i + 1 >= args.size()) {
+                                throw new RespError("ERR syntax error");
+                            }
+                            long amount = Long.parseLong(args.get(i + 1));
+                            expiry = System.currentTimeMillis()
+                                    + (args.get(i).equalsIgnoreCase("EX") ? amount * 1000 : amount);
+                            i++;
+                        }
+                        default -> throw new RespError("ERR syntax error");
+                    }
+                }
+                if ((onlyIfAbsent && onlyIfPresent) || (keepTtl && expiry != null)) {
+                    throw new RespError("ERR syntax error");
+                }
+                boolean present = exists(key);
+                if ((onlyIfAbsent && present) || (onlyIfPresent && !present)) {
+                    reply.nil();
+                    return;
+                }
+                data.put(key, args.get(2));
+                if (expiry != null) {
+                    expiresAt.put(key, expiry);
+                } else if (!keepTtl) {
+                    expiresAt.remove(key);
+                }
+                reply.simple("OK");
+            }
+            case "SETNX" -> {
+                String key = args.get(1);
+                if (exists(key)) {
+                    reply.integer(0);
+                    return;
+                }
+                data.put(key, args.get(2));
+                expiresAt.remove(key);
+                reply.integer(1);
+            }
+            case "APPEND" -> {
+                String value = get(args.get(1), String.class);
+                String appended = (value == null ? "" : value) + args.get(2);
+                data.put(args.get(1), appended);
+                reply.integer(appended.length());
+            }
+            case "DEL", "UNLINK" -> {
+                int removed = 0;
+                for (String key : args.subList(1, args.size())) {
+                    if (exists(key)) {
+                        remove(key);
+                        removed++;
+                    }
+                }
+                reply.integer(removed);
+            }
+            case "EXISTS" -> {
+                int count = 0;
+                for (String key : args.subList(1, args.size())) {
+                    count += exists(key) ? 1 : 0;
+                }
+                reply.integer(count);
+            }
+            case "TYPE" -> reply.simple(type(args.get(1)));
+            case "EXPIRE", "PEXPIRE" -> {
+                String key = args.get(1);
+                long amount = Long.parseLong(args.get(2));
+                if (!exists(key)) {
+                    reply.integer(0);
+                    return;
+                }
+                expiresAt.put(key, System.currentTimeMillis() + (name.equals("EXPIRE") ? amount * 1000 : amount));
+                reply.integer(1);
+            }
+            case "PERSIST" -> reply.integer(expiresAt.remove(args.get(1)) != null ? 1 : 0);
+            case "TTL", "PTTL" -> {
+                String key = args.get(1);
+                if (!exists(key)) {
+                    reply.integer(-2);
+                    return;
+                }
+                Long expiry = expiresAt.get(key);
+                if (expiry == null) {
+                    reply.integer(-1);
+                    return;
+                }
+                long remaining = expiry - System.currentTimeMillis();
+                reply.integer(name.equals("TTL") ? remaining / 1000 : remaining);
+            }
+            case "RENAME", "RENAMENX" -> {
+                String source = args.get(1);
+                String target = args.get(2);
+                if (!exists(source)) {
+                    throw new RespError("ERR no such key");
+                }
+                if (name.equals("RENAMENX") && exists(target)) {
+                    reply.integer(0);
+                    return;
+                }
+                data.put(target, data.remove(source));
+                Long expiry = expiresAt.remove(source);
+                if (expiry != null) {
+                    expiresAt.put(target, expiry);
+                } else {
+                    expiresAt.remove(target);
+                }
+                if (name.equals("RENAMENX")) {
+                    reply.integer(1);
+                } else {
+                    reply.simple("OK");
+                }
+            }
+            case "KEYS" -> {
+                Pattern pattern = glob(args.get(1));
+                List<String> keys = liveKeys().stream().filter(key -> pattern.matcher(key).matches()).toList();
+                reply.array(keys.size());
+                keys.forEach(reply::bulk);
+            }
+            case "SCAN" -> scan(args, reply);
+            case "HSET", "HMSET" -> {
+                Map<String, String> hash = getOrCreate(args.get(1), HashMap::new);
+                int added = 0;
+                for (int i = 2; i + 1 < args.size(); i += 2) {
+                    if (hash.put(args.get(i), args.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                if (name.equals("HSET")) {
+                    reply.integer(added);
+                } else {
+                    reply.simple("OK");
+                }
+            }
+            case "HGET" -> {
+                Map<String, String> hash = getHash(args.get(1));
+                reply.bulk(hash == null ? null : hash.get(args.get(2)));
+            }
+            case "HMGET" -> {
+                Map<String, String> hash = getHash(args.get(1));
+                reply.array(args.size() - 2);
+                for (String field : args.subList(2, args.size())) {
+                    reply.bulk(hash == null ? null : hash.get(field));
+                }
+            }
+            case "HGETALL" -> {
+                Map<String, String> hash = getHash(args.get(1));
+                if (hash == null) {
+                    reply.array(0);
+                    return;
+                }
+                reply.array(hash.size() * 2);
+                hash.forEach((field, value) -> reply.bulk(field).bulk(value));
+            }
+            case "HDEL" -> {
+                Map<String, String> hash = getHash(args.get(1));
+                int removed = 0;
+                if (hash != null) {
+                    for (String field : args.subList(2, args.size())) {
+                        removed += hash.remove(field) != null ? 1 : 0;
+                    }
+                    if (hash.isEmpty()) {
+                        remove(args.get(1));
+                    }
+                }
+                reply.integer(removed);
+            }
+            case "SADD" -> {
+                Set<String> set = getOrCreate(args.get(1), LinkedHashSet::new);
+                int added = 0;
+                for (String member : args.subList(2, args.size())) {
+                    added += set.add(member) ? 1 : 0;
+                }
+                reply.integer(added);
+            }
+            case "SREM" -> {
+                Set<String> set = get(args.get(1), Set.class);
+                int removed = 0;
+                if (set != null) {
+                    for (String member : args.subList(2, args.size())) {
+                        removed += set.remove(member) ? 1 : 0;
+                    }
+                    if (set.isEmpty()) {
+                        remove(args.get(1));
+                    }
+                }
+                reply.integer(removed);
+            }
+            case "SMEMBERS" -> {
+                Set<String> set = get(args.get(1), Set.class);
+                Set<String> members = set == null ? Set.of() : set;
+                reply.array(members.size());
+                members.forEach(reply::bulk);
+            }
+            case "SISMEMBER" -> {
+                Set<String> set = get(args.get(1), Set.class);
+                reply.integer(set != null && set.contains(args.get(2)) ? 1 : 0);
+            }
+            case "SCARD" -> {
+                Set<String> set = get(args.get(1), Set.class);
+                reply.integer(set == null ? 0 : set.size());
+            }
+            case "LRANGE" -> {
+                List<String> list = get(args.get(1), List.class);
+                if (list == null) {
+                    reply.array(0);
+                    return;
+                }
+                int size = list.size();
+                int start = normalizeIndex(Integer.parseInt(args.get(2)), size);
+                int stop = Math.min(normalizeIndex(Integer.parseInt(args.get(3)), size), size - 1);
+                List<String> range = start > stop ? List.of() : list.subList(start, stop + 1);
+                reply.array(range.size());
+                range.forEach(reply::bulk);
+            }
+            case "RPUSH" -> {
+                List<String> list = getOrCreate(args.get(1), ArrayList::new);
+                list.addAll(args.subList(2, args.size()));
+                reply.integer(list.size());
+            }
+            case "ZADD" -> {
+                TreeMap<String, Double> zset = getOrCreate(args.get(1), TreeMap::new);
+                int added = 0;
+                for (int i = 2; i + 1 < args.size(); i += 2) {
+                    added += zset.put(args.get(i + 1), Double.parseDouble(args.get(i))) == null ? 1 : 0;
+                }
+                reply.integer(added);
+            }
+            case "ZREM" -> {
+                TreeMap<String, Double> zset = get(args.get(1), TreeMap.class);
+                int removed = 0;
+                if (zset != null) {
+                    for (String member : args.subList(2, args.size())) {
+                        removed += zset.remove(member) != null ? 1 : 0;
+                    }
+                }
+                reply.integer(removed);
+            }
+            case "ZRANGEBYSCORE" -> {
+                TreeMap<String, Double> zset = get(args.get(1), TreeMap.class);
+                double min = parseScore(args.get(2));
+                double max = parseScore(args.get(3));
+                List<String> members = zset == null ? List.of()
+                        : zset.entrySet().stream()
+                                .filter(entry -> entry.getValue() >= min && entry.getValue() <= max)
+                                .sorted(Map.Entry.comparingByValue())
+                                .map(Map.Entry::getKey)
+                                .toList();
+                reply.array(members.size());
+                members.forEach(reply::bulk);
+            }
+            default -> throw new RespError("ERR unknown command '" + name + "'");
+        }
+    }
+
+    private void scan(List<String> args, Reply reply) {
+        int cursor = Integer.parseInt(args.get(1));
+        Pattern pattern = null;
+        int count = 10;
+        for (int i = 2; i + 1 < args.size(); i += 2) {
+            switch (args.get(i).toUpperCase()) {
+                case "MATCH" -> pattern = glob(args.get(i + 1));
+                case "COUNT" -> count = Integer.parseInt(args.get(i + 1));
+                default -> throw new RespError("ERR syntax error");
+            }
+        }
+        // 커서는 정렬된 키 목록의 위치
+        List<String> keys = liveKeys().stream().sorted().toList();
+        int end = Math.min(keys.size(), cursor + count);
+        List<String> page = new ArrayList<>();
+        for (String key : keys.subList(Math.min(cursor, keys.size()), end)) {
+            if (pattern == null || pattern.matcher(key).matches()) {
+                page.add(key);
+            }
+        }
+        reply.array(2).bulk(end >= keys.size() ? "0" : String.valueOf(end)).array(page.size());
+        page.forEach(reply::bulk);
+    }
+
+    private List<String> liveKeys() {
+        return new ArrayList<>(data.keySet()).stream().filter(this::exists).toList();
+    }
+
+    private boolean exists(String key) {
+        Long expiry = expiresAt.get(key);
+        if (expiry != null && expiry <= System.currentTimeMillis()) {
+            remove(key);
+            return false;
+        }
+        return data.containsKey(key);
+    }
+
+    private void remove(String key) {
+        data.remove(key);
+        expiresAt.remove(key);
+    }
+
+    private String type(String key) {
+        if (!exists(key)) {
+            return "none";
+        }
+        Object value = data.get(key);
+        if (value instanceof String) {
+            return "string";
+        }
+        if (value instanceof Map) {
+            return value instanceof TreeMap ? "zset" : "hash";
+        }
+        if (value instanceof Set) {
+            return "set";
+        }
+        return "list";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Class<?> type) {
+        if (!exists(key)) {
+            return null;
+        }
+        Object value = data.get(key);
+        if (!type.isInstance(value)) {
+            throw new RespError("WRONGTYPE Operation against a key holding the wrong kind of value");
+        }
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getHash(String key) {
+        Map<String, ?> value = get(key, Map.class);
+        if (value instanceof TreeMap) {
+            throw new RespError("WRONGTYPE Operation against a key holding the wrong kind of value");
+        }
+        return (Map<String, String>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrCreate(String key, java.util.function.Supplier<T> factory) {
+        if (!exists(key)) {
+            data.put(key, factory.get());
+        }
+        return (T) data.get(key);
+    }
+
+    private static int normalizeIndex(int index, int size) {
+        return index < 0 ? Math.max(0, size + index) : index;
+    }
+
+    private static double parseScore(String value) {
+        return switch (value) {
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            case "+inf", "inf" -> Double.POSITIVE_INFINITY;
+            default -> Double.parseDouble(value.startsWith("(") ? value.substring(1) : value);
+        };
+    }
+
+    private static final Map<String, Pattern> GLOBS = new ConcurrentHashMap<>();
+
+    /**
+     * Redis glob 패턴(*, ?)을 정규식으로 변환
+     */
+    private static Pattern glob(String glob) {
+        return GLOBS.computeIfAbsent(glob, key -> {
+            StringBuilder regex = new StringBuilder();
+            for (char c : key.toCharArray()) {
+                switch (c) {
+                    case '*' -> regex.append(".*");
+                    case '?' -> regex.append('.');
+                    default -> regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        });
+    }
+
+    /**
+     * RESP2 응답 작성기
+     */
+    private static class Reply {
+        private final java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream(64);
+
+        Reply simple(String value) {
+            return line('+', value);
+        }
+
+        Reply error(String message) {
+            return line('-', message);
+        }
+
+        Reply integer(long value) {
+            return line(':', String.valueOf(value));
+        }
+
+        Reply array(int size) {
+            return line('*', String.valueOf(size));
+        }
+
+        Reply nil() {
+            return line('$', "-1");
+        }
+
+        Reply bulk(String value) {
+            if (value == null) {
+                return nil();
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+            line('$', String.valueOf(bytes.length));
+            buffer.writeBytes(bytes);
+            buffer.writeBytes(CRLF);
+            return this;
+        }
+
+        private Reply line(char type, String value) {
+            buffer.write(type);
+            buffer.writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+            buffer.writeBytes(CRLF);
+            return this;
+        }
+
+        byte[] bytes() {
+            return buffer.toByteArray();
+        }
+    }
+
+    private static class RespError extends RuntimeException {
+        RespError(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package shop.samgak.mini_board.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+
+import shop.samgak.mini_board.loadtest.BoardDataGenerator.GeneratedData;
+
+/**
+ * 로그인한 사용자 한 명의 요청 흐름
+ * 시작할 때 로그인하고, 이후 정해진 비율로 목록/게시물/댓글 조회, 첨부 파일 다운로드/업로드, 재로그인을 반복합니다.
+ * 세션 쿠키는 로그인 응답에서 읽어 이후 요청에 직접 붙입니다.
+ */
+public class VirtualUser implements Runnable {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String BOUNDARY = "----mini-board-load-test";
+
+    // 시나리오 비중: 목록, 게시물, 댓글, 다운로드, 업로드, 로그인
+    private static final int[] WEIGHTS = { 30, 30, 20, 10, 5, 5 };
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int userOffset;
+    private final GeneratedData data;
+    private final LoadTestReport report;
+    private final long measureFromNanos;
+    private final long stopAtNanos;
+    private final Duration thinkTime;
+    private final byte[] uploadContent;
+    private final Random random;
+    private String sessionCookie;
+
+    /**
+     * @param userOffset 생성한 사용자 중 이 가상 사용자가 사용할 계정의 순번 (0부터)
+     */
+    public VirtualUser(HttpClient client, String baseUrl, int userOffset, GeneratedData data, LoadTestReport report,
+            long measureFromNanos, long stopAtNanos, Duration thinkTime, byte[] uploadContent) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.userOffset = userOffset;
+        this.data = data;
+        this.report = report;
+        this.measureFromNanos = measureFromNanos;
+        this.stopAtNanos = stopAtNanos;
+        this.thinkTime = thinkTime;
+        this.uploadContent = uploadContent;
+        this.random = new Random(userOffset);
+    }
+
+    @Override
+    public void run() {
+        login();
+        while (System.nanoTime() < stopAtNanos && !Thread.currentThread().isInterrupted()) {
+            switch (pickScenario()) {
+                case 0 -> send("GET /api/posts", get("/api/posts"));
+                case 1 -> send("GET /api/posts/{id}", get("/api/posts/" + randomPostId()));
+                case 2 -> send("GET /api/posts/{postId}/comments",
+                        get("/api/posts/" + randomPostId() + "/comments"));
+                case 3 -> download();
+                case 4 -> upload();
+                default -> login();
+            }
+            if (!thinkTime.isZero()) {
+                try {
+                    Thread.sleep(thinkTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private int pickScenario() {
+        int value = random.nextInt(100);
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            value -= WEIGHTS[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return WEIGHTS.length - 1;
+    }
+
+    private long randomPostId() {
+        return data.postIdBase() + random.nextInt(data.posts());
+    }
+
+    private void login() {
+        String body = "{\"username\":\"" + BoardDataGenerator.username(data.userIdBase() + userOffset)
+                + "\",\"password\":\"" + BoardDataGenerator.PASSWORD + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<byte[]> response = send("POST /api/auth/login", request);
+        if (response != null) {
+            // 로그인할 때마다 세션 ID 가 바뀌므로 새 쿠키로 교체
+            response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("SESSION="))
+                    .findFirst()
+                    .ifPresent(cookie -> sessionCookie = cookie.substring(0, cookie.indexOf(';')));
+        }
+    }
+
+    private void download() {
+        long[] filePostIds = data.filePostIds();
+        if (filePostIds.length == 0) {
+            return;
+        }
+        int file = random.nextInt(filePostIds.length);
+        send("GET /api/posts/{postId}/images/{postFileId}",
+                get("/api/posts/" + filePostIds[file] + "/images/" + (data.fileIdBase() + file)));
+    }
+
+    private void upload() {
+        long postId = BoardDataGenerator.ownedPostId(data, userOffset, random);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadContent.length + 256);
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"upload.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(uploadContent);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        send("POST /api/posts/{postId}/images", withSession(HttpRequest.newBuilder(
+                URI.create(baseUrl + "/api/posts/" + postId + "/images")))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    private HttpRequest get(String path) {
+        return withSession(HttpRequest.newBuilder(URI.create(baseUrl + path))).GET().build();
+    }
+
+    private HttpRequest.Builder withSession(HttpRequest.Builder builder) {
+        builder.timeout(REQUEST_TIMEOUT);
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder;
+    }
+
+    /**
+     * 요청을 보내고 워밍업이 끝난 뒤의 결과만 기록합니다.
+     *
+     * @return 응답, 연결 오류면 null
+     */
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // 연결 오류도 실패한 요청으로 기록
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (startedAt >= measureFromNanos) {
+            boolean success = response != null && response.statusCode() < 400;
+            report.record(endpoint, (System.nanoTime() - startedAt) / 1000, success);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,264 @@
+package shop.samgak.mini_board.comment.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.comment.dto.CommentDTO;
+import shop.samgak.mini_board.config.CacheProperties;
+
+/**
+ * 게시물별 댓글 목록을 메모리에 보관하는 캐시
+ * 댓글 작성/삭제 시에는 캐시된 목록에 해당 댓글만 반영하고, 수정 시에는 목록을 제거합니다.
+ * 수정하면 DB 에서 버전이 바뀌므로 캐시에서 버전을 계산하지 않고 다음 조회 때 DB 에서 다시 읽습니다.
+ * 전체 사용량이 설정된 메모리 한도를 넘으면 가장 오래 사용되지 않은 게시물부터 제거합니다.
+ *
+ * 댓글 쓰기가 있으면 다른 인스턴스가 해당 게시물의 목록을 비우도록 pub/sub 채널에 게시물 ID를 발행합니다.
+ * 메시지를 놓친 경우에도 목록은 DB에서 읽은 뒤 ttl 이 지나면 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class CommentListCache implements MessageListener {
+    // 목록 하나와 댓글 하나가 차지하는 고정 메모리 추정치 (객체 헤더, 참조, Instant 등)
+    private static final long ENTRY_OVERHEAD = 128;
+    private static final long COMMENT_OVERHEAD = 160;
+    // 쓰기 순번 구간 수 (2의 거듭제곱)
+    private static final int SEQUENCE_STRIPES = 1024;
+
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LinkedHashMap<Long, CommentListEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes = 0;
+    // 게시물의 댓글 쓰기가 발생할 때마다 증가하며, DB 조회 도중 변경된 목록이 캐시에 들어가는 것을 막음
+    // 게시물 ID 별로 나눈 구간마다 두므로 다른 게시물의 쓰기는 (같은 구간이 아니면) 캐시 저장을 막지 않음
+    private final long[] writeSequences = new long[SEQUENCE_STRIPES];
+
+    public CommentListCache(CacheProperties cacheProperties, StringRedisTemplate redisTemplate) {
+        this.maxBytes = cacheProperties.getComment().getMaxBytes();
+        this.ttlMillis = cacheProperties.getComment().getTtl().toMillis();
+        this.redisTemplate = redisTemplate;
+        this.channel = cacheProperties.getComment().getChannel();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 캐시된 댓글 목록 조회
+     *
+     * @param postId 게시물 ID
+     * @return 만료되지 않은 캐시된 목록, 없으면 null
+     */
+    public synchronized CommentListEntry get(Long postId) {
+        CommentListEntry entry = entries.get(postId);
+        if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(postId);
+            usedBytes -= entry.sizeInBytes();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 게시물의 현재 쓰기 순번을 가져옵니다.
+     *
+     * @param postId 게시물 ID
+     * @return 현재 쓰기 순번
+     */
+    public synchronized long currentSequence(Long postId) {
+        return writeSequences[stripe(postId)];
+    }
+
+    private static int stripe(Long postId) {
+        return Long.hashCode(postId) & (SEQUENCE_STRIPES - 1);
+    }
+
+    private void advanceSequence(Long postId) {
+        writeSequences[stripe(postId)]++;
+    }
+
+    /**
+     * DB에서 조회한 댓글 목록을 캐시에 저장합니다.
+     * 조회를 시작한 이후 이 게시물에 댓글 쓰기가 있었다면 목록이 오래되었을 수 있으므로 저장하지 않습니다.
+     *
+     * @param postId   게시물 ID
+     * @param comments DB에서 조회한 댓글 목록 (ID 오름차순)
+     * @param sequence 조회 시작 시점의 쓰기 순번
+     * @return 저장 여부와 관계없이 조회 결과로 만든 항목
+     */
+    public synchronized CommentListEntry put(Long postId, List<CommentDTO> comments, long sequence) {
+        CommentListEntry entry = CommentListEntry.of(postId, comments, System.currentTimeMillis() + ttlMillis);
+        if (sequence == writeSequences[stripe(postId)]) {
+            store(postId, entry);
+        } else {
+            log.debug("Skip caching comment list for post ID [{}] because it changed while loading", postId);
+        }
+        return entry;
+    }
+
+    /**
+     * 새로 작성된 댓글을 캐시된 목록 끝에 추가합니다.
+     * 캐시에 목록이 없으면 다음 조회 시 DB에서 읽어오므로 아무 작업도 하지 않습니다.
+     * 저장과 추가 사이에 다른 요청이 DB에서 목록을 다시 읽었다면 이미 포함되어 있으므로 추가하지 않습니다.
+     *
+     * @param postId  게시물 ID
+     * @param comment 작성된 댓글
+     */
+    public void append(Long postId, CommentDTO comment) {
+        synchronized (this) {
+            advanceSequence(postId);
+            CommentListEntry entry = entries.get(postId);
+            if (entry != null && entry.comments().stream()
+                    .noneMatch(cached -> cached.getId().equals(comment.getId()))) {
+                List<CommentDTO> comments = new ArrayList<>(entry.comments());
+                comments.add(comment);
+                store(postId, CommentListEntry.of(postId, comments, entry.expiresAt()));
+            }
+        }
+        publish(postId);
+    }
+
+    /**
+     * 댓글이 수정된 게시물의 목록을 제거합니다.
+     * 수정 쿼리가 올린 버전은 DB 에만 있으므로 다음 조회 때 DB에서 다시 읽습니다.
+     *
+     * @param postId 게시물 ID
+     */
+    public void update(Long postId) {
+        evict(postId);
+        publish(postId);
+    }
+
+    /**
+     * 삭제된 댓글을 캐시된 목록에서 제거합니다.
+     *
+     * @param postId    게시물 ID
+     * @param commentId 삭제된 댓글 ID
+     */
+    public void remove(Long postId, Long commentId) {
+        synchronized (this) {
+            advanceSequence(postId);
+            CommentListEntry entry = entries.get(postId);
+            if (entry != null) {
+                List<CommentDTO> comments = new ArrayList<>(entry.comments());
+                comments.removeIf(comment -> comment.getId().equals(commentId));
+                store(postId, CommentListEntry.of(postId, comments, entry.expiresAt()));
+            }
+        }
+        publish(postId);
+    }
+
+    /**
+     * 특정 게시물의 댓글 목록을 캐시에서 제거합니다.
+     *
+     * @param postId 게시물 ID
+     */
+    public synchronized void evict(Long postId) {
+        advanceSequence(postId);
+        CommentListEntry removed = entries.remove(postId);
+        if (removed != null) {
+            usedBytes -= removed.sizeInBytes();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 댓글 쓰기가 있었다는 메시지를 받으면 해당 게시물의 목록을 제거
+     * 쓰기 순번도 증가하므로 메시지를 받기 전에 시작한 DB 조회 결과는 캐시에 저장되지 않습니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            evict(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed comment list invalidation message [{}]", body);
+        }
+    }
+
+    private void publish(Long postId) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + ":" + postId);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 ttl 이 지나면 목록을 다시 읽음
+            log.warn("Failed to publish comment list invalidation for post ID [{}]", postId, e);
+        }
+    }
+
+    private void store(Long postId, CommentListEntry entry) {
+        CommentListEntry previous = entries.put(postId, entry);
+        if (previous != null) {
+            usedBytes -= previous.sizeInBytes();
+        }
+        usedBytes += entry.sizeInBytes();
+
+        // 메모리 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<Long, CommentListEntry>> iterator = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, CommentListEntry> eldest = iterator.next();
+            usedBytes -= eldest.getValue().sizeInBytes();
+            iterator.remove();
+            log.debug("Evicted comment list for post ID [{}] from cache", eldest.getKey());
+        }
+    }
+
+    /**
+     * 캐시에 저장되는 게시물별 댓글 목록
+     *
+     * @param comments    댓글 목록 (변경 불가)
+     * @param eTag        목록 상태를 나타내는 ETag
+     * @param sizeInBytes 추정 메모리 사용량
+     * @param expiresAt   만료 시각 (epoch 밀리초), 댓글 쓰기로 목록이 바뀌어도 DB에서 읽은 시각 기준으로 유지
+     */
+    public record CommentListEntry(List<CommentDTO> comments, String eTag, long sizeInBytes, long expiresAt) {
+
+        static CommentListEntry of(Long postId, List<CommentDTO> comments, long expiresAt) {
+            long size = ENTRY_OVERHEAD;
+            long maxId = 0;
+            long maxUpdatedAt = 0;
+            for (CommentDTO comment : comments) {
+                size += estimateSize(comment);
+                if (comment.getId() != null) {
+                    maxId = Math.max(maxId, comment.getId());
+                }
+                if (comment.getUpdatedAt() != null) {
+                    maxUpdatedAt = Math.max(maxUpdatedAt, comment.getUpdatedAt().toEpochMilli());
+                }
+            }
+            // 댓글 수가 포함되어 있어 최신 댓글이 아닌 댓글이 삭제되어도 값이 바뀜
+            String eTag = String.format("W/\"%d-%d-%d-%d\"", postId, comments.size(), maxId, maxUpdatedAt);
+            return new CommentListEntry(Collections.unmodifiableList(comments), eTag, size, expiresAt);
+        }
+
+        private static long estimateSize(CommentDTO comment) {
+            long size = COMMENT_OVERHEAD;
+            if (comment.getContent() != null) {
+                size += 2L * comment.getContent().length();
+            }
+            if (comment.getUser() != null && comment.getUser().getUsername() != null) {
+                size += 2L * comment.getUser().getUsername().length();
+            }
+            return size;
+        }
+    }
+}
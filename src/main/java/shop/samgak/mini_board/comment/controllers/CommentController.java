@@ -2,6 +2,7 @@ package shop.samgak.mini_board.comment.controllers;
 
 import java.net.URI;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -17,6 +19,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.comment.cache.CommentListCache.CommentListEntry;
 import shop.samgak.mini_board.comment.dto.CommentDTO;
 import shop.samgak.mini_board.comment.services.CommentService;
 import shop.samgak.mini_board.user.dto.UserDTO;
@@ -24,6 +27,7 @@ import shop.samgak.mini_board.utility.ApiDataResponse;
 import shop.samgak.mini_board.utility.ApiResponse;
 import shop.samgak.mini_board.utility.ApiSuccessResponse;
 import shop.samgak.mini_board.utility.AuthUtils;
+import shop.samgak.mini_board.utility.ETagUtils;
 
 /**
  * 게시물 댓글 관련 API 요청을 처리하는 컨트롤러 클래스
@@ -38,14 +42,22 @@ public class CommentController {
 
         /**
          * 특정 게시물의 댓글 목록을 가져오는 메서드
+         * 응답에 ETag를 포함하며, If-None-Match 값이 일치하면 본문 없이 304 응답을 반환
          *
          * @param postId 댓글을 가져올 게시물의 ID
          * @return 댓글 목록과 성공 응답을 포함한 ResponseEntity 객체
          */
         @GetMapping("{postId}/comments")
         public ResponseEntity<ApiResponse> getComment(@PathVariable Long postId) {
-                log.info("Retrieving the list of comments for post ID: [{}]", postId);
-                return ResponseEntity.ok(new ApiDataResponse("success", commentService.get(postId)));
+                log.debug("Retrieving the list of comments for post ID: [{}]", postId);
+                // 목록과 ETag를 같은 캐시 항목에서 가져와 서로 다른 시점의 값이 섞이지 않도록 함
+                CommentListEntry commentList = commentService.getList(postId);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                if (commentList.eTag() != null) {
+                        // ETag가 일치하는 조건부 요청은 직렬화 없이 304로 응답됨
+                        response.eTag(commentList.eTag());
+                }
+                return response.body(new ApiDataResponse("success", commentList.comments()));
         }
 
         /**
@@ -59,7 +71,7 @@ public class CommentController {
         public ResponseEntity<ApiResponse> createComment(@PathVariable Long postId,
                         @Valid @RequestBody CreateCommentRequest request) {
                 UserDTO userDTO = AuthUtils.getCurrentUser();
-                log.info("User with ID [{}] is creating a new comment on post with ID [{}]", userDTO.getId(), postId);
+                log.debug("User with ID [{}] is creating a new comment on post with ID [{}]", userDTO.getId(), postId);
                 CommentDTO savedComment = commentService.create(request.content, postId, userDTO.getId());
 
                 URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
@@ -76,14 +88,17 @@ public class CommentController {
          *
          * @param commentId 수정할 댓글의 ID
          * @param content   수정할 댓글의 내용
+         * @param ifMatch   댓글 버전을 담은 If-Match 헤더 (선택)
          * @return 수정 성공 응답을 포함한 ResponseEntity 객체
          */
         @PutMapping("{postId}/comments/{commentId}")
         public ResponseEntity<ApiResponse> updateComment(@PathVariable Long postId, @PathVariable Long commentId,
-                        @Valid @RequestBody UpdateCommentRequest request) {
+                        @Valid @RequestBody UpdateCommentRequest request,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
                 UserDTO userDTO = AuthUtils.getCurrentUser();
-                log.info("User with ID [{}] is editing comment with ID [{}]", userDTO.getId(), commentId);
-                commentService.update(commentId, postId, request.content, userDTO.getId());
+                log.debug("User with ID [{}] is editing comment with ID [{}]", userDTO.getId(), commentId);
+                commentService.update(commentId, postId, request.content, userDTO.getId(),
+                                ETagUtils.parseIfMatch(ifMatch));
                 return ResponseEntity.ok(new ApiSuccessResponse("Comment updated successfully"));
         }
 
@@ -91,13 +106,15 @@ public class CommentController {
          * 특정 댓글 삭제 메서드
          *
          * @param commentId 삭제할 댓글의 ID
+         * @param ifMatch   댓글 버전을 담은 If-Match 헤더 (선택)
          * @return 삭제 성공 응답을 포함한 ResponseEntity 객체
          */
         @DeleteMapping("{postId}/comments/{commentId}")
-        public ResponseEntity<ApiResponse> deleteComment(@PathVariable Long postId, @PathVariable Long commentId) {
+        public ResponseEntity<ApiResponse> deleteComment(@PathVariable Long postId, @PathVariable Long commentId,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
                 UserDTO userDTO = AuthUtils.getCurrentUser();
-                log.info("User with ID [{}] is deleting comment with ID [{}]", userDTO.getId(), commentId);
-                commentService.delete(commentId, postId, userDTO.getId());
+                log.debug("User with ID [{}] is deleting comment with ID [{}]", userDTO.getId(), commentId);
+                commentService.delete(commentId, postId, userDTO.getId(), ETagUtils.parseIfMatch(ifMatch));
                 return ResponseEntity.ok(new ApiSuccessResponse("Comment deleted successfully"));
         }
 
@@ -58,4 +58,9 @@ public class CommentDTO {
      * 댓글 수정 시간
      */
     private Instant updatedAt;
+
+    /**
+     * 댓글 버전. 수정/삭제 요청 시 If-Match 헤더로 전달
+     */
+    private Long version;
 }
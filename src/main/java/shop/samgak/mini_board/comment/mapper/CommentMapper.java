@@ -1,16 +1,19 @@
 package shop.samgak.mini_board.comment.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import shop.samgak.mini_board.comment.dto.CommentDTO;
 import shop.samgak.mini_board.comment.entities.Comment;
+import shop.samgak.mini_board.post.mapper.PostMapper;
 import shop.samgak.mini_board.user.mapper.UserMapper;
 
 /**
  * Comment 엔티티와 CommentDTO 간의 변환을 담당
  * MapStruct를 사용하여 엔티티와 DTO 사이의 자동 변환을 지원
  */
-@Mapper(componentModel = "spring", uses = UserMapper.class)
+@Mapper(componentModel = "spring", uses = { UserMapper.class, PostMapper.class })
 public interface CommentMapper {
 
     /**
@@ -21,11 +24,38 @@ public interface CommentMapper {
      */
     CommentDTO toDTO(Comment comment);
 
+    /**
+     * 목록 조회용으로 Comment 엔티티를 CommentDTO로 변환
+     * 응답에 포함되지 않는 게시물과 상위 댓글 정보는 변환하지 않아 캐시 메모리를 줄임
+     * 같은 타입을 변환하는 toDTO 와 구분되도록 이름을 지정하여 다른 매핑에서 자동으로 선택되지 않게 함
+     * 
+     * @param comment 변환할 Comment 엔티티 객체
+     * @return 변환된 CommentDTO 객체
+     */
+    @Named("toListDTO")
+    @Mapping(target = "post", ignore = true)
+    @Mapping(target = "parentComment", ignore = true)
+    CommentDTO toListDTO(Comment comment);
+
+    /**
+     * 작성 직후 응답용으로 Comment 엔티티를 CommentDTO로 변환
+     * 작성자와 게시물은 조회 없이 연결한 프록시이므로 변환하지 않고, 필요한 값은 호출하는 쪽에서 채움
+     * 
+     * @param comment 변환할 Comment 엔티티 객체
+     * @return 변환된 CommentDTO 객체
+     */
+    @Named("toSummaryDTO")
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "post", ignore = true)
+    @Mapping(target = "parentComment", ignore = true)
+    CommentDTO toSummaryDTO(Comment comment);
+
     /**
      * CommentDTO를 Comment 엔티티로 변환
      * 
      * @param commentDTO 변환할 CommentDTO 객체
      * @return 변환된 Comment 엔티티 객체
      */
+    @Mapping(target = "version", ignore = true)
     Comment fromDTO(CommentDTO commentDTO);
 }
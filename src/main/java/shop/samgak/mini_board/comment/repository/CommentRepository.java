@@ -1,10 +1,16 @@
 package shop.samgak.mini_board.comment.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import shop.samgak.mini_board.comment.entities.Comment;
 
@@ -15,12 +21,70 @@ import shop.samgak.mini_board.comment.entities.Comment;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
-     * 특정 게시물에 속한 모든 댓글을 조회하는 메서드
+     * 특정 게시물에 속한 모든 댓글을 작성 순서(ID 오름차순)로 조회하는 메서드
+     * 작성자 정보는 함께 조회하여 댓글마다 추가 조회가 발생하지 않도록 함
      * 
      * @param postId 조회하고자 하는 게시물의 ID
      * @return 해당 게시물에 속한 댓글 리스트
      */
-    List<Comment> findByPostId(Long postId);
+    @EntityGraph(attributePaths = { "user" })
+    List<Comment> findByPostIdOrderByIdAsc(Long postId);
 
-    Optional<Comment> findByIdAndPostId(Long commentId, Long postId);
+    /**
+     * 게시물에 속한 댓글의 작성자 ID만 조회
+     * 
+     * @param commentId 댓글 ID
+     * @param postId    게시물 ID
+     * @return 작성자 ID의 Optional 객체
+     */
+    @Query("select c.user.id from Comment c where c.id = :commentId and c.post.id = :postId")
+    Optional<Long> findOwnerIdByIdAndPostId(@Param("commentId") Long commentId, @Param("postId") Long postId);
+
+    /**
+     * 작성자가 일치하는 경우에만 댓글 내용과 수정 시간을 변경
+     * 권한 확인과 수정을 한 번의 쿼리로 처리하며, 0이 반환되면 댓글이 없거나 작성자가 아니거나 버전이 다름
+     * 
+     * @param commentId       댓글 ID
+     * @param postId          게시물 ID
+     * @param userId          작성자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
+     * @param content         수정할 내용
+     * @param updatedAt       수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update Comment c set c.content = :content, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "where c.id = :commentId and c.post.id = :postId and c.user.id = :userId "
+            + "and (:expectedVersion is null or c.version = :expectedVersion)")
+    int updateContentByOwner(@Param("commentId") Long commentId, @Param("postId") Long postId,
+            @Param("userId") Long userId, @Param("expectedVersion") Long expectedVersion,
+            @Param("content") String content, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 작성자가 일치하는 경우에만 댓글을 삭제
+     * 권한 확인과 삭제를 한 번의 쿼리로 처리하며, 0이 반환되면 댓글이 없거나 작성자가 아니거나 버전이 다름
+     * 
+     * @param commentId       댓글 ID
+     * @param postId          게시물 ID
+     * @param userId          작성자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from Comment c where c.id = :commentId and c.post.id = :postId and c.user.id = :userId "
+            + "and (:expectedVersion is null or c.version = :expectedVersion)")
+    int deleteByOwner(@Param("commentId") Long commentId, @Param("postId") Long postId,
+            @Param("userId") Long userId, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * 게시물에 속한 댓글의 버전만 조회
+     * 
+     * @param commentId 댓글 ID
+     * @param postId    게시물 ID
+     * @return 버전의 Optional 객체
+     */
+    @Query("select c.version from Comment c where c.id = :commentId and c.post.id = :postId")
+    Optional<Long> findVersionByIdAndPostId(@Param("commentId") Long commentId, @Param("postId") Long postId);
 }
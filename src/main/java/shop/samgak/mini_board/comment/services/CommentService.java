@@ -2,6 +2,7 @@ package shop.samgak.mini_board.comment.services;
 
 import java.util.List;
 
+import shop.samgak.mini_board.comment.cache.CommentListCache.CommentListEntry;
 import shop.samgak.mini_board.comment.dto.CommentDTO;
 
 public interface CommentService {
@@ -14,6 +15,15 @@ public interface CommentService {
          */
         List<CommentDTO> get(Long postId);
 
+        /**
+         * 주어진 게시물의 댓글 목록과 목록 상태를 나타내는 ETag를 함께 조회
+         * 두 값은 같은 시점의 목록에서 만들어지며, 댓글이 추가, 수정, 삭제되면 ETag 값이 바뀜
+         * 
+         * @param postId 댓글을 가져올 게시물의 ID
+         * @return 댓글 목록과 ETag
+         */
+        CommentListEntry getList(Long postId);
+
         /**
          * 주어진 게시물에 새로운 댓글을 작성
          * 
@@ -31,8 +41,9 @@ public interface CommentService {
          * @param postId    수정할 댓글의 소속 글 ID
          * @param content   수정된 댓글 내용
          * @param userId    댓글을 수정하는 사용자의 ID
+         * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전을 확인하지 않음)
          */
-        void update(Long commentId, Long postId, String content, Long userId);
+        void update(Long commentId, Long postId, String content, Long userId, Long expectedVersion);
 
         /**
          * 특정 댓글을 삭제합니다.
@@ -40,6 +51,7 @@ public interface CommentService {
          * @param commentId 삭제할 댓글의 ID
          * @param postId    수정할 댓글의 소속 글 ID
          * @param userId    댓글을 삭제하는 사용자의 ID
+         * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전을 확인하지 않음)
          */
-        void delete(Long commentId, Long postId, Long userId);
+        void delete(Long commentId, Long postId, Long userId, Long expectedVersion);
 }
@@ -2,21 +2,27 @@ package shop.samgak.mini_board.comment.services;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.comment.cache.CommentListCache;
+import shop.samgak.mini_board.comment.cache.CommentListCache.CommentListEntry;
 import shop.samgak.mini_board.comment.dto.CommentDTO;
 import shop.samgak.mini_board.comment.entities.Comment;
 import shop.samgak.mini_board.comment.mapper.CommentMapper;
 import shop.samgak.mini_board.comment.repository.CommentRepository;
+import shop.samgak.mini_board.exceptions.PreconditionFailedException;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
 import shop.samgak.mini_board.exceptions.UnauthorizedActionException;
 import shop.samgak.mini_board.post.entities.Post;
 import shop.samgak.mini_board.post.repositories.PostRepository;
+import shop.samgak.mini_board.security.OwnershipService;
+import shop.samgak.mini_board.user.cache.UserLookupCache;
+import shop.samgak.mini_board.user.dto.UserDTO;
 import shop.samgak.mini_board.user.entities.User;
 import shop.samgak.mini_board.user.repositories.UserRepository;
 
@@ -24,6 +30,7 @@ import shop.samgak.mini_board.user.repositories.UserRepository;
  * 댓글 관련 기능을 제공하는 서비스 클래스 구현체
  */
 @Service
+@Timed("latency.service")
 @RequiredArgsConstructor
 @Slf4j
 public class CommentServiceImpl implements CommentService {
@@ -31,17 +38,31 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
+    private final CommentListCache commentListCache;
+    private final OwnershipService ownershipService;
+    private final UserLookupCache userLookupCache;
 
     /**
      * 특정 게시물의 모든 댓글을 조회합니다.
+     * 캐시에 목록이 있으면 DB를 조회하지 않습니다.
      * 
      * @param postId 조회할 게시물의 ID
      * @return 해당 게시물에 대한 댓글 목록
      */
     @Override
     public List<CommentDTO> get(Long postId) {
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        return comments.stream().map(commentMapper::toDTO).collect(Collectors.toList());
+        return loadCommentList(postId).comments();
+    }
+
+    /**
+     * 특정 게시물의 댓글 목록과 ETag를 한 번의 캐시 조회로 가져옵니다.
+     * 
+     * @param postId 조회할 게시물의 ID
+     * @return 댓글 목록과 ETag
+     */
+    @Override
+    public CommentListEntry getList(Long postId) {
+        return loadCommentList(postId);
     }
 
     /**
@@ -54,11 +75,14 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public CommentDTO create(String content, Long postId, Long userId) {
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with Id : [" + userId + "]"));
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post not found with Id : [" + postId + "]"));
+        // 로그인 시 캐시된 사용자 정보와 게시물 소유자 캐시로 존재 여부를 확인하고, 외래 키는 조회 없이 연결
+        UserDTO userDTO = userLookupCache.getById(userId);
+        if (userDTO == null) {
+            throw new ResourceNotFoundException("User not found with Id : [" + userId + "]");
+        }
+        ownershipService.checkPostExists(postId);
+        User user = userRepository.getReferenceById(userId);
+        Post post = postRepository.getReferenceById(postId);
 
         Comment comment = new Comment();
         comment.setContent(content);
@@ -66,78 +90,118 @@ public class CommentServiceImpl implements CommentService {
         comment.setPost(post);
         comment.setCreatedAt(Instant.now());
         comment.setUpdatedAt(Instant.now());
-        Hibernate.initialize(comment.getUser());
 
-        Comment savedComment = commentRepository.save(comment);
-        return commentMapper.toDTO(savedComment);
+        Comment savedComment;
+        try {
+            savedComment = commentRepository.save(comment);
+        } catch (DataIntegrityViolationException e) {
+            // 캐시에 남아 있던 사용자나 게시물이 삭제되어 외래 키 제약을 위반한 경우 404 로 응답
+            if (!userRepository.existsById(userId)) {
+                userLookupCache.evict(userId);
+                throw new ResourceNotFoundException("User not found with Id : [" + userId + "]");
+            }
+            if (!postRepository.existsById(postId)) {
+                throw new ResourceNotFoundException("Post not found with id: " + postId);
+            }
+            throw e;
+        }
+        // 프록시를 초기화하지 않도록 작성자 정보는 캐시된 값을 사용
+        CommentDTO savedDTO = commentMapper.toSummaryDTO(savedComment);
+        savedDTO.setUser(userDTO);
+        commentListCache.append(postId, savedDTO);
+        return savedDTO;
     }
 
     /**
      * 특정 댓글을 수정합니다.
+     * 작성자 조건을 포함한 update 한 번으로 처리하고, 변경된 행이 없을 때만 원인을 확인합니다.
      * 
      * @param commentId 수정할 댓글의 ID
      * @param postId    게시글 ID
      * @param content   수정할 내용
      * @param userId    사용자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
      * @throws UnauthorizedActionException 사용자가 댓글을 수정할 권한이 없는 경우
+     * @throws PreconditionFailedException 버전이 일치하지 않는 경우
      */
     @Override
-    public void update(Long commentId, Long postId, String content, Long userId) {
-        Comment comment = findCommentOrThrow(commentId, postId);
-
-        if (!comment.getUser().getId().equals(userId)) {
-            log.warn("The user with ID [{}] is not authorized to update the comment with ID [{}] on post with ID [{}]",
-                    userId, commentId, postId);
-            throw new UnauthorizedActionException("User not authorized to update this comment");
-        }
-
-        if (!comment.getContent().equals(content)) {
-            comment.setContent(content);
-            comment.setUpdatedAt(Instant.now());
-            commentRepository.save(comment);
-            log.info("Successfully updated comment with id: [{}]", commentId);
-        } else {
-            log.warn("No content change detected for commentId: [{}]", commentId);
+    public void update(Long commentId, Long postId, String content, Long userId, Long expectedVersion) {
+        Instant updatedAt = Instant.now();
+        if (commentRepository.updateContentByOwner(commentId, postId, userId, expectedVersion, content,
+                updatedAt) == 0) {
+            throw resolveWriteFailure(commentId, postId, userId, expectedVersion, "update");
         }
+        commentListCache.update(postId);
+        log.info("Successfully updated comment with id: [{}]", commentId);
     }
 
     /**
      * 특정 댓글을 삭제합니다.
+     * 작성자 조건을 포함한 delete 한 번으로 처리하고, 삭제된 행이 없을 때만 원인을 확인합니다.
      * 
      * @param commentId 삭제할 댓글의 ID
      * @param postId    게시글 ID
      * @param userId    사용자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
      * @throws UnauthorizedActionException 사용자가 댓글을 삭제할 권한이 없는 경우
+     * @throws PreconditionFailedException 버전이 일치하지 않는 경우
      */
     @Override
-    public void delete(Long commentId, Long postId, Long userId) {
-        Comment comment = findCommentOrThrow(commentId, postId);
-
-        if (!comment.getUser().getId().equals(userId)) {
-            log.warn("The user with ID [{}] is not authorized to delete the comment with ID [{}] on post with ID [{}]",
-                    userId, commentId, postId);
-            throw new UnauthorizedActionException("User not authorized to delete this comment");
+    public void delete(Long commentId, Long postId, Long userId, Long expectedVersion) {
+        if (commentRepository.deleteByOwner(commentId, postId, userId, expectedVersion) == 0) {
+            throw resolveWriteFailure(commentId, postId, userId, expectedVersion, "delete");
         }
-
-        commentRepository.delete(comment);
+        ownershipService.evictComment(commentId, postId);
+        commentListCache.remove(postId, commentId);
         log.info("Successfully deleted comment with id: [{}]", commentId);
     }
 
     /**
-     * 특정 댓글을 조회하여 수정 또는 삭제를 위해 반환합니다.
+     * 캐시에서 댓글 목록을 가져오고, 없으면 DB에서 조회하여 캐시에 저장합니다.
      *
-     * @param commentId 댓글 ID
-     * @param postId    게시글 ID
-     * @return Comment 객체
-     * @throws ResourceNotFoundException 댓글이 존재하지 않는 경우
+     * @param postId 게시글 ID
+     * @return 댓글 목록 캐시 항목
      */
-    private Comment findCommentOrThrow(Long commentId, Long postId) {
-        return commentRepository.findByIdAndPostId(commentId, postId)
-                .orElseThrow(() -> {
-                    return new ResourceNotFoundException(
-                            String.format("Comment not found with commentId: [%d], postId: [%d]",
-                                    commentId, postId));
-                });
+    private CommentListEntry loadCommentList(Long postId) {
+        CommentListEntry cached = commentListCache.get(postId);
+        if (cached != null) {
+            return cached;
+        }
+        long sequence = commentListCache.currentSequence(postId);
+        List<CommentDTO> comments = commentRepository.findByPostIdOrderByIdAsc(postId).stream()
+                .map(commentMapper::toListDTO)
+                .toList();
+        return commentListCache.put(postId, comments, sequence);
     }
 
+    /**
+     * 조건부 쓰기에서 변경된 행이 없을 때 댓글이 없는 것인지, 권한이 없는 것인지, 버전이 다른 것인지 판단합니다.
+     *
+     * @param commentId       댓글 ID
+     * @param postId          게시글 ID
+     * @param userId          사용자 ID
+     * @param expectedVersion 기대하는 버전
+     * @param action          수행하려던 작업 (update 또는 delete)
+     * @return 던질 예외
+     */
+    private RuntimeException resolveWriteFailure(Long commentId, Long postId, Long userId, Long expectedVersion,
+            String action) {
+        // 캐시된 소유자 정보가 오래되었을 수 있으므로 DB에서 다시 확인
+        ownershipService.evictComment(commentId, postId);
+        if (!ownershipService.isCommentOwner(commentId, postId, userId)) {
+            log.warn("The user with ID [{}] is not authorized to {} the comment with ID [{}] on post with ID [{}]",
+                    userId, action, commentId, postId);
+            return new UnauthorizedActionException("User not authorized to " + action + " this comment");
+        }
+        if (expectedVersion != null) {
+            Long currentVersion = commentRepository.findVersionByIdAndPostId(commentId, postId).orElse(null);
+            if (currentVersion != null && !currentVersion.equals(expectedVersion)) {
+                return new PreconditionFailedException(
+                        String.format("Comment [%d] has version [%d] but version [%d] was expected",
+                                commentId, currentVersion, expectedVersion));
+            }
+        }
+        return new ResourceNotFoundException(
+                String.format("Comment not found with commentId: [%d], postId: [%d]", commentId, postId));
+    }
 }
@@ -0,0 +1,33 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import shop.samgak.mini_board.monitoring.AccessLogFilter;
+
+/**
+ * 요청별 접근 로그를 설정합니다.
+ * shop.samgak.mini-board.access-log.enabled=true 일 때만 등록되며, 설정이 없으면 등록되지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shop.samgak.mini-board.access-log", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class AccessLogConfig {
+
+	/**
+	 * 접근 로그 필터를 등록합니다.
+	 * 보안 필터와 쿼리 통계 필터의 시간까지 포함하도록 가장 바깥에서 실행합니다.
+	 *
+	 * @param properties 접근 로그 설정값
+	 * @return 필터 등록 정보
+	 */
+	@Bean
+	public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogProperties properties) {
+		FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(
+				new AccessLogFilter(properties));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+		return registration;
+	}
+}
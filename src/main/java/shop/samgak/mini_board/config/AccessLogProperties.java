@@ -0,0 +1,45 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 접근 로그 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.access-log")
+public class AccessLogProperties {
+    /**
+     * 요청마다 접근 로그를 남길지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * sampleRates 에 없는 엔드포인트의 기록 비율 (0 ~ 1)
+     */
+    private double defaultSampleRate = 1.0;
+
+    /**
+     * 엔드포인트(URI 패턴, 예: /api/posts/{id})별 기록 비율 (0 ~ 1)
+     * 요청이 많은 조회 엔드포인트는 일부만 기록합니다.
+     */
+    private Map<String, Double> sampleRates = new HashMap<>();
+
+    /**
+     * 이 시간 이상 걸린 요청은 비율과 관계없이 기록
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 값을 *** 로 가려서 기록할 쿼리 파라미터 이름 (대소문자 구분 없음)
+     */
+    private Set<String> redactParameters = Set.of("password", "token", "accessToken", "refreshToken", "secret");
+}
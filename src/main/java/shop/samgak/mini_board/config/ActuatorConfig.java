@@ -0,0 +1,32 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.boot.actuate.endpoint.SanitizableData;
+import org.springframework.boot.actuate.endpoint.SanitizingFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * actuator 엔드포인트가 보여주는 설정값을 제한합니다.
+ * 설정값은 관리자에게만 보여주며(application.properties 의 show-values), 관리자에게도 토큰 설정은 가립니다.
+ */
+@Configuration
+public class ActuatorConfig {
+	private static final String TOKEN_PREFIX = "shop.samgak.mini-board.token.";
+
+	/**
+	 * /actuator/env 와 /actuator/configprops 에서 토큰 설정값을 가리는 함수를 정의합니다.
+	 * 서명 키가 드러나면 누구나 관리자 권한이 담긴 토큰을 만들 수 있으므로 권한과 관계없이 가립니다.
+	 *
+	 * @return 토큰 설정값을 가리는 함수
+	 */
+	@Bean
+	public SanitizingFunction tokenPropertiesSanitizingFunction() {
+		return data -> isTokenProperty(data) ? data.withSanitizedValue() : data;
+	}
+
+	private static boolean isTokenProperty(SanitizableData data) {
+		String key = data.getKey();
+		// /actuator/configprops 는 접두어 없이 속성 이름만 전달하므로 서명 키 이름도 확인
+		return key.startsWith(TOKEN_PREFIX) || key.equals("secret");
+	}
+}
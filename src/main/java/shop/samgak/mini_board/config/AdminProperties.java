@@ -0,0 +1,22 @@
+package shop.samgak.mini_board.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 관리자 권한 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.admin")
+public class AdminProperties {
+    /**
+     * 로그인 시 ROLE_ADMIN 권한을 받는 사용자명 목록 (비어 있으면 관리자 없음)
+     */
+    private List<String> usernames = new ArrayList<>();
+}
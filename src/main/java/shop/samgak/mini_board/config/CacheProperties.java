@@ -0,0 +1,121 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 애플리케이션 내부 캐시 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.cache")
+public class CacheProperties {
+    /**
+     * 게시물별 댓글 목록 캐시 설정
+     */
+    private Comment comment = new Comment();
+
+    /**
+     * 리소스 소유자 캐시 설정
+     */
+    private Ownership ownership = new Ownership();
+
+    /**
+     * 사용자명/이메일 사용 가능 여부 확인용 블룸 필터 설정
+     */
+    private Availability availability = new Availability();
+
+    /**
+     * 사용자 조회 캐시 설정
+     */
+    private UserLookup userLookup = new UserLookup();
+
+    /**
+     * 세션이 없는 방문자의 중복 조회 확인 캐시 설정
+     */
+    private ViewerDedup viewerDedup = new ViewerDedup();
+
+    @Data
+    public static class Comment {
+        /**
+         * 댓글 목록 캐시가 사용할 수 있는 최대 메모리 (바이트 단위, 추정치 기준)
+         */
+        private long maxBytes = 64L * 1024 * 1024;
+
+        /**
+         * DB에서 읽은 목록 유지 시간 (다른 인스턴스의 무효화 메시지를 놓쳤을 때 오래된 목록이 유지되는 최대 시간)
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * 다른 인스턴스에 댓글 목록 무효화를 알릴 Redis pub/sub 채널
+         */
+        private String channel = "mini-board:comment:invalidate";
+    }
+
+    @Data
+    public static class Ownership {
+        /**
+         * 소유자 정보 유지 시간
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 리소스 종류별 최대 항목 수
+         */
+        private int maxEntries = 10000;
+    }
+
+    @Data
+    public static class Availability {
+        /**
+         * 블룸 필터 사용 여부 (false 이면 항상 DB 조회)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 필터가 최소한으로 수용할 사용자 수 (시작 시 사용자 수의 2배와 비교하여 큰 값을 사용)
+         */
+        private long expectedInsertions = 100_000;
+
+        /**
+         * 목표 오탐률
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * 시작 시 필터를 만들 때 한 번에 읽을 사용자 수
+         */
+        private int rebuildBatchSize = 5_000;
+    }
+
+    @Data
+    public static class UserLookup {
+        /**
+         * 사용자 정보(ID, 사용자명) 유지 시간
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * 최대 항목 수
+         */
+        private int maxEntries = 10000;
+    }
+
+    @Data
+    public static class ViewerDedup {
+        /**
+         * 같은 방문자의 조회를 다시 집계하지 않는 시간
+         */
+        private Duration ttl = Duration.ofMinutes(30);
+
+        /**
+         * 게시물/파일별 최대 항목 수
+         */
+        private int maxEntries = 100_000;
+    }
+}
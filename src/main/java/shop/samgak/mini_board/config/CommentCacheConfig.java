@@ -0,0 +1,32 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import shop.samgak.mini_board.comment.cache.CommentListCache;
+
+/**
+ * 여러 인스턴스의 댓글 목록 캐시를 함께 비우기 위한 설정입니다.
+ */
+@Configuration
+public class CommentCacheConfig {
+
+	/**
+	 * 다른 인스턴스가 보낸 댓글 목록 무효화 메시지를 받는 리스너 컨테이너를 정의합니다.
+	 * 
+	 * @param connectionFactory Redis 연결을 위한 ConnectionFactory
+	 * @param commentListCache  메시지를 받아 목록을 비울 댓글 목록 캐시
+	 * @return 리스너 컨테이너
+	 */
+	@Bean
+	public RedisMessageListenerContainer commentInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+			CommentListCache commentListCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(commentListCache, new ChannelTopic(commentListCache.getChannel()));
+		return container;
+	}
+}
@@ -0,0 +1,37 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Java Flight Recorder 기록 설정값
+ * 기록은 /actuator/jfr 엔드포인트로 시작, 중지, 내려받기 할 수 있습니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.jfr")
+public class JfrProperties {
+    /**
+     * 애플리케이션 시작 시 상시 기록을 시작할지 여부
+     */
+    private boolean continuous = false;
+
+    /**
+     * 기록 설정 이름 (JDK 기본 제공 default: 오버헤드 약 1%, profile: 약 2%)
+     */
+    private String settings = "default";
+
+    /**
+     * 기록을 보관하는 최대 시간 (넘으면 오래된 데이터부터 버림), 엔드포인트로 시작하는 기록도 이 값을 넘을 수 없음
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * 기록을 보관하는 최대 크기 (바이트), 엔드포인트로 시작하는 기록도 이 값을 넘을 수 없음
+     */
+    private long maxSize = 268435456;
+}
@@ -0,0 +1,26 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서비스 메서드의 @Timed 지표 기록을 설정합니다.
+ * 백분위와 SLO 구간은 application.properties 의 management.metrics.distribution 설정을 따릅니다.
+ */
+@Configuration
+public class LatencyMetricsConfig {
+
+	/**
+	 * @Timed 가 붙은 클래스와 메서드의 실행 시간을 기록하는 Aspect 를 정의합니다.
+	 * 
+	 * @param meterRegistry 실행 시간을 기록할 MeterRegistry
+	 * @return @Timed 처리 Aspect
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+}
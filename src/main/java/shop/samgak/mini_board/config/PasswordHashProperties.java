@@ -0,0 +1,62 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 비밀번호 해시 계산 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.password")
+public class PasswordHashProperties {
+    /**
+     * 해시 계산 전용 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    private int poolSize = 0;
+
+    /**
+     * 실행을 기다릴 수 있는 최대 요청 수, 가득 차면 즉시 거절
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 대기와 계산을 합쳐 요청 스레드가 기다리는 최대 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    /**
+     * 거절 시 Retry-After 헤더로 안내할 재시도 시간
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * bcrypt 비용 값 고정 (0 이하이면 시작 시 측정하여 자동으로 결정)
+     */
+    private int strength = 0;
+
+    /**
+     * 자동 결정한 비용 값을 클러스터에서 공유할 Redis 키 (비어 있으면 인스턴스마다 측정값 사용)
+     * 처음 시작한 인스턴스의 측정값이 기록되며, 다시 측정하려면 키를 삭제하고 재시작합니다.
+     */
+    private String clusterStrengthKey = "mini-board:password:bcrypt-strength";
+
+    /**
+     * 자동 결정 시 목표로 하는 비밀번호 확인 1회 시간
+     */
+    private Duration targetHashTime = Duration.ofMillis(200);
+
+    /**
+     * 자동 결정 시 사용할 최소 비용 값 (보안상 하한)
+     */
+    private int minStrength = 10;
+
+    /**
+     * 자동 결정 시 사용할 최대 비용 값
+     */
+    private int maxStrength = 16;
+}
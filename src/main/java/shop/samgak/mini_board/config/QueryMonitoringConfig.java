@@ -0,0 +1,64 @@
+package shop.samgak.mini_board.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import shop.samgak.mini_board.monitoring.QueryStatisticsFilter;
+import shop.samgak.mini_board.monitoring.StatementCountingDataSource;
+
+/**
+ * 요청별 JDBC 문장 수, 읽은 행 수, DB 시간 기록을 설정합니다.
+ * shop.samgak.mini-board.query.enabled=true 일 때만 등록되며, 설정이 없으면 등록되지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shop.samgak.mini-board.query", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class QueryMonitoringConfig {
+
+	/**
+	 * 애플리케이션의 DataSource 를 문장 통계를 기록하는 DataSource 로 감쌉니다.
+	 * 다른 빈보다 먼저 만들어져야 하므로 static 으로 정의합니다.
+	 *
+	 * @return DataSource 를 감싸는 BeanPostProcessor
+	 */
+	@Bean
+	public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+					return new StatementCountingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * 요청별 문장 통계를 기록하는 필터를 등록합니다.
+	 * 보안 필터에서 실행하는 사용자 조회도 포함하도록 보안 필터 체인보다 먼저 실행합니다.
+	 *
+	 * @param properties    통계 설정값
+	 * @param meterRegistry 지표를 기록할 MeterRegistry
+	 * @param environment   활성 프로필 확인용 Environment
+	 * @return 필터 등록 정보
+	 */
+	@Bean
+	public FilterRegistrationBean<QueryStatisticsFilter> queryStatisticsFilter(QueryMonitoringProperties properties,
+			MeterRegistry meterRegistry, Environment environment) {
+		// 운영 환경에서는 내부 쿼리 정보를 응답 헤더로 노출하지 않음
+		boolean exposeHeaders = properties.isExposeHeaders() && !environment.acceptsProfiles(Profiles.of("prod"));
+		FilterRegistrationBean<QueryStatisticsFilter> registration = new FilterRegistrationBean<>(
+				new QueryStatisticsFilter(properties, meterRegistry, exposeHeaders));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+		return registration;
+	}
+}
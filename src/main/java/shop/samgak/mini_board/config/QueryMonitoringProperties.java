@@ -0,0 +1,41 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 요청별 JDBC 문장 통계 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.query")
+public class QueryMonitoringProperties {
+    /**
+     * DataSource 를 감싸 요청별 통계를 기록할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 통계를 X-Query-* 응답 헤더로 내려줄지 여부, 개발/테스트 환경에서만 켜서 사용
+     * (prod 프로필에서는 설정과 관계없이 내려주지 않음)
+     */
+    private boolean exposeHeaders = false;
+
+    /**
+     * 요청 하나에서 같은 SQL 을 이 횟수 이상 실행하면 N+1 로 의심하여 경고
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * N+1 로 의심되는 요청을 경고 대신 예외로 실패시킬지 여부 (테스트에서 쿼리 회귀를 잡을 때 사용)
+     * 본문을 쓰기 전까지 실행한 문장으로 판단하므로 응답이 커밋된 뒤에는 실패시키지 않습니다.
+     */
+    private boolean failOnRepeat = false;
+
+    /**
+     * 요청 하나에서 허용하는 문장 수, 넘으면 경고
+     */
+    private int statementBudget = 20;
+}
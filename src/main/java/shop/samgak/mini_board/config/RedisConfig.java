@@ -10,32 +10,51 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.NonNull;
 import org.springframework.security.jackson2.SecurityJackson2Modules;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.session.data.redis.config.ConfigureRedisAction;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 
+import shop.samgak.mini_board.session.CompactSessionSerializer;
+
 /**
  * RedisConfig 클래스는 Spring Boot 애플리케이션에서 Redis를 사용하여 세션을 관리하기 위한 설정을 정의합니다.
  * 이 클래스는 RedisTemplate과 RedisSerializer를 정의하고, Redis를 사용한 HTTP 세션 관리를 활성화합니다.
  */
 @Configuration
-@EnableRedisHttpSession // Redis를 사용하여 HTTP 세션을 관리하도록 활성화
+// Redis를 사용하여 HTTP 세션을 관리하도록 활성화, 사용자명 인덱스로 여러 인스턴스의 세션을 조회할 수 있도록 인덱스 저장소 사용
+@EnableRedisIndexedHttpSession
 public class RedisConfig implements BeanClassLoaderAware {
 
 	private ClassLoader loader;
 
+	/**
+	 * 인덱스 세션 저장소가 시작할 때 CONFIG SET notify-keyspace-events 를 실행하지 않도록 합니다.
+	 * 관리형 Redis 처럼 CONFIG 명령을 막아 둔 서버에서도 시작할 수 있고, 운영 중인 서버 설정을 애플리케이션이 바꾸지 않습니다.
+	 * 세션 만료/삭제 이벤트가 필요하면 Redis 서버에 notify-keyspace-events=Egx 를 직접 설정해야 합니다.
+	 * 
+	 * @return 아무것도 하지 않는 Redis 설정 동작
+	 */
+	@Bean
+	public static ConfigureRedisAction configureRedisAction() {
+		return ConfigureRedisAction.NO_OP;
+	}
+
 	/**
 	 * Spring Session에서 기본적으로 사용하는 Redis Serializer를 정의합니다.
-	 * 이 Serializer는 세션 객체를 Redis에 저장할 때 JSON 형식으로 직렬화하여 저장합니다.
+	 * 자주 쓰이는 세션 값(SecurityContext, 조회한 게시물 목록, 세션 시간 값 등)은 바이너리 형식으로,
+	 * 그 밖의 값은 JSON 형식으로 직렬화하여 저장합니다.
+	 * 설정에 따라 JSON 으로 저장된 기존 세션 값도 읽을 수 있습니다.
 	 * 
-	 * @return RedisSerializer<Object> - 세션을 Redis에 저장할 때 JSON 형식으로 직렬화하기 위한
-	 *         Serializer
+	 * @param sessionProperties 세션 저장 설정값
+	 * @return RedisSerializer<Object> - 세션을 Redis에 저장할 때 사용할 Serializer
 	 */
 	@Bean
-	public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
-		return new GenericJackson2JsonRedisSerializer(objectMapper()); // ObjectMapper를 이용하여 JSON 형식으로 직렬화
+	public RedisSerializer<Object> springSessionDefaultRedisSerializer(SessionProperties sessionProperties) {
+		return new CompactSessionSerializer(new GenericJackson2JsonRedisSerializer(objectMapper()),
+				sessionProperties.isWriteCompact(), sessionProperties.isReadLegacyJson());
 	}
 
 	/**
@@ -81,12 +100,23 @@ public class RedisConfig implements BeanClassLoaderAware {
 	 * @return ObjectMapper - 직렬화 및 역직렬화를 위한 설정된 ObjectMapper
 	 */
 	private ObjectMapper objectMapper() {
+		return createObjectMapper(this.loader);
+	}
+
+	/**
+	 * 세션 값의 JSON 직렬화에 사용하는 ObjectMapper를 생성합니다.
+	 * 벤치마크처럼 스프링 컨텍스트 밖에서도 같은 설정을 사용할 수 있도록 분리합니다.
+	 * 
+	 * @param loader Spring Security 모듈을 불러올 ClassLoader
+	 * @return ObjectMapper - 직렬화 및 역직렬화를 위한 설정된 ObjectMapper
+	 */
+	public static ObjectMapper createObjectMapper(ClassLoader loader) {
 		ObjectMapper objectMapper = new ObjectMapper();
 		// 기본 타입 활성화 설정을 통해 객체 타입 정보를 유지하여 역직렬화 시 올바른 타입을 확인 가능하도록 설정
 		objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
 				JsonTypeInfo.As.PROPERTY);
 		// Spring Security 모듈을 ObjectMapper에 등록하여 보안 관련 객체도 직렬화 및 역직렬화 가능하도록 설정
-		objectMapper.registerModules(SecurityJackson2Modules.getModules(this.loader));
+		objectMapper.registerModules(SecurityJackson2Modules.getModules(loader));
 
 		return objectMapper;
 	}
@@ -0,0 +1,32 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Redis 장애 시 동작 설정값
+ * 명령 응답 대기 시간은 spring.data.redis.timeout 으로 설정합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.redis")
+public class RedisResilienceProperties {
+    /**
+     * Redis 호출을 막기 시작하는 연속 실패 횟수
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Redis 호출을 막은 뒤 다시 시도하기까지의 시간
+     */
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /**
+     * Redis 장애 중 로컬에 보관할 최대 세션 수 (넘으면 가장 오래 사용하지 않은 세션부터 제거)
+     */
+    private int localMaxSessions = 10000;
+}
@@ -1,21 +1,44 @@
 package shop.samgak.mini_board.config;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.session.ChangeSessionIdAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.CompositeSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.ConcurrentSessionControlAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.security.AdminAuthorities;
+import shop.samgak.mini_board.security.AnonymousReadRequestMatcher;
+import shop.samgak.mini_board.security.BoundedPasswordEncoder;
+import shop.samgak.mini_board.security.CalibratedBCryptPasswordEncoder;
+import shop.samgak.mini_board.security.TokenAuthenticationFilter;
+import shop.samgak.mini_board.security.TokenService;
 import shop.samgak.mini_board.security.UnauthenticationEntryPoint;
 import shop.samgak.mini_board.security.CustomAuthenticationProvider;
 
@@ -34,24 +57,69 @@ public class SecurityConfig {
         private final UnauthenticationEntryPoint unauthenticationEntryPoint;
         // 커스텀 인증 로직을 처리할 Custom Authentication Provider
         private final CustomAuthenticationProvider customAuthenticationProvider;
+        // 비밀번호 해시 전용 스레드 풀 설정
+        private final PasswordHashProperties passwordHashProperties;
+        private final MeterRegistry meterRegistry;
+        // 자동 결정한 bcrypt 비용 값을 클러스터에서 공유하는 데 사용
+        private final StringRedisTemplate stringRedisTemplate;
+        // 서명된 토큰 인증 설정
+        private final TokenProperties tokenProperties;
+        private final TokenService tokenService;
+
+        @Bean
+        @Order(1)
+        public SecurityFilterChain publicReadFilterChain(HttpSecurity http,
+                        @Value("${server.servlet.session.cookie.name:SESSION}") String sessionCookieName)
+                        throws Exception {
+                // 세션 쿠키와 토큰이 없는 게시물/댓글/이미지 조회 요청만 처리하는 가벼운 필터 체인
+                // 인증 규칙은 기본 체인과 같이 인증을 요구하지만, 세션을 만들거나 불러오지 않고 401 로 응답하므로
+                // 익명 요청과 크롤러는 Redis 에 아무것도 기록하지 않음
+                http.securityMatcher(new AnonymousReadRequestMatcher(sessionCookieName))
+                                .csrf(csrf -> csrf.disable())
+                                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                                .exceptionHandling(exceptionHandling -> exceptionHandling
+                                                .authenticationEntryPoint(unauthenticationEntryPoint))
+                                .sessionManagement(session -> session
+                                                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                                // 인증 정보를 요청 범위에만 보관
+                                .securityContext(securityContext -> securityContext
+                                                .securityContextRepository(
+                                                                new RequestAttributeSecurityContextRepository()))
+                                // 요청을 세션에 저장하지 않음
+                                .requestCache(requestCache -> requestCache.disable())
+                                .formLogin(form -> form.disable())
+                                .httpBasic(httpBasic -> httpBasic.disable())
+                                .logout(logout -> logout.disable());
+                return http.build();
+        }
 
         @Bean
-        public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        @Order(2)
+        public SecurityFilterChain filterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception {
                 // CSRF 보호 비활성화 (주로 상태 없는 API에 사용)
                 http.csrf(csrf -> csrf.disable())
                                 // 권한 설정 구성
                                 .authorizeHttpRequests(authorize -> authorize
+                                                // 상태 확인은 로드 밸런서가 인증 없이 호출하므로 허용
+                                                .requestMatchers("/actuator/health", "/actuator/health/**")
+                                                .permitAll()
+                                                // 그 밖의 actuator 엔드포인트(설정값, JFR 기록 등)는 관리자만 허용
+                                                .requestMatchers("/actuator/**")
+                                                .hasAuthority(AdminAuthorities.ROLE_ADMIN)
                                                 // 특정 엔드포인트는 모든 사용자에게 접근 허용 (예: 로그인, 회원가입, Swagger 문서)
                                                 .requestMatchers("/api/auth/login",
+                                                                "/api/auth/refresh",
                                                                 "/api/users/check/**",
                                                                 "/api/users/register",
                                                                 "/swagger-ui/**",
                                                                 "/v3/api-docs/swagger-config",
                                                                 "/v3/api-docs",
                                                                 "/sessions",
-                                                                "/sessions-redis",
-                                                                "/actuator/**")
+                                                                "/sessions-redis")
                                                 .permitAll() // 이 엔드포인트들은 인증 없이 접근 가능
+                                                // 전체 사용자 목록 조회와 내보내기는 관리자만 허용
+                                                .requestMatchers("/api/users/list", "/api/users/export")
+                                                .hasAuthority(AdminAuthorities.ROLE_ADMIN)
                                                 .anyRequest().authenticated()) // 그 외의 모든 요청은 인증 필요
                                 // 인증되지 않은 접근 시 커스텀 엔트리 포인트 사용
                                 .exceptionHandling(exceptionHandling -> exceptionHandling
@@ -62,14 +130,25 @@ public class SecurityConfig {
                                 .logout(logout -> logout.disable())
                                 // 세션 관리 설정
                                 .sessionManagement(session -> {
+                                        if (tokenProperties.isStateless()) {
+                                                // 토큰 인증 모드에서는 세션을 만들거나 조회하지 않음
+                                                session.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+                                                return;
+                                        }
                                         // 사용자당 최대 세션 수 1로 제한
                                         session.maximumSessions(1)
-                                                        .sessionRegistry(sessionRegistry()); // 세션을 추적하기 위해 커스텀 세션 레지스트리
+                                                        .sessionRegistry(sessionRegistry); // 세션을 추적하기 위해 커스텀 세션 레지스트리
                                                                                              // 사용
                                         // 세션 생성 정책 설정 (필요 시 세션 생성)
                                         session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED);
                                 });
 
+                if (tokenProperties.isStateless()) {
+                        // 접근 토큰의 클레임으로 인증 정보를 만드는 필터 등록
+                        http.addFilterBefore(new TokenAuthenticationFilter(tokenService),
+                                        UsernamePasswordAuthenticationFilter.class);
+                }
+
                 return http.build();
         }
 
@@ -87,14 +166,34 @@ public class SecurityConfig {
 
         @Bean
         public PasswordEncoder passwordEncoder() {
-                // 여러 인코딩 유형을 지원하는 DelegatingPasswordEncoder 사용
-                return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+                // 새 비밀번호는 측정한 비용 값(클러스터에서 먼저 기록된 값)의 bcrypt 로 저장
+                CalibratedBCryptPasswordEncoder bcrypt = CalibratedBCryptPasswordEncoder
+                                .create(passwordHashProperties, stringRedisTemplate);
+                DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt",
+                                Map.of("bcrypt", bcrypt));
+                // bcrypt 이외의 형식으로 저장된 기존 비밀번호는 기본 DelegatingPasswordEncoder 로 확인
+                delegating.setDefaultPasswordEncoderForMatches(
+                                PasswordEncoderFactories.createDelegatingPasswordEncoder());
+                // 해시 계산은 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 수행
+                return new BoundedPasswordEncoder(delegating, passwordHashProperties, meterRegistry);
+        }
+
+        @Bean
+        public <S extends Session> SpringSessionBackedSessionRegistry<S> sessionRegistry(
+                        FindByIndexNameSessionRepository<S> sessionRepository) {
+                // Redis 사용자명 인덱스로 모든 인스턴스의 세션을 추적하는 빈
+                return new SpringSessionBackedSessionRegistry<>(sessionRepository);
         }
 
         @Bean
-        public SessionRegistry sessionRegistry() {
-                // 동시성 제어를 위해 세션을 추적하는 빈
-                return new SessionRegistryImpl();
+        public SessionAuthenticationStrategy sessionAuthenticationStrategy(SessionRegistry sessionRegistry) {
+                // 로그인 시 사용자당 최대 세션 수 1을 넘는 기존 세션을 만료시키고 세션 ID를 변경
+                ConcurrentSessionControlAuthenticationStrategy concurrentSessionControl = new ConcurrentSessionControlAuthenticationStrategy(
+                                sessionRegistry);
+                concurrentSessionControl.setMaximumSessions(1);
+                return new CompositeSessionAuthenticationStrategy(List.of(concurrentSessionControl,
+                                new ChangeSessionIdAuthenticationStrategy(),
+                                new RegisterSessionAuthenticationStrategy(sessionRegistry)));
         }
 
         @Bean
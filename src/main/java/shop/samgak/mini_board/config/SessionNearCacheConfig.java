@@ -0,0 +1,65 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import shop.samgak.mini_board.session.NearCacheSessionRepository;
+
+/**
+ * 세션 로컬 캐시를 설정합니다.
+ * shop.samgak.mini-board.session.nearCache.enabled=true 일 때만 등록되며 (기본값 false, 제약은 SessionProperties 참고),
+ * 등록되면 Spring Session 이 만든 Redis 세션 저장소 대신 이 저장소를 SessionResilienceConfig 의 장애 대응 저장소가 감쌉니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shop.samgak.mini-board.session.near-cache", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class SessionNearCacheConfig {
+
+	/**
+	 * 로컬 캐시를 둔 세션 저장소를 정의합니다.
+	 * 세션 해시의 값은 직렬화된 바이트 그대로 읽고 쓰며, 직렬화는 Spring Session 과 같은 Serializer 를 사용합니다.
+	 * 
+	 * @param connectionFactory Redis 연결을 위한 ConnectionFactory
+	 * @param sessionSerializer Spring Session 값 Serializer
+	 * @param sessionProperties 세션 저장 설정값
+	 * @return 로컬 캐시를 둔 세션 저장소
+	 */
+	@Bean
+	public NearCacheSessionRepository nearCacheSessionRepository(RedisConnectionFactory connectionFactory,
+			@Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> sessionSerializer,
+			SessionProperties sessionProperties) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(RedisSerializer.byteArray());
+		template.afterPropertiesSet();
+		return new NearCacheSessionRepository(template, sessionSerializer, sessionProperties.getNearCache());
+	}
+
+	/**
+	 * 다른 인스턴스가 보낸 세션 무효화 메시지를 받는 리스너 컨테이너를 정의합니다.
+	 * 
+	 * @param connectionFactory          Redis 연결을 위한 ConnectionFactory
+	 * @param nearCacheSessionRepository 메시지를 받아 캐시를 비울 세션 저장소
+	 * @param sessionProperties          세션 저장 설정값
+	 * @return 리스너 컨테이너
+	 */
+	@Bean
+	public RedisMessageListenerContainer sessionInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+			NearCacheSessionRepository nearCacheSessionRepository, SessionProperties sessionProperties) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(nearCacheSessionRepository,
+				new ChannelTopic(sessionProperties.getNearCache().getChannel()));
+		return container;
+	}
+}
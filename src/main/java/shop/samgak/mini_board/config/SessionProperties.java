@@ -0,0 +1,66 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Redis 세션 저장 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.session")
+public class SessionProperties {
+    /**
+     * 세션 값을 바이너리 형식으로 기록할지 여부 (false 이면 JSON 으로 기록)
+     * 바이너리 형식을 읽지 못하는 인스턴스가 남아 있으면 세션을 읽을 수 없으므로 기본값은 false 이며,
+     * 모든 인스턴스가 두 형식을 읽을 수 있게 배포된 뒤에 true 로 전환합니다.
+     */
+    private boolean writeCompact = false;
+
+    /**
+     * JSON 으로 기록된 기존 세션 값을 읽을지 여부
+     * 기존 세션이 모두 만료된 뒤에는 false 로 두어 바이너리 형식만 허용할 수 있습니다.
+     */
+    private boolean readLegacyJson = true;
+
+    /**
+     * 세션 로컬 캐시 설정
+     */
+    private NearCache nearCache = new NearCache();
+
+    @Data
+    public static class NearCache {
+        /**
+         * 로컬 캐시 사용 여부 (기본값 false)
+         * 켜면 RedisIndexedSessionRepository 를 거치지 않고 세션을 기록하므로 만료 키(expirations/expires)를 남기지 않아
+         * 세션 만료/삭제 이벤트가 발생하지 않고, 사용자명 인덱스에 만료 시간이 없으며,
+         * 마지막 접근 시간 기록을 미루는 동안 Redis 의 세션이 일찍 만료될 수 있습니다.
+         * 세션 만료 이벤트와 동시 세션 제어에 의존하지 않는 환경에서만 켜야 합니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 세션 데이터 유지 시간 (무효화 메시지를 놓친 경우 다른 인스턴스의 변경이 반영되기까지의 최대 시간)
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * 최대 세션 수
+         */
+        private int maxEntries = 10000;
+
+        /**
+         * 마지막 접근 시간만 바뀐 경우 Redis 에 다시 기록하기까지의 최소 간격
+         */
+        private Duration touchInterval = Duration.ofSeconds(10);
+
+        /**
+         * 세션 변경을 알리는 pub/sub 채널
+         */
+        private String channel = "mini-board:session:invalidate";
+    }
+}
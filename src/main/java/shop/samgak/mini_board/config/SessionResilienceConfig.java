@@ -0,0 +1,61 @@
+package shop.samgak.mini_board.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import shop.samgak.mini_board.session.NearCacheSessionRepository;
+import shop.samgak.mini_board.session.ResilientSessionRepository;
+import shop.samgak.mini_board.utility.CircuitBreaker;
+
+/**
+ * Redis 장애 시에도 요청 처리 스레드가 Redis 응답을 기다리며 멈추지 않도록 세션 저장소와 Redis 호출을 감쌉니다.
+ * SessionRepositoryFilter 와 세션 레지스트리는 @Primary 로 등록한 ResilientSessionRepository 를 사용합니다.
+ */
+@Configuration
+public class SessionResilienceConfig {
+
+	/**
+	 * 세션 저장소의 Redis 호출에 사용하는 회로 차단기를 정의합니다.
+	 * 
+	 * @param properties    Redis 장애 시 동작 설정값
+	 * @param meterRegistry 차단기 상태를 기록할 MeterRegistry
+	 * @return 회로 차단기
+	 */
+	@Bean
+	public CircuitBreaker redisCircuitBreaker(RedisResilienceProperties properties, MeterRegistry meterRegistry) {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("redis", properties.getFailureThreshold(),
+				properties.getOpenDuration());
+		meterRegistry.gauge("redis.circuit.open", circuitBreaker, breaker -> breaker.isClosed() ? 0 : 1);
+		return circuitBreaker;
+	}
+
+	/**
+	 * 장애 시 로컬 세션 저장소로 대신 처리하는 세션 저장소를 정의합니다.
+	 * 세션 로컬 캐시가 켜져 있으면 로컬 캐시를 둔 저장소를, 아니면 Spring Session 의 Redis 세션 저장소를 감쌉니다.
+	 * 
+	 * @param redisIndexedSessionRepository Spring Session 의 Redis 세션 저장소
+	 * @param nearCacheSessionRepository    로컬 캐시를 둔 세션 저장소 (설정에 따라 없음)
+	 * @param redisCircuitBreaker           Redis 호출 회로 차단기
+	 * @param properties                    Redis 장애 시 동작 설정값
+	 * @param meterRegistry                 Redis 호출 시간을 기록할 MeterRegistry
+	 * @return 장애 대응 세션 저장소
+	 */
+	@Bean
+	@Primary
+	public ResilientSessionRepository resilientSessionRepository(
+			RedisIndexedSessionRepository redisIndexedSessionRepository,
+			ObjectProvider<NearCacheSessionRepository> nearCacheSessionRepository,
+			CircuitBreaker redisCircuitBreaker, RedisResilienceProperties properties, MeterRegistry meterRegistry) {
+		FindByIndexNameSessionRepository<?> redisRepository = nearCacheSessionRepository.getIfAvailable();
+		if (redisRepository == null) {
+			redisRepository = redisIndexedSessionRepository;
+		}
+		return new ResilientSessionRepository(redisRepository, redisCircuitBreaker, properties.getLocalMaxSessions(),
+				meterRegistry);
+	}
+}
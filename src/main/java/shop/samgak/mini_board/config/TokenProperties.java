@@ -0,0 +1,42 @@
+package shop.samgak.mini_board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 서명된 토큰 인증 설정값
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "shop.samgak.mini-board.token")
+public class TokenProperties {
+    /**
+     * true 이면 세션 대신 서명된 토큰으로 인증
+     */
+    private boolean stateless = false;
+
+    /**
+     * HMAC-SHA 서명 키 (Base64, 최소 256비트)
+     * 모든 인스턴스가 같은 값을 사용해야 하며, stateless 가 true 인데 비어 있으면 시작하지 않습니다.
+     */
+    private String secret = "";
+
+    /**
+     * 토큰 발급자
+     */
+    private String issuer = "mini-board";
+
+    /**
+     * 접근 토큰 유효 시간
+     */
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    /**
+     * 갱신 토큰 유효 시간
+     */
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+}
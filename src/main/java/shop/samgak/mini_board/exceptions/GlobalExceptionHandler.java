@@ -4,7 +4,10 @@ import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -20,6 +23,8 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import shop.samgak.mini_board.user.entities.User;
+import shop.samgak.mini_board.utility.ApiAlreadyUsedResponse;
 import shop.samgak.mini_board.utility.ApiExceptionResponse;
 import shop.samgak.mini_board.utility.ApiFailureResponse;
 import shop.samgak.mini_board.utility.ApiResponse;
@@ -155,6 +160,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ApiExceptionResponse(e));
     }
 
+    /**
+     * 조건부 요청의 버전이 일치하지 않는 경우 처리
+     * 
+     * @param e 버전 불일치 예외
+     * @return 오류 메시지와 HTTP 412 상태 코드
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse> handlePreconditionFailedException(PreconditionFailedException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ApiExceptionResponse(e));
+    }
+
+    /**
+     * 서버 용량 초과로 요청을 거절하는 경우 처리
+     * 
+     * @param e 서버 과부하 예외
+     * @return 오류 메시지와 HTTP 503 상태 코드, Retry-After 헤더
+     */
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ApiResponse> handleServerBusyException(ServerBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ApiExceptionResponse(e));
+    }
+
     /**
      * 메시지를 읽을 수 없는 경우 처리 (예: JSON 파싱 오류)
      * 
@@ -234,6 +263,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.internalServerError().body(new ApiExceptionResponse(e));
     }
 
+    /**
+     * 데이터 무결성 위반 처리
+     * 사용자명/이메일 고유 제약 위반(예: 다른 인스턴스에서 먼저 가입한 사용자명/이메일)만 409 로 응답하고,
+     * 외래 키/NOT NULL 등 다른 위반은 서버 오류로 처리합니다.
+     * 
+     * @param e 데이터 무결성 위반 예외
+     * @return 사용 중 메시지와 HTTP 409 상태 코드, 또는 예외 메시지와 HTTP 500 상태 코드
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        String constraintName = findConstraintName(e);
+        if (User.UK_USERNAME.equalsIgnoreCase(constraintName)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiAlreadyUsedResponse("Username is already in use"));
+        }
+        if (User.UK_EMAIL.equalsIgnoreCase(constraintName)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiAlreadyUsedResponse("Email is already in use"));
+        }
+        return ResponseEntity.internalServerError().body(new ApiExceptionResponse(e));
+    }
+
+    /**
+     * 원인 예외에서 위반된 제약 조건 이름을 찾아 스키마 이름을 뗀 값으로 반환
+     * (Oracle 은 "SAMGAK.UK_USERNAME" 형식으로 알려줌)
+     */
+    private static String findConstraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName();
+                return name.substring(name.lastIndexOf('.') + 1);
+            }
+        }
+        return null;
+    }
+
     /**
      * 
      * @param e DB 조회 오류
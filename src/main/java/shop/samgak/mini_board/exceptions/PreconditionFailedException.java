@@ -0,0 +1,19 @@
+package shop.samgak.mini_board.exceptions;
+
+/**
+ * 조건부 요청(If-Match)의 버전이 현재 리소스 버전과 다를 때 발생하는 예외.
+ * 
+ * <p>
+ * 다른 요청이 먼저 리소스를 수정하거나 삭제하여 클라이언트가 가진 버전이 오래된 경우에 사용됩니다.
+ * </p>
+ */
+public class PreconditionFailedException extends RuntimeException {
+    /**
+     * 예외 메시지를 포함하는 생성자.
+     * 
+     * @param message 예외 원인 메시지
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package shop.samgak.mini_board.exceptions;
+
+import lombok.Getter;
+
+/**
+ * 서버가 처리 가능한 용량을 넘어 요청을 바로 거절할 때 발생하는 예외.
+ * 
+ * <p>
+ * 예를 들어, 로그인이 몰려 비밀번호 해시 계산 대기열이 가득 찬 경우 사용됩니다.
+ * </p>
+ */
+@Getter
+public class ServerBusyException extends RuntimeException {
+    /**
+     * 클라이언트에게 안내할 재시도 대기 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * 예외 메시지와 재시도 대기 시간을 포함하는 생성자.
+     * 
+     * @param message           예외 원인 메시지
+     * @param retryAfterSeconds 재시도 대기 시간 (초)
+     */
+    public ServerBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
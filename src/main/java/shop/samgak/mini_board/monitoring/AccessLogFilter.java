@@ -0,0 +1,156 @@
+package shop.samgak.mini_board.monitoring;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import shop.samgak.mini_board.config.AccessLogProperties;
+
+/**
+ * 요청마다 한 줄짜리 JSON 접근 로그를 남기는 필터
+ * 엔드포인트별 비율로 기록할 요청을 먼저 고른 뒤에만 로그 문자열을 만들고, 5xx 응답과 느린 요청은 항상 기록합니다.
+ * 쿼리 파라미터 중 비밀번호, 토큰 같은 값은 *** 로 가립니다.
+ *
+ * 로그는 shop.samgak.mini_board.access 로거로 남기며, logback-spring.xml 에서 비동기 appender 로 출력하므로
+ * 요청 처리 스레드는 출력을 기다리지 않습니다.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String LOGGER_NAME = "shop.samgak.mini_board.access";
+    private static final Logger accessLog = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final long slowThresholdNanos;
+    private final Set<String> redactParameters;
+
+    /**
+     * @param properties 접근 로그 설정값
+     */
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.defaultSampleRate = properties.getDefaultSampleRate();
+        this.sampleRates = Map.copyOf(properties.getSampleRates());
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.redactParameters = properties.getRedactParameters().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (accessLog.isInfoEnabled()) {
+                log(request, response, System.nanoTime() - start, failure);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long nanos, Throwable failure) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : null;
+        // 처리되지 않은 예외는 컨테이너가 500 으로 응답
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+
+        double sampleRate = 1.0;
+        if (status < 500 && nanos < slowThresholdNanos) {
+            sampleRate = uri != null ? sampleRates.getOrDefault(uri, defaultSampleRate) : defaultSampleRate;
+            if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+                return;
+            }
+        }
+
+        StringBuilder line = new StringBuilder(256);
+        line.append("{\"time\":").append(System.currentTimeMillis());
+        line.append(",\"method\":");
+        appendString(line, request.getMethod());
+        line.append(",\"uri\":");
+        appendString(line, uri);
+        line.append(",\"path\":");
+        appendString(line, request.getRequestURI());
+        String query = request.getQueryString();
+        if (query != null) {
+            line.append(",\"query\":\"");
+            appendRedactedQuery(line, query);
+            line.append('"');
+        }
+        line.append(",\"status\":").append(status);
+        line.append(",\"durationUs\":").append(nanos / 1_000);
+        line.append(",\"remote\":");
+        appendString(line, request.getRemoteAddr());
+        if (failure != null) {
+            line.append(",\"error\":");
+            appendString(line, failure.getClass().getName());
+        }
+        // 집계 시 1 / sampleRate 를 곱하면 전체 요청 수를 추정할 수 있음
+        line.append(",\"sampleRate\":").append(sampleRate).append('}');
+        accessLog.info(line.toString());
+    }
+
+    /**
+     * 가릴 파라미터의 값만 *** 로 바꿔 쿼리 문자열을 그대로 기록
+     */
+    private void appendRedactedQuery(StringBuilder line, String query) {
+        int start = 0;
+        while (start <= query.length()) {
+            int end = query.indexOf('&', start);
+            if (end == -1) {
+                end = query.length();
+            }
+            if (start > 0) {
+                line.append('&');
+            }
+            int equals = query.indexOf('=', start);
+            if (equals != -1 && equals < end
+                    && redactParameters.contains(query.substring(start, equals).toLowerCase(Locale.ROOT))) {
+                appendEscaped(line, query, start, equals + 1);
+                line.append("***");
+            } else {
+                appendEscaped(line, query, start, end);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        appendEscaped(line, value, 0, value.length());
+        line.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder line, String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
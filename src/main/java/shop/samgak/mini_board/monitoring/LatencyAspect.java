@@ -0,0 +1,63 @@
+package shop.samgak.mini_board.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB(Spring Data 리포지토리)와 첨부 파일 I/O 호출 시간을 각각 latency.db, latency.file 타이머에 기록하는 Aspect
+ * 서비스 메서드 전체 시간은 @Timed 로 latency.service 에, Redis 세션 호출은 ResilientSessionRepository 가
+ * latency.redis 에, 비밀번호 해시는 BoundedPasswordEncoder 가 password.hash.duration 에 기록합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LatencyAspect {
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("latency.db", "repository", repositoryName(joinPoint), joinPoint);
+    }
+
+    @Around("execution(* shop.samgak.mini_board.post.services.PostFileService.readFile(..))"
+            + " || execution(* shop.samgak.mini_board.post.services.PostFileService.writePostFile(..))"
+            + " || execution(* shop.samgak.mini_board.post.services.PostFileService.deleteFile(..))")
+    public Object timeFileIo(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("latency.file", "class", "PostFileService", joinPoint);
+    }
+
+    private Object time(String name, String typeTag, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag(typeTag, type)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * save, findById 처럼 상위 인터페이스에 선언된 메서드도 실제 리포지토리 이름으로 구분
+     */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith("shop.samgak.mini_board.")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -0,0 +1,139 @@
+package shop.samgak.mini_board.monitoring;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청/서비스/DB/Redis/파일 I/O/비밀번호 해시 타이머의 백분위와 SLO 구간별 비율을 한곳에서 보여주는 actuator 엔드포인트
+ * /actuator/latency 는 전체, /actuator/latency/{name} 은 타이머 하나(예: latency.db)를 보여줍니다.
+ *
+ * 백분위는 management.metrics.distribution.percentiles, SLO 구간은 management.metrics.distribution.slo 설정을 따릅니다.
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+    private static final List<String> TIMER_PREFIXES = List.of("http.server.requests", "latency.",
+            "password.hash.duration", "jdbc.request.time");
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsProperties metricsProperties;
+
+    @ReadOperation
+    public Map<String, List<TimerSummary>> latency() {
+        Map<String, List<TimerSummary>> timers = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            if (meter instanceof Timer timer && TIMER_PREFIXES.stream().anyMatch(name::startsWith)) {
+                timers.computeIfAbsent(name, key -> new ArrayList<>()).add(summarize(timer));
+            }
+        }
+        return timers;
+    }
+
+    @ReadOperation
+    public List<TimerSummary> latency(@Selector String name) {
+        return meterRegistry.find(name).timers().stream().map(this::summarize).toList();
+    }
+
+    private TimerSummary summarize(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : timer.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            // 0.99 * 100 이 98.99999999999999 가 되지 않도록 소수 첫째 자리에서 반올림 (p99, p99.9)
+            percentiles.put("p" + trim(Math.round(value.percentile() * 1000) / 10.0),
+                    value.value(TimeUnit.MILLISECONDS));
+        }
+        return new TimerSummary(tags, snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS), percentiles, sloBuckets(timer.getId().getName(), snapshot));
+    }
+
+    /**
+     * 히스토그램 구간 중 SLO 로 설정한 경계만 골라 그 시간 안에 끝난 요청 수와 비율을 계산
+     */
+    private Map<String, SloBucket> sloBuckets(String name, HistogramSnapshot snapshot) {
+        ServiceLevelObjectiveBoundary[] boundaries = lookup(metricsProperties.getDistribution().getSlo(), name);
+        Map<String, SloBucket> buckets = new LinkedHashMap<>();
+        if (boundaries == null) {
+            return buckets;
+        }
+        for (ServiceLevelObjectiveBoundary boundary : boundaries) {
+            Double nanos = boundary.getValue(Meter.Type.TIMER);
+            if (nanos == null) {
+                continue;
+            }
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                if (Math.abs(bucket.bucket() - nanos) < 1) {
+                    double ratio = snapshot.count() == 0 ? 0 : bucket.count() / snapshot.count();
+                    buckets.put(format(Duration.ofNanos(nanos.longValue())), new SloBucket(bucket.count(), ratio));
+                    break;
+                }
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * 메터 이름부터 점(.) 단위로 짧게 줄여가며 찾고, 없으면 all 설정 사용 (Spring Boot 의 설정 적용 방식과 같음)
+     */
+    private static <T> T lookup(Map<String, T> values, String name) {
+        String candidate = name;
+        while (!candidate.isEmpty()) {
+            T value = values.get(candidate);
+            if (value != null) {
+                return value;
+            }
+            int lastDot = candidate.lastIndexOf('.');
+            candidate = lastDot == -1 ? "" : candidate.substring(0, lastDot);
+        }
+        return values.get("all");
+    }
+
+    private static String format(Duration duration) {
+        return duration.toMillis() >= 1000 && duration.toMillis() % 1000 == 0 ? duration.toSeconds() + "s"
+                : trim(duration.toNanos() / 1_000_000.0) + "ms";
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    /**
+     * 시간 값은 밀리초 단위
+     */
+    public record TimerSummary(Map<String, String> tags, long count, double mean, double max,
+            Map<String, Double> percentiles, Map<String, SloBucket> slo) {
+    }
+
+    /**
+     * @param count 경계 시간 안에 끝난 요청 수 (애플리케이션 시작 이후 누적)
+     * @param ratio 전체 요청 중 비율
+     */
+    public record SloBucket(double count, double ratio) {
+    }
+}
@@ -0,0 +1,64 @@
+package shop.samgak.mini_board.monitoring;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행한 JDBC 문장 통계
+ * 요청 처리 스레드에서만 기록하므로 동기화하지 않습니다.
+ */
+public class QueryStatistics {
+    private int statements;
+    private long rows;
+    private long dbNanos;
+    // 같은 SQL 이 반복 실행되는지 확인하기 위한 SQL 별 실행 횟수
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    /**
+     * 문장 실행 하나를 기록합니다.
+     *
+     * @param sql   실행한 SQL (PreparedStatement 는 파라미터 자리표시자가 남은 SQL)
+     * @param nanos 실행 시간
+     */
+    public void recordStatement(String sql, long nanos) {
+        statements++;
+        dbNanos += nanos;
+        if (sql != null) {
+            executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * @param nanos ResultSet 을 읽는 데 걸린 시간
+     */
+    public void recordRow(long nanos) {
+        rows++;
+        dbNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * @param threshold 반복으로 볼 최소 실행 횟수
+     * @return threshold 번 이상 실행한 SQL 과 실행 횟수, 많이 실행한 순
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executions.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+}
@@ -0,0 +1,188 @@
+package shop.samgak.mini_board.monitoring;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.QueryMonitoringProperties;
+
+/**
+ * 요청마다 JDBC 문장 수, 읽은 행 수, DB 시간을 모아 엔드포인트별 지표로 기록하는 필터
+ * 같은 SQL 이 반복 실행되면 N+1 로 의심하여 경고하고, 설정에 따라 요청을 실패시킵니다.
+ *
+ * 응답 헤더 추가와 N+1 실패 처리는 본문을 쓰기 시작하기 직전에 하므로 본문을 쓰기 전까지의 통계를 사용합니다.
+ * 요청을 실패시킬 때도 응답이 아직 커밋되지 않았으므로 200 응답 뒤에 예외가 나는 일이 없습니다.
+ * open-in-view 를 끄고 있어 본문 직렬화 중에는 쿼리가 실행되지 않습니다.
+ */
+@Slf4j
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private final QueryMonitoringProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+
+    /**
+     * @param properties    통계 설정값
+     * @param meterRegistry 지표를 기록할 MeterRegistry
+     * @param exposeHeaders 응답 헤더로 통계를 내려줄지 여부
+     */
+    public QueryStatisticsFilter(QueryMonitoringProperties properties, MeterRegistry meterRegistry,
+            boolean exposeHeaders) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = QueryStatisticsHolder.start();
+        BeforeCommitResponse wrappedResponse = exposeHeaders || properties.isFailOnRepeat()
+                ? new BeforeCommitResponse(response, request, statistics)
+                : null;
+        try {
+            filterChain.doFilter(request, wrappedResponse != null ? wrappedResponse : response);
+            if (wrappedResponse != null) {
+                // 본문 없이 끝난 응답(304 등)
+                wrappedResponse.beforeCommit();
+            }
+        } finally {
+            QueryStatisticsHolder.clear();
+            record(request, statistics);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private void record(HttpServletRequest request, QueryStatistics statistics) {
+        String uri = uri(request);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder("jdbc.request.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("jdbc.request.rows")
+                .description("JDBC rows fetched per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("jdbc.request.time")
+                .description("Time spent in JDBC per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getDbNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getStatements() > properties.getStatementBudget()) {
+            log.warn("Request [{} {}] executed {} statements, budget is {}", request.getMethod(), uri,
+                    statistics.getStatements(), properties.getStatementBudget());
+        }
+        Map<String, Integer> repeated = statistics.getRepeatedStatements(properties.getRepeatThreshold());
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter.builder("jdbc.request.repeated")
+                .description("HTTP requests that executed an identical statement repeatedly (possible N+1)")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Possible N+1 in [{} {}]: {}", request.getMethod(), uri, repeated);
+    }
+
+    /**
+     * 본문을 쓰기 시작하거나 오류/리다이렉트로 응답을 끝내기 전에 통계 헤더를 추가하고 N+1 여부를 확인하는 응답 래퍼
+     */
+    private class BeforeCommitResponse extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private final QueryStatistics statistics;
+        private boolean checked;
+
+        BeforeCommitResponse(HttpServletResponse response, HttpServletRequest request, QueryStatistics statistics) {
+            super(response);
+            this.request = request;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit();
+            super.sendRedirect(location);
+        }
+
+        /**
+         * 본문 없이 끝난 응답(304 등)은 필터에서 마지막에 호출
+         * 예외로 요청을 실패시킨 뒤 오류 응답을 쓸 때는 다시 확인하지 않습니다.
+         */
+        void beforeCommit() {
+            if (checked || isCommitted()) {
+                return;
+            }
+            checked = true;
+            if (exposeHeaders) {
+                setHeader(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+                setHeader(ROWS_HEADER, String.valueOf(statistics.getRows()));
+                setHeader(TIME_HEADER, String.format("%.3f", statistics.getDbNanos() / 1_000_000.0));
+            }
+            if (properties.isFailOnRepeat()) {
+                Map<String, Integer> repeated = statistics.getRepeatedStatements(properties.getRepeatThreshold());
+                if (!repeated.isEmpty()) {
+                    throw new IllegalStateException(String.format("Possible N+1 in [%s %s]: %s",
+                            request.getMethod(), uri(request), repeated));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package shop.samgak.mini_board.monitoring;
+
+/**
+ * 현재 요청 처리 스레드의 JDBC 문장 통계를 보관합니다.
+ * QueryStatisticsFilter 가 요청 시작 시 만들고 끝나면 지우며, 요청 밖(스케줄러 등)에서 실행한 문장은 기록하지 않습니다.
+ */
+public final class QueryStatisticsHolder {
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryStatisticsHolder() {
+    }
+
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * @return 현재 요청의 통계, 요청 밖이면 null
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,116 @@
+package shop.samgak.mini_board.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * JDBC 문장 실행 수, 읽은 행 수, DB 시간을 현재 요청의 QueryStatistics 에 기록하는 DataSource
+ * 연결이 만든 Statement 와 그 ResultSet 을 동적 프록시로 감싸며, 요청 밖에서 만든 Statement 는 감싸지 않습니다.
+ *
+ * DelegatingDataSource 를 상속하므로 unwrap 으로 커넥션 풀(HikariDataSource)에 접근하는 풀 지표는 그대로 동작합니다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    QueryStatistics statistics = QueryStatisticsHolder.current();
+                    if (statistics != null && result instanceof Statement statement) {
+                        // prepareStatement/prepareCall 은 첫 인자가 SQL, createStatement 는 실행 시점에 SQL 을 받음
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return wrap(method.getReturnType(), new StatementHandler(statement, sql));
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrap(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * execute* 호출 시간을 문장 실행으로 기록하고 반환된 ResultSet 을 감쌉니다.
+     */
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long startedAt = System.nanoTime();
+                try {
+                    Object result = StatementCountingDataSource.invoke(target, method, args);
+                    return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+                } finally {
+                    QueryStatistics statistics = QueryStatisticsHolder.current();
+                    if (statistics != null) {
+                        String sql = preparedSql != null ? preparedSql
+                                : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        statistics.recordStatement(sql, System.nanoTime() - startedAt);
+                    }
+                }
+            }
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        }
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return (ResultSet) wrap(ResultSet.class, (proxy, method, args) -> {
+            if (!method.getName().equals("next")) {
+                return invoke(resultSet, method, args);
+            }
+            long startedAt = System.nanoTime();
+            Object hasNext = invoke(resultSet, method, args);
+            QueryStatistics statistics = QueryStatisticsHolder.current();
+            if (statistics != null && Boolean.TRUE.equals(hasNext)) {
+                statistics.recordRow(System.nanoTime() - startedAt);
+            }
+            return hasNext;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 아이디/비밀번호 인증 한 번을 기록하는 JFR 이벤트 (비밀번호 해시 비교와 다시 해시하는 시간 포함)
+ */
+@Name("shop.samgak.mini_board.Authentication")
+@Label("Authentication")
+@Category({ "Mini Board", "Security" })
+@Description("아이디/비밀번호 인증")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+    @Label("Username")
+    public String username;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Failure")
+    @Description("실패한 경우 예외 클래스 이름")
+    public String failure;
+}
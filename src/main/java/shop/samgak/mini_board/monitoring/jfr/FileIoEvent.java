@@ -0,0 +1,37 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 첨부 파일 읽기/쓰기/삭제 한 번을 기록하는 JFR 이벤트
+ */
+@Name("shop.samgak.mini_board.FileIo")
+@Label("Attachment File I/O")
+@Category({ "Mini Board", "File" })
+@Description("첨부 파일 읽기/쓰기/삭제")
+@StackTrace(false)
+public class FileIoEvent extends Event {
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String DELETE = "delete";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Success")
+    @Description("파일이 없거나 읽을 수 없거나 I/O 오류가 발생하면 false")
+    public boolean success;
+}
@@ -0,0 +1,135 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JFR 기록을 필요할 때 시작, 중지, 내려받기 하는 actuator 엔드포인트
+ * <ul>
+ * <li>GET /actuator/jfr : 기록 목록</li>
+ * <li>POST /actuator/jfr : 기록 시작 (본문의 name, settings, maxAge, maxSize 는 생략 가능, 진행 중인 기록이 있으면 409)</li>
+ * <li>POST /actuator/jfr/{id} : 기록 중지</li>
+ * <li>GET /actuator/jfr/{id} : 지금까지 기록한 데이터를 .jfr 파일로 내려받기 (JDK Mission Control 또는 jfr 명령으로 확인)</li>
+ * <li>DELETE /actuator/jfr/{id} : 기록을 닫고 데이터 버리기</li>
+ * </ul>
+ * 기록에는 요청 처리 정보가 담기므로 관리자만 접근할 수 있습니다. (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+    private final JfrRecorder jfrRecorder;
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return jfrRecorder.getRecordings().stream()
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .map(RecordingInfo::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingInfo> start(@Nullable String name, @Nullable String settings,
+            @Nullable Duration maxAge, @Nullable Long maxSize) {
+        try {
+            return new WebEndpointResponse<>(RecordingInfo.of(jfrRecorder.start(name, settings, maxAge, maxSize)));
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings,
+                    "Unknown JFR settings");
+        } catch (IllegalStateException e) {
+            // 진행 중인 기록은 하나만 허용
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingInfo> stop(@Selector long id) {
+        Recording recording = jfrRecorder.stop(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(RecordingInfo.of(recording));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector long id) throws IOException {
+        Path file = jfrRecorder.dump(id);
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file.toFile()));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> close(@Selector long id) {
+        return new WebEndpointResponse<>(
+                jfrRecorder.close(id) ? WebEndpointResponse.STATUS_NO_CONTENT : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    /**
+     * 시간 값은 ISO-8601 형식, 크기는 바이트 단위
+     */
+    public record RecordingInfo(long id, String name, String state, Instant startTime, Instant stopTime,
+            Duration maxAge, long maxSize, long size) {
+
+        static RecordingInfo of(Recording recording) {
+            return new RecordingInfo(recording.getId(), recording.getName(), recording.getState().name(),
+                    recording.getStartTime(), recording.getStopTime(), recording.getMaxAge(),
+                    recording.getMaxSize(), recording.getSize());
+        }
+    }
+
+    /**
+     * 응답으로 다 보낸 뒤 지워지는 임시 파일
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(File file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.READ,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Files.newByteChannel(getFile().toPath(), StandardOpenOption.READ,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        // 파일로 취급하면 스트림을 거치지 않고 전송되어 지워지지 않음
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+    }
+}
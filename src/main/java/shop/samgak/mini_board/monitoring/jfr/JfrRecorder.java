@@ -0,0 +1,164 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.JfrProperties;
+
+/**
+ * 이 애플리케이션이 시작한 JFR 기록을 관리
+ * 게시판 이벤트(조회수 증가, 첨부 파일 I/O, 세션 직렬화, 인증)는 JDK 기본 이벤트와 함께 기록됩니다.
+ *
+ * 기록 오버헤드와 디스크 사용량이 쌓이지 않도록 진행 중인 기록은 하나만 허용하고,
+ * 최대 보관 시간과 크기는 설정값을 넘지 않도록 제한합니다. (JFR 에서 0 은 제한 없음을 뜻하므로 허용하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JfrRecorder {
+    private final JfrProperties properties;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    /**
+     * 상시 기록이 켜져 있으면 시작 완료 후 기록을 시작
+     * 최대 보관 시간과 크기를 넘는 데이터는 버리므로 계속 켜 두어도 디스크를 채우지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (!properties.isContinuous()) {
+            return;
+        }
+        try {
+            Recording recording = start("mini-board-continuous", null, null, null);
+            log.info("Started continuous JFR recording [{}] with settings [{}]", recording.getId(),
+                    properties.getSettings());
+        } catch (IOException | ParseException e) {
+            log.error("Failed to start continuous JFR recording", e);
+        }
+    }
+
+    /**
+     * 새 기록을 시작
+     * 
+     * @param name     기록 이름 (null 이면 mini-board)
+     * @param settings 기록 설정 이름 (null 이면 설정값 사용)
+     * @param maxAge   최대 보관 시간 (null, 0 이하, 설정값보다 크면 설정값 사용)
+     * @param maxSize  최대 보관 크기 (null, 0 이하, 설정값보다 크면 설정값 사용)
+     * @return 시작한 기록
+     * @throws IOException           기록 설정을 읽지 못한 경우
+     * @throws ParseException        기록 설정 형식이 잘못된 경우
+     * @throws IllegalStateException 진행 중인 기록이 이미 있는 경우
+     */
+    public synchronized Recording start(String name, String settings, Duration maxAge, Long maxSize)
+            throws IOException, ParseException {
+        Recording active = getActiveRecording();
+        if (active != null) {
+            throw new IllegalStateException("JFR recording [" + active.getId() + "] is already running");
+        }
+        Configuration configuration = Configuration
+                .getConfiguration(settings != null ? settings : properties.getSettings());
+        Recording recording = new Recording(configuration);
+        recording.setName(name != null ? name : "mini-board");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge != null && maxAge.isPositive() && maxAge.compareTo(properties.getMaxAge()) < 0
+                ? maxAge
+                : properties.getMaxAge());
+        recording.setMaxSize(maxSize != null && maxSize > 0 && maxSize < properties.getMaxSize()
+                ? maxSize
+                : properties.getMaxSize());
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        return recording;
+    }
+
+    /**
+     * 기록을 중지 (기록한 데이터는 닫을 때까지 내려받을 수 있음)
+     * 
+     * @param id 기록 ID
+     * @return 중지한 기록, 없으면 null
+     */
+    public Recording stop(long id) {
+        Recording recording = recordings.get(id);
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return recording;
+    }
+
+    /**
+     * 지금까지 기록한 데이터를 임시 파일로 저장 (진행 중인 기록도 저장 가능)
+     * 
+     * @param id 기록 ID
+     * @return 저장한 임시 파일, 기록이 없으면 null
+     * @throws IOException 파일을 쓰지 못한 경우
+     */
+    public Path dump(long id) throws IOException {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return null;
+        }
+        Path file = Files.createTempFile("mini-board-" + id + "-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * 기록을 닫고 기록한 데이터를 버림
+     * 
+     * @param id 기록 ID
+     * @return 닫은 기록이 있었는지 여부
+     */
+    public boolean close(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        return true;
+    }
+
+    /**
+     * 진행 중이거나 시작 대기 중인 기록
+     * 
+     * @return 진행 중인 기록, 없으면 null
+     */
+    public Recording getActiveRecording() {
+        return recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.NEW
+                        || recording.getState() == RecordingState.DELAYED
+                        || recording.getState() == RecordingState.RUNNING)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Collection<Recording> getRecordings() {
+        return recordings.values();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+}
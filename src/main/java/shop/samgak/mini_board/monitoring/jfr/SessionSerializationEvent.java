@@ -0,0 +1,36 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 세션 값 하나의 직렬화/역직렬화를 기록하는 JFR 이벤트
+ */
+@Name("shop.samgak.mini_board.SessionSerialization")
+@Label("Session Serialization")
+@Category({ "Mini Board", "Session" })
+@Description("Redis 에 저장하는 세션 값 하나의 직렬화/역직렬화")
+@StackTrace(false)
+public class SessionSerializationEvent extends Event {
+    public static final String SERIALIZE = "serialize";
+    public static final String DESERIALIZE = "deserialize";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Value Type")
+    public String valueType;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Compact")
+    @Description("압축 바이너리 형식이면 true, 대체 직렬화(JSON) 형식이면 false")
+    public boolean compact;
+}
@@ -0,0 +1,32 @@
+package shop.samgak.mini_board.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시물/첨부 파일 조회수 증가 UPDATE 한 번을 기록하는 JFR 이벤트
+ */
+@Name("shop.samgak.mini_board.ViewCount")
+@Label("View Count Increment")
+@Category({ "Mini Board", "Board" })
+@Description("조회수 증가 UPDATE 한 번")
+@StackTrace(false)
+public class ViewCountEvent extends Event {
+    public static final String TARGET_POST = "post";
+    public static final String TARGET_POST_FILE = "postFile";
+
+    @Label("Target")
+    @Description("post 또는 postFile")
+    public String target;
+
+    @Label("ID")
+    public long id;
+
+    @Label("Updated")
+    @Description("대상이 없어 갱신하지 못했으면 false")
+    public boolean updated;
+}
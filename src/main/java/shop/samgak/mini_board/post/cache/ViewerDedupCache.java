@@ -0,0 +1,45 @@
+package shop.samgak.mini_board.post.cache;
+
+import org.springframework.stereotype.Component;
+
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.utility.ExpiringCache;
+
+/**
+ * 세션이 없는 방문자의 게시물 조회와 파일 다운로드를 방문자 지문 기준으로 중복 집계하지 않기 위한 로컬 캐시
+ * 세션을 만들지 않으므로 익명 요청이 Redis 에 아무것도 기록하지 않습니다.
+ * 인스턴스마다 따로 기록하므로 여러 인스턴스에 분산된 요청은 인스턴스 수만큼 집계될 수 있습니다.
+ */
+@Component
+public class ViewerDedupCache {
+    private final ExpiringCache<String, Boolean> viewedPosts;
+    private final ExpiringCache<String, Boolean> downloadedFiles;
+
+    public ViewerDedupCache(CacheProperties cacheProperties) {
+        CacheProperties.ViewerDedup viewerDedup = cacheProperties.getViewerDedup();
+        this.viewedPosts = new ExpiringCache<>(viewerDedup.getTtl(), viewerDedup.getMaxEntries());
+        this.downloadedFiles = new ExpiringCache<>(viewerDedup.getTtl(), viewerDedup.getMaxEntries());
+    }
+
+    /**
+     * 방문자의 게시물 조회를 기록합니다.
+     *
+     * @param postId      게시물 ID
+     * @param fingerprint 방문자 지문
+     * @return 유지 시간 안에 처음 조회한 경우 true
+     */
+    public boolean markPostViewed(Long postId, String fingerprint) {
+        return viewedPosts.putIfAbsent(postId + ":" + fingerprint, Boolean.TRUE);
+    }
+
+    /**
+     * 방문자의 파일 다운로드를 기록합니다.
+     *
+     * @param postFileId  파일 ID
+     * @param fingerprint 방문자 지문
+     * @return 유지 시간 안에 처음 다운로드한 경우 true
+     */
+    public boolean markFileDownloaded(Long postFileId, String fingerprint) {
+        return downloadedFiles.putIfAbsent(postFileId + ":" + fingerprint, Boolean.TRUE);
+    }
+}
@@ -2,17 +2,25 @@ package shop.samgak.mini_board.post.controllers;
 
 import java.net.URI;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -25,6 +33,8 @@ import shop.samgak.mini_board.utility.ApiDataResponse;
 import shop.samgak.mini_board.utility.ApiResponse;
 import shop.samgak.mini_board.utility.ApiSuccessResponse;
 import shop.samgak.mini_board.utility.AuthUtils;
+import shop.samgak.mini_board.utility.ETagUtils;
+import shop.samgak.mini_board.utility.ViewerFingerprint;
 
 /**
  * 게시물 관련 API 요청을 처리하는 컨트롤러 정의
@@ -34,6 +44,8 @@ import shop.samgak.mini_board.utility.AuthUtils;
 @Slf4j
 @RequestMapping("/api/posts")
 public class PostController {
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final PostService postService;
 
     /**
@@ -43,25 +55,36 @@ public class PostController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse> getTop10Post() {
-        log.info("Request to get top 10 posts");
+        log.debug("Request to get top 10 posts");
         return ResponseEntity.ok(new ApiDataResponse("success", postService.getTop10()));
     }
 
     /**
      * 특정 게시물을 가져오는 엔드포인트
      * 
-     * @param postId  게시물 ID
-     * @param session 현재 세션 객체 (조회수 증가용)
-     * @return 특정 게시물의 상세 정보
+     * @param postId     게시물 ID
+     * @param request    HTTP 요청 객체 (조회수 중복 확인용)
+     * @param webRequest If-None-Match 확인용 요청 객체
+     * @return 특정 게시물의 상세 정보, 버전이 같으면 304 응답
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getPost(@PathVariable("id") Long postId, HttpSession session) {
-        log.info("Request to get post with ID: {}", postId);
+    public ResponseEntity<ApiResponse> getPost(@PathVariable("id") Long postId, HttpServletRequest request,
+            WebRequest webRequest) {
+        log.debug("Request to get post with ID: {}", postId);
 
-        // 게시물 조회수를 증가시킴
-        boolean isUpdated = postService.increaseViewCount(postId, session);
+        // 게시물 조회수를 증가시킴, 세션이 없으면 새로 만들지 않고 방문자 지문으로 중복을 확인
+        HttpSession session = request.getSession(false);
+        boolean isUpdated = session != null
+                ? postService.increaseViewCount(postId, session)
+                : postService.increaseViewCount(postId, ViewerFingerprint.of(request));
         if (isUpdated) {
-            log.info("View count increased for post ID: [{}]", postId);
+            log.debug("View count increased for post ID: [{}]", postId);
+        }
+
+        // 버전만 먼저 조회하여 클라이언트가 가진 것과 같으면 게시물을 불러오거나 직렬화하지 않음
+        String eTag = ETagUtils.fromVersion(postService.getVersion(postId));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
         }
 
         return ResponseEntity.ok(new ApiDataResponse("success", postService.getPostById(postId)));
@@ -77,7 +100,7 @@ public class PostController {
     @PostMapping
     public ResponseEntity<ApiResponse> createPost(@Valid @RequestBody CreatePostRequest createPostRequest) {
         UserDTO userDTO = AuthUtils.getCurrentUser();
-        log.info("Request to create a new post by user ID: [{}]", userDTO.getId());
+        log.debug("Request to create a new post by user ID: [{}]", userDTO.getId());
         // 게시물을 생성하고 ID를 반환받음
         Long createdId = postService.create(createPostRequest.title, createPostRequest.content, userDTO);
         // 생성된 게시물의 URI 반환
@@ -94,32 +117,80 @@ public class PostController {
      * @param id      게시물 ID
      * @param title   업데이트할 게시물 제목
      * @param content 업데이트할 게시물 내용
+     * @param ifMatch 게시물 버전을 담은 If-Match 헤더 (선택)
      * @return 성공 여부 응답
      */
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse> updatePost(@PathVariable("postId") Long id,
-            @Valid @RequestBody UpdatePostRequest request) {
+            @Valid @RequestBody UpdatePostRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (request.title == null && request.content == null) {
             throw new MissingParameterException("There must be a title or content");
         }
         UserDTO userDTO = AuthUtils.getCurrentUser();
-        log.info("Request to update post with post ID: [{}] by user ID: [{}]", id, userDTO.getId());
-        postService.update(id, request.title, request.content, userDTO);
+        log.debug("Request to update post with post ID: [{}] by user ID: [{}]", id, userDTO.getId());
+        postService.update(id, request.title, request.content, userDTO, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.ok(new ApiSuccessResponse());
     }
 
+    /**
+     * JSON Merge Patch(RFC 7396) 형식으로 게시물을 부분 수정하는 엔드포인트
+     * 요청에 포함된 필드만 수정하며, 제목과 내용은 필수 값이므로 null로 삭제할 수 없습니다.
+     * 
+     * @param id    게시물 ID
+     * @param patch   수정할 필드만 담은 JSON 객체
+     * @param ifMatch 게시물 버전을 담은 If-Match 헤더 (선택)
+     * @return 성공 여부 응답
+     */
+    @PatchMapping(value = "/{postId}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ApiResponse> patchPost(@PathVariable("postId") Long id, @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (!patch.isObject()) {
+            throw new MissingParameterException("Patch document must be a JSON object");
+        }
+        String title = readPatchText(patch, "title");
+        String content = readPatchText(patch, "content");
+        if (title == null && content == null) {
+            throw new MissingParameterException("There must be a title or content");
+        }
+        UserDTO userDTO = AuthUtils.getCurrentUser();
+        log.debug("Request to patch post with post ID: [{}] by user ID: [{}]", id, userDTO.getId());
+        postService.update(id, title, content, userDTO, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok(new ApiSuccessResponse());
+    }
+
+    /**
+     * Merge Patch 문서에서 문자열 필드를 읽습니다.
+     * 
+     * @param patch 요청 JSON 객체
+     * @param field 필드 이름
+     * @return 필드 값, 필드가 없으면 null
+     */
+    private String readPatchText(JsonNode patch, String field) {
+        if (!patch.has(field)) {
+            return null;
+        }
+        JsonNode value = patch.get(field);
+        if (!value.isTextual()) {
+            throw new MissingParameterException(field);
+        }
+        return value.asText();
+    }
+
     /**
      * 특정 게시물을 삭제하는 엔드포인트
      * 
-     * @param id 게시물 ID
+     * @param id      게시물 ID
+     * @param ifMatch 게시물 버전을 담은 If-Match 헤더 (선택)
      * @return 성공 여부 응답
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse> deletePost(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> deletePost(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // 현재 로그인된 사용자 정보 가져옴
         UserDTO userDTO = AuthUtils.getCurrentUser();
-        log.info("Request to delete post with ID: [{}] by user: [{}]", id, userDTO.getUsername());
-        postService.delete(id, userDTO);
+        log.debug("Request to delete post with ID: [{}] by user: [{}]", id, userDTO.getUsername());
+        postService.delete(id, userDTO, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.ok(new ApiSuccessResponse());
     }
 
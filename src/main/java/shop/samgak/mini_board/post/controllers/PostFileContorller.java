@@ -3,10 +3,9 @@ package shop.samgak.mini_board.post.controllers;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -23,10 +22,10 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import shop.samgak.mini_board.config.UploadProperties;
 import shop.samgak.mini_board.exceptions.MissingParameterException;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
 import shop.samgak.mini_board.exceptions.ServerIOException;
@@ -36,6 +35,7 @@ import shop.samgak.mini_board.user.dto.UserDTO;
 import shop.samgak.mini_board.utility.ApiDataResponse;
 import shop.samgak.mini_board.utility.ApiFailureResponse;
 import shop.samgak.mini_board.utility.AuthUtils;
+import shop.samgak.mini_board.utility.ViewerFingerprint;
 
 /**
  * 게시물 파일 관련 API 요청을 처리하는 컨트롤러 정의
@@ -48,8 +48,6 @@ public class PostFileContorller {
 
         final PostFileService postFileService;
 
-        final UploadProperties uploadProperties;
-
         /**
          * 특정 게시물에 포함된 이미지 파일 목록을 가져오는 엔드포인트
          * 
@@ -58,7 +56,7 @@ public class PostFileContorller {
          */
         @GetMapping("{postId}/images")
         public List<PostFileDTO> getPostFile(@PathVariable Long postId) {
-                log.info("Request to get image files for Post ID: [{}]", postId);
+                log.debug("Request to get image files for Post ID: [{}]", postId);
                 List<PostFileDTO> postFile = postFileService.getItemsByPost(postId);
                 if (postFile.isEmpty()) {
                         log.warn("No files found for Post ID: [{}]", postId);
@@ -72,29 +70,32 @@ public class PostFileContorller {
          * 
          * @param postId     게시물 ID
          * @param postFileId 파일 ID
-         * @param session    현재 세션 객체 (조회수 증가용)
+         * @param request    HTTP 요청 객체 (조회수 중복 확인용)
          * @return 이미지 파일의 바이트 데이터와 메타데이터 응답
          * @throws IOException 파일을 읽을 수 없을 때 예외 발생
          */
         @GetMapping("{postId}/images/{postFileId}")
         public ResponseEntity<?> getPostFileAndPostFileId(@PathVariable Long postId,
                         @PathVariable Long postFileId,
-                        HttpSession session) throws IOException {
-                log.info("Request to get image file - Post ID: [{}], PostFile ID: [{}]", postId, postFileId);
+                        HttpServletRequest request) throws IOException {
+                log.debug("Request to get image file - Post ID: [{}], PostFile ID: [{}]", postId, postFileId);
 
                 PostFileDTO postFileDTO = postFileService.getItem(postFileId, postId);
-                Path uploadPath = Paths.get(uploadProperties.getUploadDir());
-                Path filePath = uploadPath.resolve(postFileDTO.getFileName());
-
-                if (!Files.isReadable(filePath)) {
-                        log.warn("Unable to read file at path: [{}]", filePath);
+                Optional<byte[]> file = postFileService.readFile(postFileDTO.getFileName());
+                if (file.isEmpty()) {
                         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                                         .body(new ApiFailureResponse("Can not read this file"));
                 }
 
-                byte[] fileData = Files.readAllBytes(filePath);
+                byte[] fileData = file.get();
                 String uploadFileName = UriUtils.encode(postFileDTO.getOriginalName(), StandardCharsets.UTF_8);
-                postFileService.increaseViewCount(postFileId, session);
+                // 세션이 없으면 새로 만들지 않고 방문자 지문으로 중복을 확인
+                HttpSession session = request.getSession(false);
+                if (session != null) {
+                        postFileService.increaseViewCount(postFileId, session);
+                } else {
+                        postFileService.increaseViewCount(postFileId, ViewerFingerprint.of(request));
+                }
 
                 return ResponseEntity.ok()
                                 .contentType(MediaType.parseMediaType(postFileDTO.getContentType()))
@@ -123,7 +124,7 @@ public class PostFileContorller {
                 long fileSize = file.getSize();
 
                 UserDTO userDTO = AuthUtils.getCurrentUser();
-                log.info("Request to upload file - Post ID: [{}], User ID: [{}], Param name : [], File metadata [filename={}], [contentType={}], [fileSize={}]",
+                log.debug("Request to upload file - Post ID: [{}], User ID: [{}], Param name : [], File metadata [filename={}], [contentType={}], [fileSize={}]",
                                 postId, userDTO.getId(), filename, contentType,
                                 fileSize);
 
@@ -148,7 +149,7 @@ public class PostFileContorller {
         @DeleteMapping("{postId}/images/{postFileId}")
         public ResponseEntity<ApiDataResponse> deleteFile(@PathVariable Long postId,
                         @PathVariable Long postFileId) throws IOException {
-                log.info("Request to delete file - postId: [{}], postFileId: [{}]", postId, postFileId);
+                log.debug("Request to delete file - postId: [{}], postFileId: [{}]", postId, postFileId);
 
                 UserDTO userDTO = AuthUtils.getCurrentUser();
 
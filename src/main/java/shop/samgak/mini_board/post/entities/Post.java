@@ -4,6 +4,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,6 +19,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,8 +28,10 @@ import shop.samgak.mini_board.user.entities.User;
 
 /**
  * 게시물 정보를 저장하는 엔티티 클래스
+ * 변경된 컬럼만 UPDATE 하도록 하여 조회수 변경 등에서 내용(CLOB)을 다시 쓰지 않도록 합니다.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "posts")
 @Data
 @AllArgsConstructor
@@ -90,4 +96,13 @@ public class Post {
      */
     @OneToMany(mappedBy = "post", fetch = FetchType.EAGER)
     private List<PostFile> postFiles = new ArrayList<>();
+
+    /**
+     * 게시물 버전 (낙관적 잠금 및 ETag에 사용)
+     * 제목, 내용, 첨부 파일이 바뀌거나 삭제될 때 증가하며 조회수 변경에는 증가하지 않습니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -1,6 +1,7 @@
 package shop.samgak.mini_board.post.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import shop.samgak.mini_board.post.dto.PostDTO;
 import shop.samgak.mini_board.post.entities.Post;
@@ -25,5 +26,6 @@ public interface PostMapper {
      * @param postDTO 변환할 PostDTO 객체
      * @return 변환된 Post 엔티티
      */
+    @Mapping(target = "version", ignore = true)
     Post fromDTO(PostDTO postDTO);
 }
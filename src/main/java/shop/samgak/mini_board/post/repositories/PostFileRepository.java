@@ -4,8 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import shop.samgak.mini_board.post.dto.PostFileDTO;
 import shop.samgak.mini_board.post.entities.PostFile;
 
 @Repository
@@ -27,4 +32,46 @@ public interface PostFileRepository extends JpaRepository<PostFile, Long> {
      * @return 파일 Optional 객체
      */
     Optional<PostFile> findByIdAndPostId(Long postFileId, Long postId);
+
+    /**
+     * 파일이 속한 게시물의 작성자 ID만 조회
+     * 
+     * @param postFileId 파일 ID
+     * @return 게시물 작성자 ID의 Optional 객체
+     */
+    @Query("select f.post.user.id from PostFile f where f.id = :postFileId")
+    Optional<Long> findOwnerIdById(@Param("postFileId") Long postFileId);
+
+    /**
+     * 게시물을 불러오지 않고 파일 정보만 DTO로 조회
+     * 
+     * @param postFileId 파일 ID
+     * @return 파일 DTO Optional 객체
+     */
+    @Query("select new shop.samgak.mini_board.post.dto.PostFileDTO("
+            + "f.id, f.originalName, f.fileName, f.contentType, f.viewCount, f.fileSize, f.createdAt) "
+            + "from PostFile f where f.id = :postFileId")
+    Optional<PostFileDTO> findDTOById(@Param("postFileId") Long postFileId);
+
+    /**
+     * 엔티티를 불러오지 않고 파일 정보를 삭제
+     * 
+     * @param postFileId 파일 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from PostFile f where f.id = :postFileId")
+    int deleteInfoById(@Param("postFileId") Long postFileId);
+
+    /**
+     * 엔티티를 불러오지 않고 파일 조회수만 1 증가
+     * 
+     * @param postFileId 파일 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update PostFile f set f.viewCount = f.viewCount + 1 where f.id = :postFileId")
+    int incrementViewCount(@Param("postFileId") Long postFileId);
 }
@@ -1,10 +1,15 @@
 package shop.samgak.mini_board.post.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import shop.samgak.mini_board.post.entities.Post;
 
@@ -29,4 +34,118 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @return 삭제되지 않은 최신 게시물 목록
      */
     List<Post> findTop10ByDeletedAtIsNullOrderByCreatedAtDesc();
+
+    /**
+     * 삭제되지 않은 게시물의 작성자 ID만 조회
+     * 권한 확인 시 게시물 내용과 첨부 파일을 불러오지 않도록 작성자 컬럼만 읽습니다.
+     * 
+     * @param postId 게시물 ID
+     * @return 작성자 ID의 Optional 객체
+     */
+    @Query("select p.user.id from Post p where p.id = :postId and p.deletedAt is null")
+    Optional<Long> findOwnerIdById(@Param("postId") Long postId);
+
+    /**
+     * 작성자가 일치하고 삭제되지 않은 경우에만 삭제 일시를 기록
+     * 권한 확인과 삭제를 한 번의 쿼리로 처리하며, 0이 반환되면 게시물이 없거나 작성자가 아니거나 버전이 다름
+     * 
+     * @param postId          게시물 ID
+     * @param userId          작성자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
+     * @param deletedAt       삭제 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.deletedAt = :deletedAt, p.version = p.version + 1 "
+            + "where p.id = :postId and p.user.id = :userId and p.deletedAt is null "
+            + "and (:expectedVersion is null or p.version = :expectedVersion)")
+    int softDeleteByOwner(@Param("postId") Long postId, @Param("userId") Long userId,
+            @Param("expectedVersion") Long expectedVersion, @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * 제목이 실제로 바뀌는 경우에만 제목과 수정 일시를 변경
+     * 내용(CLOB) 컬럼은 UPDATE 문에 포함되지 않습니다.
+     * 
+     * @param postId          게시물 ID
+     * @param userId          작성자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
+     * @param title           변경할 제목
+     * @param updatedAt       수정 일시
+     * @return 변경된 행 수 (제목이 같으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.title = :title, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "where p.id = :postId and p.user.id = :userId and p.deletedAt is null and p.title <> :title "
+            + "and (:expectedVersion is null or p.version = :expectedVersion)")
+    int updateTitleByOwner(@Param("postId") Long postId, @Param("userId") Long userId,
+            @Param("expectedVersion") Long expectedVersion, @Param("title") String title,
+            @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 내용이 실제로 바뀌는 경우에만 내용과 수정 일시를 변경하고, 제목이 전달되면 제목도 함께 변경
+     * 내용을 애플리케이션으로 불러오지 않도록 DBMS_LOB.COMPARE 로 DB에서 비교합니다.
+     * 
+     * @param postId          게시물 ID
+     * @param userId          작성자 ID
+     * @param expectedVersion 기대하는 버전 (null이면 버전을 확인하지 않음)
+     * @param title           변경할 제목 (null이면 기존 제목 유지)
+     * @param content         변경할 내용
+     * @param updatedAt       수정 일시
+     * @return 변경된 행 수 (내용이 같으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.title = coalesce(:title, p.title), p.content = :content, "
+            + "p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "where p.id = :postId and p.user.id = :userId and p.deletedAt is null "
+            + "and function('DBMS_LOB.COMPARE', p.content, :content) <> 0 "
+            + "and (:expectedVersion is null or p.version = :expectedVersion)")
+    int updateContentByOwner(@Param("postId") Long postId, @Param("userId") Long userId,
+            @Param("expectedVersion") Long expectedVersion, @Param("title") String title,
+            @Param("content") String content, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 삭제되지 않은 게시물의 버전만 조회
+     * 
+     * @param postId 게시물 ID
+     * @return 버전의 Optional 객체
+     */
+    @Query("select p.version from Post p where p.id = :postId and p.deletedAt is null")
+    Optional<Long> findVersionById(@Param("postId") Long postId);
+
+    /**
+     * 게시물 버전만 1 증가 (첨부 파일 추가/삭제 시 ETag 갱신용)
+     * 
+     * @param postId 게시물 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.version = p.version + 1 where p.id = :postId")
+    int incrementVersion(@Param("postId") Long postId);
+
+    /**
+     * 첨부 파일이 속한 게시물의 버전을 1 증가 (첨부 파일 삭제 시 ETag 갱신용)
+     * 
+     * @param postFileId 파일 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.version = p.version + 1 "
+            + "where p.id = (select f.post.id from PostFile f where f.id = :postFileId)")
+    int incrementVersionByPostFileId(@Param("postFileId") Long postFileId);
+
+    /**
+     * 버전을 변경하지 않고 조회수만 1 증가
+     * 
+     * @param postId 게시물 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update Post p set p.viewCount = p.viewCount + 1 where p.id = :postId and p.deletedAt is null")
+    int incrementViewCount(@Param("postId") Long postId);
 }
@@ -3,6 +3,7 @@ package shop.samgak.mini_board.post.services;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,6 +41,15 @@ public interface PostFileService {
      */
     boolean increaseViewCount(Long postId, HttpSession session);
 
+    /**
+     * 파일의 조회수를 증가 (세션이 없는 방문자의 지문을 사용하여 중복 조회 방지)
+     * 
+     * @param postFileId  파일 ID
+     * @param fingerprint 방문자 지문
+     * @return 조회수를 증가시켰으면 true
+     */
+    boolean increaseViewCount(Long postFileId, String fingerprint);
+
     /**
      * 파일의 조회수 증가
      * 
@@ -80,5 +90,14 @@ public interface PostFileService {
 
     Path writePostFile(MultipartFile file, Path genderatedPath, Long postId);
 
+    /**
+     * 업로드 디렉터리에 저장된 파일을 읽음
+     * 
+     * @param fileName 서버에 저장된 파일 이름
+     * @return 파일 내용, 파일을 읽을 수 없으면 빈 값
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    Optional<byte[]> readFile(String fileName) throws IOException;
+
     Path generateUniqueFilePath();
 }
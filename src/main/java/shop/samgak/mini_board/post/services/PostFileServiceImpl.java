@@ -7,11 +7,14 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,18 +22,23 @@ import shop.samgak.mini_board.config.UploadProperties;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
 import shop.samgak.mini_board.exceptions.ServerIOException;
 import shop.samgak.mini_board.exceptions.UnauthorizedActionException;
+import shop.samgak.mini_board.monitoring.jfr.FileIoEvent;
+import shop.samgak.mini_board.monitoring.jfr.ViewCountEvent;
+import shop.samgak.mini_board.post.cache.ViewerDedupCache;
 import shop.samgak.mini_board.post.dto.PostFileDTO;
 import shop.samgak.mini_board.post.entities.Post;
 import shop.samgak.mini_board.post.entities.PostFile;
 import shop.samgak.mini_board.post.mapper.PostFileMapper;
 import shop.samgak.mini_board.post.repositories.PostFileRepository;
 import shop.samgak.mini_board.post.repositories.PostRepository;
+import shop.samgak.mini_board.security.OwnershipService;
 import shop.samgak.mini_board.user.dto.UserDTO;
 
 /**
  * 게시물 파일 관련 기능을 구현하는 서비스 클래스
  */
 @Service
+@Timed("latency.service")
 @RequiredArgsConstructor
 @Slf4j
 public class PostFileServiceImpl implements PostFileService {
@@ -39,6 +47,8 @@ public class PostFileServiceImpl implements PostFileService {
     private final PostFileRepository postFileRepository;
     private final PostRepository postRepository;
     private final PostFileMapper postFileMapper;
+    private final OwnershipService ownershipService;
+    private final ViewerDedupCache viewerDedupCache;
 
     public final UploadProperties uploadProperties;
 
@@ -77,15 +87,36 @@ public class PostFileServiceImpl implements PostFileService {
         }
     }
 
+    @Override
+    public boolean increaseViewCount(Long postFileId, String fingerprint) {
+        if (!viewerDedupCache.markFileDownloaded(postFileId, fingerprint)) {
+            return false;
+        }
+        increaseViewCount(postFileId);
+        return true;
+    }
+
     @Override
     public void increaseViewCount(Long postFileId) {
-        PostFile postFile = findPostFileOrThrow(postFileId);
-        postFile.setViewCount(postFile.getViewCount() + 1);
-        postFileRepository.save(postFile);
+        ViewCountEvent event = new ViewCountEvent();
+        event.begin();
+        int updated = postFileRepository.incrementViewCount(postFileId);
+        event.end();
+        if (event.shouldCommit()) {
+            event.target = ViewCountEvent.TARGET_POST_FILE;
+            event.id = postFileId;
+            event.updated = updated > 0;
+            event.commit();
+        }
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Post File not found with id: " + postFileId);
+        }
     }
 
     @Override
     public Path writePostFile(MultipartFile file, Path generatedPath, Long postId) {
+        FileIoEvent event = new FileIoEvent();
+        event.begin();
         try {
             Path uploadPath = Paths.get(uploadProperties.getUploadDir());
             if (!Files.exists(uploadPath)) {
@@ -93,62 +124,99 @@ public class PostFileServiceImpl implements PostFileService {
                 Files.createDirectories(uploadPath);
             }
             file.transferTo(generatedPath.toFile());
+            event.success = true;
             return generatedPath;
         } catch (IOException e) {
             String errorMessage = "Failed to write post file for post ID: " + postId;
             log.error(errorMessage, e);
             throw new ServerIOException(errorMessage);
+        } finally {
+            commit(event, FileIoEvent.WRITE, generatedPath, file.getSize());
         }
     }
 
     @Override
     public PostFileDTO writePostFileInfo(Long postId, String originalFileName, String filename, String contentType,
             long fileSize, UserDTO userDTO) {
-        Post post = findPostOrThrow(postId);
-        if (!post.getUser().getId().equals(userDTO.getId())) {
+        if (!ownershipService.isPostOwner(postId, userDTO.getId())) {
             log.warn("User ID: {} is not authorized to upload a file for post ID: [{}]", userDTO.getId(), postId);
             throw new UnauthorizedActionException(
                     String.format("User with ID [%d] not authorized to upload post file for post ID [%d]",
                             userDTO.getId(), postId));
         }
+        // 권한 확인에서 게시물 존재 여부를 확인했으므로 외래 키 연결에는 프록시만 사용
+        Post post = postRepository.getReferenceById(postId);
         PostFile postFile = new PostFile(null, post, originalFileName, filename, contentType, fileSize, 0L,
                 Instant.now());
 
         PostFile savedFile = postFileRepository.save(postFile);
+        // 게시물 조회 결과에 첨부 파일 목록이 포함되므로 ETag가 바뀌도록 버전을 올림
+        postRepository.incrementVersion(postId);
         return postFileMapper.toDTO(savedFile);
     }
 
+    @Override
+    public Optional<byte[]> readFile(String fileName) throws IOException {
+        Path filePath = Paths.get(uploadProperties.getUploadDir()).resolve(fileName);
+        FileIoEvent event = new FileIoEvent();
+        event.begin();
+        byte[] content = null;
+        try {
+            if (!Files.isReadable(filePath)) {
+                log.warn("Unable to read file at path: [{}]", filePath);
+                return Optional.empty();
+            }
+            content = Files.readAllBytes(filePath);
+            event.success = true;
+            return Optional.of(content);
+        } finally {
+            commit(event, FileIoEvent.READ, filePath, content == null ? 0 : content.length);
+        }
+    }
+
     @Override
     public boolean deleteFile(String fileName) throws IOException {
         log.info("Deleting file: {}", fileName);
         Path uploadPath = Paths.get(uploadProperties.getUploadDir());
         Path filePath = uploadPath.resolve(fileName);
-        return Files.deleteIfExists(filePath);
+        FileIoEvent event = new FileIoEvent();
+        event.begin();
+        try {
+            event.success = Files.deleteIfExists(filePath);
+            return event.success;
+        } finally {
+            commit(event, FileIoEvent.DELETE, filePath, 0);
+        }
+    }
+
+    /**
+     * 기록이 켜져 있고 임계 시간을 넘긴 경우에만 경로 문자열을 만들어 파일 I/O 이벤트를 기록
+     */
+    private static void commit(FileIoEvent event, String operation, Path path, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = path.toString();
+            event.bytes = bytes;
+            event.commit();
+        }
     }
 
     @Override
+    @Transactional
     public PostFileDTO deleteFileInfo(Long postFileId, UserDTO userDTO) {
-        PostFile postFile = findPostFileOrThrow(postFileId);
-        if (!postFile.getPost().getUser().getId().equals(userDTO.getId())) {
+        if (!ownershipService.isPostFileOwner(postFileId, userDTO.getId())) {
             log.warn("User ID: {} is not authorized to delete file info with ID: [{}]", userDTO.getId(), postFileId);
             throw new UnauthorizedActionException(
                     String.format("User with ID [%d] not authorized to delete info file with ID [%d]", userDTO.getId(),
                             postFileId));
         }
-        postFileRepository.delete(postFile);
-        return postFileMapper.toDTO(postFile);
-    }
-
-    private Post findPostOrThrow(Long postId) {
-        log.debug("Fetching post with ID: {}", postId);
-        return postRepository.findByIdAndDeletedAtIsNull(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
-    }
-
-    private PostFile findPostFileOrThrow(Long postFileId) {
-        log.debug("Fetching post file with ID: {}", postFileId);
-        return postFileRepository.findById(postFileId)
+        PostFileDTO postFileDTO = postFileRepository.findDTOById(postFileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post File not found with id: " + postFileId));
+        postRepository.incrementVersionByPostFileId(postFileId);
+        postFileRepository.deleteInfoById(postFileId);
+        ownershipService.evictPostFile(postFileId);
+        return postFileDTO;
     }
 
     @Override
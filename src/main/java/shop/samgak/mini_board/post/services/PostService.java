@@ -25,6 +25,14 @@ public interface PostService {
      */
     boolean increaseViewCount(Long postId, HttpSession session);
 
+    /**
+     * 특정 게시물의 조회수를 증가시키는 메서드 (세션이 없는 방문자의 지문을 사용하여 중복 조회 방지)
+     * 
+     * @param postId      게시물 ID
+     * @param fingerprint 방문자 지문
+     */
+    boolean increaseViewCount(Long postId, String fingerprint);
+
     /**
      * 특정 ID의 게시물을 가져오는 메서드
      * 
@@ -50,17 +58,29 @@ public interface PostService {
      * @param title   수정할 제목
      * @param content 수정할 내용
      * @param userDTO 수정 요청 사용자 정보
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전을 확인하지 않음)
      * @return 게시글의 업데이트 여부
+     * @throws shop.samgak.mini_board.exceptions.PreconditionFailedException 버전이 일치하지 않는 경우
      */
-    boolean update(Long id, String title, String content, UserDTO userDTO);
+    boolean update(Long id, String title, String content, UserDTO userDTO, Long expectedVersion);
 
     /**
      * 특정 게시물을 삭제하는 메서드
      * 
      * @param postId  삭제할 게시물 ID
      * @param userDTO 삭제 요청 사용자 정보
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전을 확인하지 않음)
+     * @throws shop.samgak.mini_board.exceptions.PreconditionFailedException 버전이 일치하지 않는 경우
+     */
+    void delete(Long postId, UserDTO userDTO, Long expectedVersion);
+
+    /**
+     * 게시물 내용을 불러오지 않고 현재 버전만 조회하는 메서드 (ETag 생성용)
+     * 
+     * @param postId 게시물 ID
+     * @return 게시물 버전
      */
-    void delete(Long postId, UserDTO userDTO);
+    Long getVersion(Long postId);
 
     /**
      * 특정 ID의 게시물이 존재하는지 확인하는 메서드
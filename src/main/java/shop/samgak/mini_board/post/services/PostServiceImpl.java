@@ -5,17 +5,24 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.exceptions.PreconditionFailedException;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
 import shop.samgak.mini_board.exceptions.UnauthorizedActionException;
+import shop.samgak.mini_board.monitoring.jfr.ViewCountEvent;
+import shop.samgak.mini_board.post.cache.ViewerDedupCache;
 import shop.samgak.mini_board.post.dto.PostDTO;
 import shop.samgak.mini_board.post.entities.Post;
 import shop.samgak.mini_board.post.mapper.PostMapper;
 import shop.samgak.mini_board.post.repositories.PostRepository;
+import shop.samgak.mini_board.security.OwnershipService;
 import shop.samgak.mini_board.user.dto.UserDTO;
 import shop.samgak.mini_board.user.entities.User;
 import shop.samgak.mini_board.user.repositories.UserRepository;
@@ -24,6 +31,7 @@ import shop.samgak.mini_board.user.repositories.UserRepository;
  * 게시물 관련 기능을 구현하는 서비스 클래스
  */
 @Service
+@Timed("latency.service")
 @RequiredArgsConstructor
 @Slf4j
 public class PostServiceImpl implements PostService {
@@ -31,6 +39,8 @@ public class PostServiceImpl implements PostService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostMapper postMapper;
+    private final OwnershipService ownershipService;
+    private final ViewerDedupCache viewerDedupCache;
 
     @Override
     public List<PostDTO> getTop10() {
@@ -59,6 +69,15 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    @Override
+    public boolean increaseViewCount(Long postId, String fingerprint) {
+        if (!viewerDedupCache.markPostViewed(postId, fingerprint)) {
+            return false;
+        }
+        increaseViewCount(postId);
+        return true;
+    }
+
     @Override
     public PostDTO getPostById(Long postId) {
         return postMapper.toDTO(findPostOrThrow(postId));
@@ -66,40 +85,66 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public Long create(String title, String content, UserDTO userDTO) {
-        User user = userRepository.findById(userDTO.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userDTO.getId()));
-        Post post = new Post(null, user, title, content, 0L, Instant.now(), Instant.now(), null, null);
-        Post savedPost = postRepository.save(post);
-        return savedPost.getId();
+        // 인증된 사용자이므로 조회 없이 외래 키만 연결
+        User user = userRepository.getReferenceById(userDTO.getId());
+        Post post = new Post(null, user, title, content, 0L, Instant.now(), Instant.now(), null, null, null);
+        try {
+            return postRepository.save(post).getId();
+        } catch (DataIntegrityViolationException e) {
+            // 로그인 이후 사용자가 삭제되어 외래 키 제약을 위반한 경우 404 로 응답
+            if (!userRepository.existsById(userDTO.getId())) {
+                throw new ResourceNotFoundException("User not found with Id : [" + userDTO.getId() + "]");
+            }
+            throw e;
+        }
     }
 
+    /**
+     * 게시물의 제목과 내용 중 전달된 값만 수정합니다.
+     * 바뀐 컬럼만 UPDATE 하며, 내용(CLOB)이 실제로 달라졌는지는 UPDATE 조건에서 DB가 비교합니다.
+     * 변경된 행이 없을 때만 권한과 버전을 확인하여 정상적인 수정은 UPDATE 한 번으로 끝납니다.
+     */
     @Override
-    public boolean update(Long postId, String title, String content, UserDTO userDTO) {
-        Post post = findPostOrThrow(postId);
-        checkPermition(post, userDTO);
-        boolean isUpdated = false;
-        if (title != null & !post.getTitle().equals(title)) {
-            post.setTitle(title);
-            isUpdated = true;
+    @Transactional
+    public boolean update(Long postId, String title, String content, UserDTO userDTO, Long expectedVersion) {
+        Instant now = Instant.now();
+        int updatedRows = 0;
+        if (content != null) {
+            // 제목도 함께 UPDATE 하여 버전이 한 번만 증가하도록 함
+            updatedRows = postRepository.updateContentByOwner(postId, userDTO.getId(), expectedVersion, title,
+                    content, now);
         }
-        if (content != null & !post.getContent().equals(content)) {
-            post.setContent(content);
-            isUpdated = true;
+        if (updatedRows == 0 && title != null) {
+            // 내용이 같거나 전달되지 않은 경우 제목만 비교하여 변경
+            updatedRows = postRepository.updateTitleByOwner(postId, userDTO.getId(), expectedVersion, title, now);
         }
-        // 제목이나 내용이 수정된 경우에만 업데이트 시간을 갱신하고 저장
-        if (isUpdated) {
-            post.setUpdatedAt(Instant.now());
-            postRepository.save(post);
+
+        if (updatedRows == 0) {
+            // 게시물이 없는 것인지, 권한이 없는 것인지, 버전이 다른 것인지 확인하고, 모두 아니면 바뀐 값이 없는 것
+            checkPermition(postId, userDTO);
+            checkVersion(postId, expectedVersion);
+            log.debug("No change detected for post ID [{}]", postId);
+            return false;
         }
-        return isUpdated;
+        return true;
     }
 
     @Override
-    public void delete(Long postId, UserDTO userDTO) {
-        Post post = findPostOrThrow(postId);
-        checkPermition(post, userDTO);
-        post.setDeletedAt(Instant.now());
-        postRepository.save(post);
+    public void delete(Long postId, UserDTO userDTO, Long expectedVersion) {
+        if (postRepository.softDeleteByOwner(postId, userDTO.getId(), expectedVersion, Instant.now()) == 0) {
+            // 변경된 행이 없을 때만 게시물이 없는 것인지, 권한이 없는 것인지, 버전이 다른 것인지 확인
+            ownershipService.evictPost(postId);
+            checkPermition(postId, userDTO);
+            checkVersion(postId, expectedVersion);
+            throw new ResourceNotFoundException("Post not found with id: " + postId);
+        }
+        ownershipService.evictPost(postId);
+    }
+
+    @Override
+    public Long getVersion(Long postId) {
+        return postRepository.findVersionById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
     }
 
     @Override
@@ -109,28 +154,55 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 게시글이 자신의 것인지 확인하여 아니면 예외가 발생합니다.
+     * 게시글 전체를 불러오지 않고 작성자 ID만 확인합니다.
      * 
+     * @param postId  채크할 게시글 ID
      * @param userDTO 채크할 사용자 DTO
-     * @param post    르
      */
-    private void checkPermition(Post post, UserDTO userDTO) {
-        if (!post.getUser().getId().equals(userDTO.getId())) {
+    private void checkPermition(Long postId, UserDTO userDTO) {
+        if (!ownershipService.isPostOwner(postId, userDTO.getId())) {
             throw new UnauthorizedActionException(
                     String.format(
                             "User with ID [%d] does not have permission to perform the requested action on post [%d]",
-                            userDTO.getId(), post.getId()));
+                            userDTO.getId(), postId));
         }
     }
 
     /**
      * 해당 게시글 View Count 증가
+     * 조회수는 ETag에 반영하지 않으므로 버전을 올리지 않는 UPDATE를 사용합니다.
      * 
      * @param postId
      */
     private void increaseViewCount(Long postId) {
-        Post post = findPostOrThrow(postId);
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        ViewCountEvent event = new ViewCountEvent();
+        event.begin();
+        int updated = postRepository.incrementViewCount(postId);
+        event.end();
+        if (event.shouldCommit()) {
+            event.target = ViewCountEvent.TARGET_POST;
+            event.id = postId;
+            event.updated = updated > 0;
+            event.commit();
+        }
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Post not found with id: " + postId);
+        }
+    }
+
+    /**
+     * 클라이언트가 기대한 버전과 현재 버전이 다르면 예외가 발생합니다.
+     * 
+     * @param postId          게시글 ID
+     * @param expectedVersion 기대하는 버전 (null이면 존재 여부만 확인)
+     */
+    private void checkVersion(Long postId, Long expectedVersion) {
+        Long currentVersion = getVersion(postId);
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(
+                    String.format("Post [%d] has version [%d] but version [%d] was expected",
+                            postId, currentVersion, expectedVersion));
+        }
     }
 
     /**
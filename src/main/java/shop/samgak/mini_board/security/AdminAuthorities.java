@@ -0,0 +1,37 @@
+package shop.samgak.mini_board.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import shop.samgak.mini_board.config.AdminProperties;
+
+/**
+ * 설정된 관리자 사용자에게 ROLE_ADMIN 권한을 추가하는 컴포넌트
+ * 로그인과 토큰 갱신 시 인증 정보를 만들 때 호출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminAuthorities {
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private final AdminProperties adminProperties;
+
+    /**
+     * 관리자 사용자명이면 사용자 정보에 ROLE_ADMIN 권한을 추가합니다.
+     *
+     * @param userDetails 인증된 사용자 정보
+     */
+    public void grant(MyUserDetails userDetails) {
+        if (!adminProperties.getUsernames().contains(userDetails.getUsername())) {
+            return;
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>(userDetails.getAuthorities());
+        authorities.add(new SimpleGrantedAuthority(ROLE_ADMIN));
+        userDetails.setAuthorities(authorities);
+    }
+}
@@ -0,0 +1,61 @@
+package shop.samgak.mini_board.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 게시물 조회 API 에 대한 익명 요청인지 판단하는 RequestMatcher
+ * 세션 쿠키와 Authorization 헤더가 모두 없는 GET 요청만 일치합니다.
+ * 일치한 요청은 세션 없는 필터 체인에서 처리하므로 인증 실패 응답을 위해 세션을 만들거나 불러오지 않습니다.
+ * 세션 쿠키는 이름만 확인하므로 세션 저장소를 조회하지 않습니다.
+ */
+public class AnonymousReadRequestMatcher implements RequestMatcher {
+    // 익명 요청이 많이 들어오는 조회 엔드포인트
+    public static final String[] PUBLIC_READ_PATTERNS = {
+            "/api/posts",
+            "/api/posts/{id}",
+            "/api/posts/{postId}/comments",
+            "/api/posts/{postId}/images",
+            "/api/posts/{postId}/images/{postFileId}" };
+
+    private final RequestMatcher publicReads;
+    private final String sessionCookieName;
+
+    /**
+     * @param sessionCookieName 세션 ID 를 담는 쿠키 이름
+     */
+    public AnonymousReadRequestMatcher(String sessionCookieName) {
+        RequestMatcher[] matchers = new RequestMatcher[PUBLIC_READ_PATTERNS.length];
+        for (int i = 0; i < PUBLIC_READ_PATTERNS.length; i++) {
+            matchers[i] = AntPathRequestMatcher.antMatcher(HttpMethod.GET, PUBLIC_READ_PATTERNS[i]);
+        }
+        this.publicReads = new OrRequestMatcher(matchers);
+        this.sessionCookieName = sessionCookieName;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                && !hasSessionCookie(request)
+                && publicReads.matches(request);
+    }
+
+    private boolean hasSessionCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (sessionCookieName.equals(cookie.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
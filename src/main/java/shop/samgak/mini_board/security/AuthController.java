@@ -5,6 +5,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,12 +14,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.TokenProperties;
 import shop.samgak.mini_board.exceptions.UserNotLoginException;
+import shop.samgak.mini_board.security.TokenService.RefreshToken;
+import shop.samgak.mini_board.user.cache.UserLookupCache;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.utility.ApiDataResponse;
 import shop.samgak.mini_board.utility.ApiResponse;
 import shop.samgak.mini_board.utility.ApiSuccessResponse;
 import shop.samgak.mini_board.utility.AuthUtils;
@@ -32,49 +40,121 @@ import shop.samgak.mini_board.utility.AuthUtils;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String TOKEN_TYPE = "Bearer";
+
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final TokenProperties tokenProperties;
+    private final UserLookupCache userLookupCache;
+    private final SessionAuthenticationStrategy sessionAuthenticationStrategy;
+    private final AdminAuthorities adminAuthorities;
+    private final RefreshTokenDenylist refreshTokenDenylist;
 
     /**
      * 사용자의 로그인 요청을 처리하는 엔드포인트
+     * 토큰 인증 모드에서는 세션을 만들지 않고 접근 토큰과 갱신 토큰을 반환합니다.
      * 
      * @param loginRequest 사용자 로그인 요청 객체
-     * @param session      현재 세션 객체
+     * @param request      HTTP 요청 객체
+     * @param response     HTTP 응답 객체
      * @return 로그인 성공 여부에 대한 응답
      */
     @PostMapping("login")
     public ResponseEntity<ApiResponse> login(@Valid @RequestBody LoginRequest loginRequest,
-            HttpSession session) {
-        log.info("Request to login for user [{}]", loginRequest.username);
+            HttpServletRequest request, HttpServletResponse response) {
+        log.debug("Request to login for user [{}]", loginRequest.username);
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 loginRequest.username, loginRequest.password);
         Authentication authentication = authenticationManager.authenticate(authenticationToken);
+        if (tokenProperties.isStateless() && authentication.getPrincipal() instanceof MyUserDetails userDetails) {
+            UserCredentialDTO credentials = userLookupCache.getCredentials(userDetails.getUsername());
+            if (credentials == null) {
+                throw new UserNotLoginException();
+            }
+            return ResponseEntity.ok().body(new ApiDataResponse("Login successful",
+                    issueTokens(userDetails, credentials.getPassword())));
+        }
+        // 다른 인스턴스의 세션까지 포함하여 동시 세션 수를 제한하고 세션 ID를 변경
+        sessionAuthenticationStrategy.onAuthentication(authentication, request, response);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        AuthUtils.saveSessionSecurityContext(SecurityContextHolder.getContext(), session);
+        AuthUtils.saveSessionSecurityContext(SecurityContextHolder.getContext(), request.getSession());
         return ResponseEntity.ok().body(new ApiSuccessResponse("Login successful"));
     }
 
+    /**
+     * 갱신 토큰으로 새 접근 토큰과 갱신 토큰을 발급하는 엔드포인트
+     * 갱신 토큰은 한 번만 사용할 수 있으며, 그 사이 삭제된 사용자나 비밀번호가 바뀐 사용자에게는 발급하지 않습니다.
+     * 
+     * @param refreshRequest 갱신 토큰 요청 객체
+     * @return 새로 발급한 토큰
+     */
+    @PostMapping("refresh")
+    public ResponseEntity<ApiResponse> refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        RefreshToken refreshToken = tokenService.parseRefreshToken(refreshRequest.refreshToken);
+        UserDTO userDTO = refreshToken == null ? null : userLookupCache.getById(refreshToken.userId());
+        if (userDTO == null) {
+            throw new UserNotLoginException();
+        }
+        UserCredentialDTO credentials = userLookupCache.getCredentials(userDTO.getUsername());
+        if (credentials == null || !tokenService.matchesPasswordVersion(refreshToken, credentials.getPassword())) {
+            log.debug("Rejected refresh token of user ID [{}] issued before a password change", userDTO.getId());
+            throw new UserNotLoginException();
+        }
+        // 사용한 갱신 토큰은 폐기하고 새 토큰을 발급 (이미 사용했거나 로그아웃한 토큰이면 거부)
+        if (!refreshTokenDenylist.revoke(refreshToken.tokenId(), refreshToken.expiresAt())) {
+            throw new UserNotLoginException();
+        }
+        log.debug("Refreshing tokens for user ID [{}]", userDTO.getId());
+        MyUserDetails userDetails = new MyUserDetails(userDTO, null);
+        adminAuthorities.grant(userDetails);
+        return ResponseEntity.ok().body(new ApiDataResponse("Token refreshed",
+                issueTokens(userDetails, credentials.getPassword())));
+    }
+
+    private TokenResponse issueTokens(MyUserDetails userDetails, String passwordHash) {
+        return new TokenResponse(tokenService.issueAccessToken(userDetails),
+                tokenService.issueRefreshToken(userDetails.getUserDTO(), passwordHash), TOKEN_TYPE,
+                tokenService.getAccessTokenTtlSeconds());
+    }
+
     /**
      * 사용자의 로그아웃 요청을 처리하는 엔드포인트 (GET 요청)
      * 
      * @param request HTTP 요청 객체
-     * @param session 현재 세션 객체
      * @return 로그아웃 성공 여부에 대한 응답
      */
     @GetMapping("logout")
-    public ResponseEntity<?> logoutGet(HttpServletRequest request, HttpSession session) {
-        return logoutPost(request, session);
+    public ResponseEntity<?> logoutGet(HttpServletRequest request) {
+        return logoutPost(request, null);
     }
 
     /**
      * 사용자의 로그아웃 요청을 처리하는 엔드포인트 (POST 요청)
+     * 토큰 인증 모드에서는 요청 본문의 갱신 토큰을 폐기하고, 접근 토큰은 클라이언트가 삭제합니다.
      * 
-     * @param request HTTP 요청 객체
-     * @param session 현재 세션 객체
+     * @param request        HTTP 요청 객체
+     * @param refreshRequest 폐기할 갱신 토큰 (토큰 인증 모드, 선택)
      * @return 로그아웃 성공 여부에 대한 응답
      */
     @PostMapping("logout")
-    public ResponseEntity<?> logoutPost(HttpServletRequest request, HttpSession session) {
-        log.info("User logging out");
+    public ResponseEntity<?> logoutPost(HttpServletRequest request,
+            @RequestBody(required = false) RefreshRequest refreshRequest) {
+        log.debug("User logging out");
+        if (tokenProperties.isStateless()) {
+            if (!AuthUtils.checkLogin()) {
+                throw new UserNotLoginException();
+            }
+            RefreshToken refreshToken = refreshRequest == null || refreshRequest.refreshToken == null ? null
+                    : tokenService.parseRefreshToken(refreshRequest.refreshToken);
+            // 다른 사용자의 갱신 토큰은 폐기하지 않음
+            if (refreshToken != null && refreshToken.userId().equals(AuthUtils.getCurrentUser().getId())) {
+                refreshTokenDenylist.revoke(refreshToken.tokenId(), refreshToken.expiresAt());
+            }
+            SecurityContextHolder.clearContext();
+            return ResponseEntity.ok().body(new ApiSuccessResponse("Logout successful"));
+        }
+        // 세션이 없는 요청에 새 세션을 만들지 않도록 기존 세션만 조회
+        HttpSession session = request.getSession(false);
         if (session != null) {
             if (session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY) != null) {
                 // 세션 무효화
@@ -89,6 +169,19 @@ public class AuthController {
         return ResponseEntity.ok().body(new ApiSuccessResponse("Logout successful"));
     }
 
+    /**
+     * 토큰 갱신 요청을 위한 레코드 정의
+     */
+    public record RefreshRequest(
+            @NotNull(message = "Missing required parameter") String refreshToken) {
+    }
+
+    /**
+     * 토큰 발급 응답을 위한 레코드 정의
+     */
+    public record TokenResponse(String accessToken, String refreshToken, String tokenType, long expiresIn) {
+    }
+
     /**
      * 로그인 요청을 위한 레코드 정의
      */
@@ -0,0 +1,140 @@
+package shop.samgak.mini_board.security;
+
+import java.util.Arrays;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.PasswordHashProperties;
+
+/**
+ * 현재 서버 CPU에서 측정한 비용 값을 사용하는 bcrypt 인코더
+ * 비용 값이 목표보다 낮은 해시만 로그인 시 다시 만들고, 높은 해시는 보안을 낮추지 않도록 그대로 둡니다.
+ * 측정값은 Redis 에 한 번 기록하여 클러스터의 모든 인스턴스가 같은 비용 값을 사용하므로
+ * 인스턴스마다 CPU가 달라도 로그인할 때마다 해시가 번갈아 바뀌지 않습니다.
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    // 측정에 사용하는 비용 값, 이보다 한 단계 높을 때마다 계산 시간이 두 배가 됨
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_WARMUP = 2;
+    private static final int PROBE_SAMPLES = 5;
+
+    @Getter
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 설정값에 따라 bcrypt 비용 값을 정하고 인코더를 생성합니다.
+     * 고정 값이 없으면 낮은 비용으로 해시 시간을 측정한 뒤 목표 시간에 맞는 비용을 계산하고,
+     * 클러스터 공유 키가 있으면 먼저 기록된 값을 사용합니다.
+     *
+     * @param properties    비밀번호 해시 설정
+     * @param redisTemplate 클러스터 공유 비용 값을 저장할 Redis 템플릿 (null 이면 인스턴스별 측정값 사용)
+     * @return 비용 값이 정해진 인코더
+     */
+    public static CalibratedBCryptPasswordEncoder create(PasswordHashProperties properties,
+            StringRedisTemplate redisTemplate) {
+        if (properties.getStrength() > 0) {
+            log.info("Using configured bcrypt strength [{}]", properties.getStrength());
+            return new CalibratedBCryptPasswordEncoder(properties.getStrength());
+        }
+        int calibrated = calibrate(properties);
+        if (redisTemplate == null || properties.getClusterStrengthKey() == null
+                || properties.getClusterStrengthKey().isBlank()) {
+            return new CalibratedBCryptPasswordEncoder(calibrated);
+        }
+        return new CalibratedBCryptPasswordEncoder(pin(properties, redisTemplate, calibrated));
+    }
+
+    /**
+     * 측정한 비용 값을 Redis 에 없을 때만 기록하고, 클러스터에서 먼저 정해진 값을 읽어 사용합니다.
+     * 값이 범위를 벗어났거나 Redis 에 연결할 수 없으면 이 인스턴스의 측정값을 사용합니다.
+     */
+    private static int pin(PasswordHashProperties properties, StringRedisTemplate redisTemplate, int calibrated) {
+        String key = properties.getClusterStrengthKey();
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(calibrated));
+            String stored = redisTemplate.opsForValue().get(key);
+            int pinned = stored == null ? -1 : Integer.parseInt(stored.trim());
+            if (pinned < properties.getMinStrength() || pinned > properties.getMaxStrength()) {
+                log.warn("Ignoring cluster bcrypt strength [{}] outside [{}, {}], using calibrated [{}]",
+                        stored, properties.getMinStrength(), properties.getMaxStrength(), calibrated);
+                return calibrated;
+            }
+            if (pinned != calibrated) {
+                log.info("Using cluster bcrypt strength [{}] from [{}] instead of calibrated [{}]",
+                        pinned, key, calibrated);
+            }
+            return pinned;
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Could not read cluster bcrypt strength from [{}], using calibrated [{}]: {}",
+                    key, calibrated, e.getMessage());
+            return calibrated;
+        }
+    }
+
+    /**
+     * 비용 값이 목표 값보다 낮으면 다시 해시해야 한다고 판단합니다.
+     * 목표보다 높은 해시를 낮은 비용으로 바꾸면 보안이 약해지므로 그대로 둡니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int currentStrength = parseStrength(encodedPassword);
+        return currentStrength < 0 || currentStrength < strength;
+    }
+
+    private static int calibrate(PasswordHashProperties properties) {
+        String salt = BCrypt.gensalt(PROBE_STRENGTH);
+        for (int i = 0; i < PROBE_WARMUP; i++) {
+            BCrypt.hashpw("calibration-password", salt);
+        }
+        long[] samples = new long[PROBE_SAMPLES];
+        for (int i = 0; i < PROBE_SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw("calibration-password", salt);
+            samples[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+        long probeNanos = Math.max(1, samples[PROBE_SAMPLES / 2]);
+
+        // 비용이 1 증가할 때마다 시간이 두 배이므로 목표 시간 이하가 되는 가장 큰 비용 값을 선택
+        long targetNanos = properties.getTargetHashTime().toNanos();
+        int strength = PROBE_STRENGTH + (int) Math.floor(Math.log((double) targetNanos / probeNanos) / Math.log(2));
+        int clamped = Math.max(properties.getMinStrength(), Math.min(properties.getMaxStrength(), strength));
+        double expectedMillis = probeNanos / 1_000_000.0 * Math.pow(2, clamped - PROBE_STRENGTH);
+        log.info("Calibrated bcrypt strength [{}] (cost {} took {} ms, target {} ms, expected {} ms per hash)",
+                clamped, PROBE_STRENGTH, String.format("%.2f", probeNanos / 1_000_000.0),
+                properties.getTargetHashTime().toMillis(), String.format("%.1f", expectedMillis));
+        return clamped;
+    }
+
+    /**
+     * bcrypt 해시 문자열($2a$10$...)에서 비용 값을 읽습니다.
+     *
+     * @return 비용 값, 형식이 맞지 않으면 -1
+     */
+    private static int parseStrength(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int start = encodedPassword.indexOf('$', 1);
+        int end = start < 0 ? -1 : encodedPassword.indexOf('$', start + 1);
+        if (end < 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(start + 1, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
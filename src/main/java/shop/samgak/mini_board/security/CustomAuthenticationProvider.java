@@ -8,11 +8,13 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.exceptions.ServerBusyException;
 import shop.samgak.mini_board.exceptions.UserNotFoundException;
 import shop.samgak.mini_board.exceptions.WrongPasswordException;
+import shop.samgak.mini_board.monitoring.jfr.AuthenticationEvent;
+import shop.samgak.mini_board.user.cache.UserLookupCache;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
 import shop.samgak.mini_board.user.dto.UserDTO;
-import shop.samgak.mini_board.user.entities.User;
-import shop.samgak.mini_board.user.mapper.UserMapper;
 import shop.samgak.mini_board.user.repositories.UserRepository;
 
 /**
@@ -26,7 +28,8 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
+    private final UserLookupCache userLookupCache;
+    private final AdminAuthorities adminAuthorities;
 
     /**
      * PasswordEncoder 설정 메서드
@@ -47,25 +50,71 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
      */
     @Override
     public Authentication authenticate(Authentication authentication) {
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        String failure = null;
+        try {
+            return doAuthenticate(authentication);
+        } catch (RuntimeException e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.username = authentication.getName();
+                event.success = failure == null;
+                event.failure = failure;
+                event.commit();
+            }
+        }
+    }
+
+    private Authentication doAuthenticate(Authentication authentication) {
         String username = authentication.getName();
         String password = (String) authentication.getCredentials();
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException(username));
+        // 엔티티 대신 ID, 사용자명, 비밀번호 해시만 조회 (비밀번호 해시는 캐시하지 않음)
+        UserCredentialDTO user = userLookupCache.getCredentials(username);
+        if (user == null) {
+            throw new UserNotFoundException(username);
+        }
 
-        UserDTO userDTO = userMapper.toDTO(user);
-        log.debug("userDTO = ", userDTO);
+        UserDTO userDTO = user.toUserDTO();
+        log.debug("userDTO = {}", userDTO);
 
         MyUserDetails myUserDetails = new MyUserDetails(userDTO, user.getPassword());
         if (!passwordEncoder.matches(password, myUserDetails.getPassword())) {
             throw new WrongPasswordException(username);
         }
+        rehashIfNeeded(user, password);
         // 인증 후 비밀번호는 null로 설정하여 보안 강화함
         myUserDetails.setPassword(null);
+        adminAuthorities.grant(myUserDetails);
 
         return new UsernamePasswordAuthenticationToken(myUserDetails, null, myUserDetails.getAuthorities());
     }
 
+    /**
+     * 저장된 해시의 형식이나 비용 값이 현재 설정과 다르면 로그인에 성공한 비밀번호로 다시 해시하여 저장
+     * 서버가 바빠 다시 해시하지 못해도 로그인은 성공으로 처리하고 다음 로그인 때 다시 시도합니다.
+     * 
+     * @param user     인증된 사용자 정보
+     * @param password 사용자가 입력한 비밀번호
+     */
+    private void rehashIfNeeded(UserCredentialDTO user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            String newPassword = passwordEncoder.encode(password);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newPassword) > 0) {
+                log.info("Re-hashed password of user ID [{}] with current encoding settings", user.getId());
+            }
+        } catch (ServerBusyException e) {
+            log.warn("Skipped re-hashing password of user ID [{}] because the server is busy", user.getId());
+        }
+    }
+
     /**
      * 이 AuthenticationProvider가 특정 인증 유형을 지원하는지 여부 반환
      * 
@@ -0,0 +1,69 @@
+package shop.samgak.mini_board.security;
+
+/**
+ * 사용자가 리소스의 소유자인지 확인하는 서비스 인터페이스
+ * 엔티티 전체를 불러오지 않고 작성자 ID만 조회하여 판단합니다.
+ */
+public interface OwnershipService {
+
+    /**
+     * 사용자가 삭제되지 않은 게시물의 작성자인지 확인합니다.
+     *
+     * @param postId 게시물 ID
+     * @param userId 사용자 ID
+     * @return 작성자이면 true
+     * @throws shop.samgak.mini_board.exceptions.ResourceNotFoundException 게시물이 없거나 삭제된 경우
+     */
+    boolean isPostOwner(Long postId, Long userId);
+
+    /**
+     * 삭제되지 않은 게시물이 있는지 확인합니다.
+     *
+     * @param postId 게시물 ID
+     * @throws shop.samgak.mini_board.exceptions.ResourceNotFoundException 게시물이 없거나 삭제된 경우
+     */
+    void checkPostExists(Long postId);
+
+    /**
+     * 사용자가 게시물에 속한 댓글의 작성자인지 확인합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param postId    게시물 ID
+     * @param userId    사용자 ID
+     * @return 작성자이면 true
+     * @throws shop.samgak.mini_board.exceptions.ResourceNotFoundException 댓글이 없는 경우
+     */
+    boolean isCommentOwner(Long commentId, Long postId, Long userId);
+
+    /**
+     * 사용자가 파일이 첨부된 게시물의 작성자인지 확인합니다.
+     *
+     * @param postFileId 파일 ID
+     * @param userId     사용자 ID
+     * @return 작성자이면 true
+     * @throws shop.samgak.mini_board.exceptions.ResourceNotFoundException 파일이 없는 경우
+     */
+    boolean isPostFileOwner(Long postFileId, Long userId);
+
+    /**
+     * 게시물이 삭제되었을 때 캐시된 소유자 정보를 제거합니다.
+     *
+     * @param postId 게시물 ID
+     */
+    void evictPost(Long postId);
+
+    /**
+     * 댓글이 삭제되었을 때 캐시된 소유자 정보를 제거합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param postId    게시물 ID
+     */
+    void evictComment(Long commentId, Long postId);
+
+    /**
+     * 파일 정보가 삭제되었을 때 캐시된 소유자 정보를 제거합니다.
+     *
+     * @param postFileId 파일 ID
+     */
+    void evictPostFile(Long postFileId);
+}
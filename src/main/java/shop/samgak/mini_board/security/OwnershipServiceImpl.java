@@ -0,0 +1,104 @@
+package shop.samgak.mini_board.security;
+
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.comment.repository.CommentRepository;
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
+import shop.samgak.mini_board.post.repositories.PostFileRepository;
+import shop.samgak.mini_board.post.repositories.PostRepository;
+import shop.samgak.mini_board.utility.ExpiringCache;
+
+/**
+ * 리소스 소유자 확인 기능을 구현하는 서비스 클래스
+ * 작성자 ID는 생성 후 바뀌지 않으므로 짧은 시간 동안 캐시하여 반복되는 조회를 줄입니다.
+ * 리소스가 삭제되면 캐시에서 제거하며, 다른 인스턴스에서 삭제된 경우에도 TTL이 지나면 다시 조회합니다.
+ */
+@Service
+@Slf4j
+public class OwnershipServiceImpl implements OwnershipService {
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostFileRepository postFileRepository;
+
+    private final ExpiringCache<Long, Long> postOwners;
+    private final ExpiringCache<CommentKey, Long> commentOwners;
+    private final ExpiringCache<Long, Long> postFileOwners;
+
+    public OwnershipServiceImpl(PostRepository postRepository, CommentRepository commentRepository,
+            PostFileRepository postFileRepository, CacheProperties cacheProperties) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postFileRepository = postFileRepository;
+
+        CacheProperties.Ownership ownership = cacheProperties.getOwnership();
+        this.postOwners = new ExpiringCache<>(ownership.getTtl(), ownership.getMaxEntries());
+        this.commentOwners = new ExpiringCache<>(ownership.getTtl(), ownership.getMaxEntries());
+        this.postFileOwners = new ExpiringCache<>(ownership.getTtl(), ownership.getMaxEntries());
+    }
+
+    @Override
+    public boolean isPostOwner(Long postId, Long userId) {
+        return findPostOwnerOrThrow(postId).equals(userId);
+    }
+
+    @Override
+    public void checkPostExists(Long postId) {
+        findPostOwnerOrThrow(postId);
+    }
+
+    @Override
+    public boolean isCommentOwner(Long commentId, Long postId, Long userId) {
+        Long ownerId = commentOwners.get(new CommentKey(commentId, postId),
+                key -> commentRepository.findOwnerIdByIdAndPostId(key.commentId(), key.postId()).orElse(null));
+        if (ownerId == null) {
+            throw new ResourceNotFoundException(
+                    String.format("Comment not found with commentId: [%d], postId: [%d]", commentId, postId));
+        }
+        return ownerId.equals(userId);
+    }
+
+    @Override
+    public boolean isPostFileOwner(Long postFileId, Long userId) {
+        Long ownerId = postFileOwners.get(postFileId,
+                key -> postFileRepository.findOwnerIdById(key).orElse(null));
+        if (ownerId == null) {
+            throw new ResourceNotFoundException("Post File not found with id: " + postFileId);
+        }
+        return ownerId.equals(userId);
+    }
+
+    private Long findPostOwnerOrThrow(Long postId) {
+        Long ownerId = postOwners.get(postId,
+                key -> postRepository.findOwnerIdById(key).orElse(null));
+        if (ownerId == null) {
+            throw new ResourceNotFoundException("Post not found with id: " + postId);
+        }
+        return ownerId;
+    }
+
+    @Override
+    public void evictPost(Long postId) {
+        log.debug("Evicting cached owner of post ID [{}]", postId);
+        postOwners.evict(postId);
+    }
+
+    @Override
+    public void evictComment(Long commentId, Long postId) {
+        log.debug("Evicting cached owner of comment ID [{}] on post ID [{}]", commentId, postId);
+        commentOwners.evict(new CommentKey(commentId, postId));
+    }
+
+    @Override
+    public void evictPostFile(Long postFileId) {
+        log.debug("Evicting cached owner of post file ID [{}]", postFileId);
+        postFileOwners.evict(postFileId);
+    }
+
+    /**
+     * 댓글은 게시물 ID와 함께 조회되므로 두 값을 묶어 키로 사용
+     */
+    private record CommentKey(Long commentId, Long postId) {
+    }
+}
@@ -0,0 +1,251 @@
+package shop.samgak.mini_board.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.stereotype.Component;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.RedisResilienceProperties;
+import shop.samgak.mini_board.exceptions.ServerBusyException;
+import shop.samgak.mini_board.utility.CircuitBreaker;
+
+/**
+ * Redis에 저장된 세션 데이터를 SCAN 커서 단위로 나누어 조회하는 컴포넌트
+ * KEYS 처럼 전체 키 공간을 한 번에 훑지 않으므로 조회 중에도 다른 세션 요청이 막히지 않습니다.
+ * 한 페이지의 TYPE 조회와 값 조회는 각각 응답을 기다리지 않고 연속으로 보내 왕복 횟수를 2회로 줄입니다.
+ *
+ * 회로 차단기는 세션 저장소와 따로 두어, 이 조회가 실패해도 세션 저장소가 로컬 저장소로 전환되지 않습니다.
+ * 연결 실패와 응답 시간 초과만 실패로 기록하므로 잘못된 커서나 패턴 요청으로는 차단기가 열리지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisSessionInspector {
+    // 한 페이지에서 SCAN 에 전달할 최대 COUNT
+    public static final int MAX_PAGE_SIZE = 100;
+    // 리스트 값은 앞쪽 일부만 반환
+    private static final int MAX_LIST_ELEMENTS = 100;
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+    // Spring Session 이 사용자명별 세션 ID 집합을 저장하는 인덱스 키
+    private static final String PRINCIPAL_INDEX_PREFIX = "spring:session:index:"
+            + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> sessionSerializer;
+    private final CircuitBreaker circuitBreaker;
+
+    public RedisSessionInspector(RedisTemplate<String, Object> redisTemplate,
+            @Qualifier("springSessionDefaultRedisSerializer") RedisSerializer<Object> sessionSerializer,
+            RedisResilienceProperties resilienceProperties) {
+        this.redisTemplate = redisTemplate;
+        this.sessionSerializer = sessionSerializer;
+        this.circuitBreaker = new CircuitBreaker("redis-session-inspector",
+                resilienceProperties.getFailureThreshold(), resilienceProperties.getOpenDuration());
+    }
+
+    /**
+     * 커서 위치부터 패턴에 맞는 키를 한 페이지 조회합니다.
+     * SCAN 의 COUNT 는 근사값이므로 한 페이지의 키 수는 size 보다 조금 많거나 적을 수 있습니다.
+     *
+     * @param cursor  이전 페이지 응답의 커서 (처음에는 "0")
+     * @param pattern 키 패턴 (SCAN MATCH)
+     * @param size    한 번에 확인할 키 수 (최대 100)
+     * @return 다음 커서와 키별 값, 마지막 페이지이면 커서는 "0"
+     */
+    public SessionPage scan(String cursor, String pattern, int size) {
+        int count = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return execute((RedisCallback<SessionPage>) connection -> scan(connection, cursor, pattern, count));
+    }
+
+    /**
+     * 세션이 있는 사용자명을 사용자명 인덱스 키의 SCAN 커서 단위로 한 페이지 조회합니다.
+     * 키 이름만 읽으므로 세션 값은 조회하지 않습니다.
+     *
+     * @param cursor 이전 페이지 응답의 커서 (처음에는 "0")
+     * @param size   한 번에 확인할 키 수 (최대 100)
+     * @return 다음 커서와 사용자명 목록, 마지막 페이지이면 커서는 "0"
+     */
+    @SuppressWarnings("unchecked")
+    public PrincipalPage scanPrincipals(String cursor, int size) {
+        int count = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return execute((RedisCallback<PrincipalPage>) connection -> {
+            RedisClusterAsyncCommands<byte[], byte[]> commands = (RedisClusterAsyncCommands<byte[], byte[]>) connection
+                    .getNativeConnection();
+            KeyScanCursor<byte[]> scanCursor = await(commands.scan(ScanCursor.of(cursor),
+                    ScanArgs.Builder.matches(PRINCIPAL_INDEX_PREFIX + "*").limit(count)));
+            List<String> principals = scanCursor.getKeys().stream()
+                    .map(key -> new String(key, StandardCharsets.UTF_8).substring(PRINCIPAL_INDEX_PREFIX.length()))
+                    .toList();
+            return new PrincipalPage(scanCursor.isFinished() ? "0" : scanCursor.getCursor(), principals);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private SessionPage scan(RedisConnection connection, String cursor, String pattern, int count) {
+        RedisClusterAsyncCommands<byte[], byte[]> commands = (RedisClusterAsyncCommands<byte[], byte[]>) connection
+                .getNativeConnection();
+
+        KeyScanCursor<byte[]> scanCursor = await(commands.scan(ScanCursor.of(cursor),
+                ScanArgs.Builder.matches(pattern).limit(count)));
+        List<byte[]> keys = scanCursor.getKeys();
+        String nextCursor = scanCursor.isFinished() ? "0" : scanCursor.getCursor();
+
+        // 페이지의 모든 키에 대한 TYPE 을 한 번에 전송
+        List<RedisFuture<String>> typeFutures = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            typeFutures.add(commands.type(key));
+        }
+        awaitAll(typeFutures);
+
+        // 타입에 맞는 값 조회를 한 번에 전송
+        List<RedisFuture<?>> valueFutures = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            valueFutures.add(switch (await(typeFutures.get(i))) {
+                case "string" -> commands.get(key);
+                case "list" -> commands.lrange(key, 0, MAX_LIST_ELEMENTS - 1);
+                case "hash" -> commands.hgetall(key);
+                default -> null;
+            });
+        }
+        awaitAll(valueFutures);
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String key = new String(keys.get(i), StandardCharsets.UTF_8);
+            String type = await(typeFutures.get(i));
+            RedisFuture<?> valueFuture = valueFutures.get(i);
+            if (valueFuture == null) {
+                entries.put(key, "Unsupported data type: " + type);
+                continue;
+            }
+            Object value = await(valueFuture);
+            if (value != null) {
+                entries.put(key, convert(type, value));
+            }
+        }
+        log.debug("Scanned [{}] keys matching [{}], next cursor [{}]", keys.size(), pattern, nextCursor);
+        return new SessionPage(nextCursor, entries);
+    }
+
+    /**
+     * 회로 차단기가 열려 있으면 Redis 를 호출하지 않고 바로 503 으로 거절합니다.
+     */
+    private <T> T execute(RedisCallback<T> callback) {
+        if (!circuitBreaker.allowRequest()) {
+            throw new ServerBusyException("Redis is unavailable, please retry later",
+                    circuitBreaker.getRetryAfterSeconds());
+        }
+        boolean unavailable = false;
+        try {
+            return redisTemplate.execute(callback);
+        } catch (RedisConnectionFailureException | QueryTimeoutException e) {
+            unavailable = true;
+            throw e;
+        } finally {
+            // 그 밖의 예외는 Redis 가 응답한 것이므로 성공으로 기록하여 시험 호출 뒤 차단기가 HALF_OPEN 에 머무르지 않음
+            if (unavailable) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(String type, Object value) {
+        RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+        return switch (type) {
+            case "string" -> deserialize(valueSerializer, (byte[]) value);
+            case "list" -> ((List<byte[]>) value).stream()
+                    .map(element -> deserialize(valueSerializer, element))
+                    .toList();
+            case "hash" -> {
+                // 세션 해시의 값은 Spring Session 의 직렬화 방식으로 저장됨
+                Map<String, Object> hash = new LinkedHashMap<>();
+                ((Map<byte[], byte[]>) value).forEach((field, fieldValue) -> hash.put(
+                        new String(field, StandardCharsets.UTF_8), deserialize(sessionSerializer, fieldValue)));
+                yield hash;
+            }
+            default -> value;
+        };
+    }
+
+    private static Object deserialize(RedisSerializer<?> serializer, byte[] bytes) {
+        try {
+            return serializer.deserialize(bytes);
+        } catch (SerializationException e) {
+            return "Unreadable value (" + bytes.length + " bytes)";
+        }
+    }
+
+    private static void awaitAll(List<? extends RedisFuture<?>> futures) {
+        RedisFuture<?>[] pending = futures.stream()
+                .filter(future -> future != null)
+                .toArray(RedisFuture[]::new);
+        if (!LettuceFutures.awaitAll(TIMEOUT, pending)) {
+            throw new QueryTimeoutException("Redis did not respond within " + TIMEOUT.toMillis() + " ms");
+        }
+    }
+
+    private static <T> T await(RedisFuture<T> future) {
+        try {
+            return future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Redis", e);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Redis did not respond within " + TIMEOUT.toMillis() + " ms", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RedisCommandTimeoutException) {
+                throw new QueryTimeoutException("Redis command timed out", e.getCause());
+            }
+            if (e.getCause() instanceof RedisConnectionException) {
+                throw new RedisConnectionFailureException("Failed to connect to Redis", e.getCause());
+            }
+            throw new IllegalStateException("Failed to read session data from Redis", e);
+        }
+    }
+
+    /**
+     * 세션 조회 결과 한 페이지
+     *
+     * @param cursor  다음 페이지 요청에 사용할 커서, 마지막 페이지이면 "0"
+     * @param entries 키별 값
+     */
+    public record SessionPage(String cursor, Map<String, Object> entries) {
+    }
+
+    /**
+     * 사용자명 조회 결과 한 페이지
+     *
+     * @param cursor     다음 페이지 요청에 사용할 커서, 마지막 페이지이면 "0"
+     * @param principals 세션이 있는 사용자명
+     */
+    public record PrincipalPage(String cursor, List<String> principals) {
+    }
+}
@@ -0,0 +1,44 @@
+package shop.samgak.mini_board.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용했거나 로그아웃으로 폐기한 갱신 토큰 ID를 Redis 에 기록하는 폐기 목록
+ * 항목은 토큰이 만료될 때까지만 유지하므로 목록 크기는 유효한 갱신 토큰 수를 넘지 않습니다.
+ * 모든 인스턴스가 같은 Redis 를 보므로 한 인스턴스에서 폐기한 토큰은 다른 인스턴스에서도 거부됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenDenylist {
+    private static final String KEY_PREFIX = "mini-board:token:revoked:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 갱신 토큰을 폐기합니다.
+     * 이미 폐기된 토큰이면 false 를 반환하므로 같은 토큰으로 동시에 갱신을 요청해도 한 요청만 성공합니다.
+     *
+     * @param tokenId   갱신 토큰 ID
+     * @param expiresAt 갱신 토큰 만료 시간
+     * @return 이번 호출로 폐기했으면 true, 이미 폐기되었거나 만료되었으면 false
+     */
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return false;
+        }
+        boolean revoked = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + tokenId, "1", ttl));
+        if (!revoked) {
+            log.warn("Refresh token [{}] was already revoked", tokenId);
+        }
+        return revoked;
+    }
+}
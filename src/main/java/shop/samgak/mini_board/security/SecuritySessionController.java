@@ -1,16 +1,17 @@
 package shop.samgak.mini_board.security;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.session.SessionInformation;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import shop.samgak.mini_board.security.RedisSessionInspector.PrincipalPage;
+import shop.samgak.mini_board.security.RedisSessionInspector.SessionPage;
+
 /**
  * 현재 활성화된 세션 정보를 제공하는 REST API를 정의
  */
@@ -20,52 +21,47 @@ public class SecuritySessionController {
     // Spring Security의 SessionRegistry를 사용하여 활성 사용자 세션을 관리
     @Autowired
     private SessionRegistry sessionRegistry;
-    // RedisTemplate을 사용하여 Redis에 저장된 세션 데이터를 조회
+    // SCAN 커서로 Redis에 저장된 세션 데이터를 나누어 조회
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private RedisSessionInspector redisSessionInspector;
 
     /**
-     * 현재 활성화된 세션의 사용자 목록을 반환하는 API 엔드포인트
+     * 사용자의 활성 세션 목록을 반환하는 API 엔드포인트
+     * Redis 사용자명 인덱스를 한 번 읽으므로 모든 인스턴스의 세션이 포함됩니다.
      * 
-     * @return 현재 활성화된 사용자 세션 목록
+     * @param username 조회할 사용자명
+     * @return 사용자의 활성 세션 목록
+     */
+    @GetMapping(value = "/sessions", params = "username")
+    public List<SessionInformation> getActiveSessions(@RequestParam String username) {
+        return sessionRegistry.getAllSessions(username, false);
+    }
+
+    /**
+     * 세션이 있는 사용자명을 SCAN 커서 단위로 한 페이지씩 반환하는 API 엔드포인트
+     * 
+     * @param cursor 이전 페이지 응답의 커서 (처음에는 "0")
+     * @param size   한 번에 확인할 키 수 (최대 100)
+     * @return 다음 커서와 사용자명 목록, 마지막 페이지이면 커서는 "0"
      */
     @GetMapping("/sessions")
-    public List<Object> getActiveSessions() {
-        return sessionRegistry.getAllPrincipals();
+    public PrincipalPage getActivePrincipals(@RequestParam(defaultValue = "0") String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return redisSessionInspector.scanPrincipals(cursor, size);
     }
 
     /**
-     * Redis에 저장된 모든 세션 데이터를 반환하는 API 엔드포인트
+     * Redis에 저장된 세션 데이터를 SCAN 커서 단위로 한 페이지씩 반환하는 API 엔드포인트
      * 
-     * @return Redis에 저장된 모든 세션 데이터
+     * @param cursor  이전 페이지 응답의 커서 (처음에는 "0")
+     * @param pattern 조회할 키 패턴 (기본값은 Spring Session 세션 키)
+     * @param size    한 번에 확인할 키 수 (최대 100)
+     * @return 다음 커서와 키별 세션 데이터, 마지막 페이지이면 커서는 "0"
      */
     @GetMapping("/sessions-redis")
-    public Map<String, Object> getActiveSessionsRedis() {
-        Map<String, Object> allData = new HashMap<>();
-        Set<String> keys = redisTemplate.keys("*");
-
-        if (keys != null && !keys.isEmpty()) {
-            for (String key : keys) {
-                String type = redisTemplate.type(key).code();
-                switch (type) {
-                    case "string" -> {
-                        Object value = redisTemplate.opsForValue().get(key);
-                        if (value != null) {
-                            allData.put(key, value);
-                        }
-                    }
-                    case "list" -> {
-                        Object listValues = redisTemplate.opsForList().range(key, 0, -1);
-                        allData.put(key, listValues);
-                    }
-                    case "hash" -> {
-                        Object hashValues = redisTemplate.opsForHash().entries(key);
-                        allData.put(key, hashValues);
-                    }
-                    default -> allData.put(key, "Unsupported data type: " + type);
-                }
-            }
-        }
-        return allData;
+    public SessionPage getActiveSessionsRedis(@RequestParam(defaultValue = "0") String cursor,
+            @RequestParam(defaultValue = "spring:session:sessions:*") String pattern,
+            @RequestParam(defaultValue = "20") int size) {
+        return redisSessionInspector.scan(cursor, pattern, size);
     }
 }
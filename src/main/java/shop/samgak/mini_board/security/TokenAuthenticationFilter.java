@@ -0,0 +1,48 @@
+package shop.samgak.mini_board.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authorization: Bearer 헤더의 접근 토큰으로 SecurityContext 를 설정하는 필터
+ * 토큰의 클레임만으로 MyUserDetails 를 만들기 때문에 세션 저장소나 DB를 조회하지 않습니다.
+ * 토큰이 없거나 유효하지 않으면 인증하지 않고 다음 필터로 넘겨 UnauthenticationEntryPoint 가 401 로 응답하게 합니다.
+ *
+ * 서블릿 필터로 자동 등록되지 않도록 빈으로 만들지 않고 SecurityConfig 에서 생성합니다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            MyUserDetails userDetails = tokenService.parseAccessToken(header.substring(BEARER_PREFIX.length()));
+            if (userDetails != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null,
+                        userDetails.getAuthorities()));
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
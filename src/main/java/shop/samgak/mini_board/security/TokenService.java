@@ -0,0 +1,217 @@
+package shop.samgak.mini_board.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.TokenProperties;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * 서명된 접근 토큰과 갱신 토큰을 발급하고 검증하는 컴포넌트
+ * 접근 토큰에는 사용자 ID, 사용자명, 권한을 담아 요청마다 DB나 세션 저장소를 조회하지 않고 MyUserDetails 를 만들 수 있게 합니다.
+ * 갱신 토큰에는 토큰 ID와 비밀번호 버전을 담아 한 번 사용했거나 로그아웃한 토큰, 비밀번호 변경 전에 발급한 토큰을 거부할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class TokenService {
+    private static final String CLAIM_USERNAME = "username";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_TYPE = "typ";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+    private static final String CLAIM_PASSWORD_VERSION = "pwv";
+
+    private final TokenProperties tokenProperties;
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    public TokenService(TokenProperties tokenProperties) {
+        this.tokenProperties = tokenProperties;
+        if (tokenProperties.getSecret() == null || tokenProperties.getSecret().isBlank()) {
+            if (tokenProperties.isStateless()) {
+                // 인스턴스마다 다른 키로 서명하면 재시작하거나 다른 인스턴스로 요청이 가는 순간 모든 토큰이 무효가 됨
+                throw new IllegalStateException(
+                        "shop.samgak.mini-board.token.secret must be set when token.stateless is true");
+            }
+            // 토큰 인증을 사용하지 않으므로 발급되지 않는 토큰용 임시 키
+            this.key = Jwts.SIG.HS256.key().build();
+        } else {
+            this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(tokenProperties.getSecret()));
+        }
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .requireIssuer(tokenProperties.getIssuer())
+                .build();
+    }
+
+    /**
+     * 접근 토큰 발급
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @return 서명된 접근 토큰
+     */
+    public String issueAccessToken(MyUserDetails userDetails) {
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .issuer(tokenProperties.getIssuer())
+                .subject(String.valueOf(userDetails.getUserDTO().getId()))
+                .claim(CLAIM_USERNAME, userDetails.getUsername())
+                .claim(CLAIM_ROLES, roles)
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(tokenProperties.getAccessTokenTtl())))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * 갱신 토큰 발급
+     * 비밀번호 해시에서 만든 비밀번호 버전을 담아 비밀번호가 바뀌면 이전에 발급한 갱신 토큰을 사용할 수 없게 합니다.
+     *
+     * @param userDTO      인증된 사용자 정보
+     * @param passwordHash 사용자의 현재 비밀번호 해시
+     * @return 서명된 갱신 토큰
+     */
+    public String issueRefreshToken(UserDTO userDTO, String passwordHash) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .issuer(tokenProperties.getIssuer())
+                .subject(String.valueOf(userDTO.getId()))
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_PASSWORD_VERSION, passwordVersion(passwordHash))
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(tokenProperties.getRefreshTokenTtl())))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * 접근 토큰을 검증하고 사용자 정보를 복원
+     *
+     * @param token 접근 토큰
+     * @return 토큰의 사용자 정보, 유효하지 않으면 null
+     */
+    public MyUserDetails parseAccessToken(String token) {
+        Claims claims = parse(token, TYPE_ACCESS);
+        if (claims == null) {
+            return null;
+        }
+        MyUserDetails userDetails = new MyUserDetails(
+                new UserDTO(Long.valueOf(claims.getSubject()), claims.get(CLAIM_USERNAME, String.class)), null);
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (roles != null) {
+            for (Object role : roles) {
+                authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+            }
+        }
+        userDetails.setAuthorities(authorities);
+        return userDetails;
+    }
+
+    /**
+     * 갱신 토큰의 서명, 발급자, 만료 시간을 검증하고 내용을 반환
+     * 폐기 여부와 비밀번호 버전은 호출하는 쪽에서 확인합니다.
+     *
+     * @param token 갱신 토큰
+     * @return 갱신 토큰 내용, 유효하지 않으면 null
+     */
+    public RefreshToken parseRefreshToken(String token) {
+        Claims claims = parse(token, TYPE_REFRESH);
+        if (claims == null || claims.getId() == null) {
+            return null;
+        }
+        return new RefreshToken(Long.valueOf(claims.getSubject()), claims.getId(),
+                claims.get(CLAIM_PASSWORD_VERSION, String.class), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 갱신 토큰이 현재 비밀번호로 발급된 것인지 확인
+     *
+     * @param refreshToken 검증한 갱신 토큰
+     * @param passwordHash 사용자의 현재 비밀번호 해시
+     * @return 비밀번호가 바뀌지 않았으면 true
+     */
+    public boolean matchesPasswordVersion(RefreshToken refreshToken, String passwordHash) {
+        return refreshToken.passwordVersion() != null && MessageDigest.isEqual(
+                refreshToken.passwordVersion().getBytes(StandardCharsets.US_ASCII),
+                passwordVersion(passwordHash).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 접근 토큰 유효 시간 (초)
+     *
+     * @return 유효 시간
+     */
+    public long getAccessTokenTtlSeconds() {
+        return tokenProperties.getAccessTokenTtl().toSeconds();
+    }
+
+    /**
+     * 비밀번호 해시를 서명 키로 HMAC 하여 앞 16바이트를 비밀번호 버전으로 사용
+     * 토큰 내용은 누구나 읽을 수 있으므로 비밀번호 해시 자체는 담지 않습니다.
+     */
+    private String passwordVersion(String passwordHash) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key.getEncoded(), "HmacSHA256"));
+            byte[] digest = mac.doFinal(passwordHash.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private Claims parse(String token, String expectedType) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+                log.debug("Rejected token of type [{}] where [{}] was expected", claims.get(CLAIM_TYPE),
+                        expectedType);
+                return null;
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected invalid token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 검증한 갱신 토큰의 내용
+     *
+     * @param userId          사용자 ID
+     * @param tokenId         토큰 ID (폐기 목록에 기록하는 값)
+     * @param passwordVersion 발급 당시 비밀번호 버전
+     * @param expiresAt       만료 시간
+     */
+    public record RefreshToken(Long userId, String tokenId, String passwordVersion, Instant expiresAt) {
+    }
+}
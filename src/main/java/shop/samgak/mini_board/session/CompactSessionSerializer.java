@@ -0,0 +1,313 @@
+package shop.samgak.mini_board.session;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import shop.samgak.mini_board.monitoring.jfr.SessionSerializationEvent;
+import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * Spring Session 데이터를 작은 바이너리 형식으로 직렬화하는 RedisSerializer
+ * 세션에 저장되는 값 중 자주 쓰이는 타입(세션 시간 값, 문자열, 조회한 게시물 ID 목록, 로그인 SecurityContext)은
+ * 클래스 이름 없이 태그 1바이트와 가변 길이 정수로 기록하고, 그 밖의 값은 대체 직렬화(JSON) 결과를 그대로 담습니다.
+ *
+ * 모든 값은 첫 바이트가 MAGIC 이므로 JSON 으로 저장된 기존 값과 구분할 수 있습니다.
+ * readLegacy 가 true 이면 MAGIC 으로 시작하지 않는 값은 대체 직렬화로 읽어 두 형식이 섞인 상태에서도 동작합니다.
+ * writeCompact 가 false 이면 쓰기는 대체 직렬화로 하고 읽기만 두 형식을 지원하므로, 모든 인스턴스가 이 클래스를 갖춘 뒤
+ * 쓰기 형식을 전환할 수 있습니다.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+    // JSON 은 이 바이트로 시작할 수 없음
+    static final byte MAGIC = (byte) 0xC5;
+
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_LONG_LIST = 5;
+    private static final byte TAG_SECURITY_CONTEXT = 6;
+    private static final byte TAG_FALLBACK = 127;
+
+    private final RedisSerializer<Object> fallback;
+    private final boolean writeCompact;
+    private final boolean readLegacy;
+
+    /**
+     * @param fallback     알 수 없는 타입과 기존 형식에 사용할 직렬화
+     * @param writeCompact false 이면 쓰기는 fallback 형식으로 수행
+     * @param readLegacy   MAGIC 으로 시작하지 않는 값을 fallback 으로 읽을지 여부
+     */
+    public CompactSessionSerializer(RedisSerializer<Object> fallback, boolean writeCompact, boolean readLegacy) {
+        this.fallback = fallback;
+        this.writeCompact = writeCompact;
+        this.readLegacy = readLegacy;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        SessionSerializationEvent event = new SessionSerializationEvent();
+        event.begin();
+        byte[] bytes = write(value);
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, SessionSerializationEvent.SERIALIZE, value, bytes);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        SessionSerializationEvent event = new SessionSerializationEvent();
+        event.begin();
+        Object value = read(bytes);
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, SessionSerializationEvent.DESERIALIZE, value, bytes);
+        }
+        return value;
+    }
+
+    private static void commit(SessionSerializationEvent event, String operation, Object value, byte[] bytes) {
+        event.operation = operation;
+        event.valueType = value == null ? null : value.getClass().getName();
+        event.bytes = bytes == null ? 0 : bytes.length;
+        event.compact = bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+        event.commit();
+    }
+
+    private byte[] write(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!writeCompact) {
+            return fallback.serialize(value);
+        }
+        Output out = new Output();
+        out.write(MAGIC);
+        if (value instanceof String string) {
+            out.write(TAG_STRING);
+            out.writeString(string);
+        } else if (value instanceof Long number) {
+            out.write(TAG_LONG);
+            out.writeVarLong(number);
+        } else if (value instanceof Integer number) {
+            out.write(TAG_INTEGER);
+            out.writeVarLong(number);
+        } else if (value instanceof Boolean bool) {
+            out.write(TAG_BOOLEAN);
+            out.write(bool ? 1 : 0);
+        } else if (isLongList(value)) {
+            List<?> list = (List<?>) value;
+            out.write(TAG_LONG_LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                out.writeVarLong((Long) element);
+            }
+        } else if (value instanceof SecurityContext context && isCompactAuthentication(context.getAuthentication())) {
+            out.write(TAG_SECURITY_CONTEXT);
+            writeAuthentication(out, context.getAuthentication());
+        } else {
+            out.write(TAG_FALLBACK);
+            out.writeBytes(fallback.serialize(value));
+        }
+        return out.toByteArray();
+    }
+
+    private Object read(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            if (!readLegacy) {
+                throw new SerializationException("Session value is not in compact format");
+            }
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 2) {
+            throw new SerializationException("Truncated compact session value");
+        }
+        Input in = new Input(bytes, 2);
+        try {
+            return switch (bytes[1]) {
+                case TAG_STRING -> in.readString();
+                case TAG_LONG -> in.readVarLong();
+                case TAG_INTEGER -> (int) in.readVarLong();
+                case TAG_BOOLEAN -> in.read() != 0;
+                case TAG_LONG_LIST -> {
+                    int size = (int) in.readVarLong();
+                    // 세션에서 꺼낸 뒤 요소를 추가하므로 변경 가능한 목록으로 복원
+                    List<Long> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(in.readVarLong());
+                    }
+                    yield list;
+                }
+                case TAG_SECURITY_CONTEXT -> new SecurityContextImpl(readAuthentication(in));
+                case TAG_FALLBACK -> fallback.deserialize(in.readRemaining());
+                default -> throw new SerializationException("Unknown compact session tag: " + bytes[1]);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated compact session value", e);
+        }
+    }
+
+    private static boolean isLongList(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return false;
+        }
+        for (Object element : list) {
+            if (!(element instanceof Long)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * CustomAuthenticationProvider 가 만드는 형태의 인증 정보인지 확인
+     * 상세 정보나 자격 증명이 있거나 기본값이 아닌 계정 상태는 복원할 수 없으므로 대체 직렬화를 사용
+     */
+    private static boolean isCompactAuthentication(Authentication authentication) {
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken token)
+                || !token.isAuthenticated()
+                || token.getCredentials() != null
+                || token.getDetails() != null
+                || !(token.getPrincipal() instanceof MyUserDetails userDetails)) {
+            return false;
+        }
+        if (userDetails.getUserDTO() == null || userDetails.getPassword() != null
+                || !userDetails.isAccountNonExpired() || !userDetails.isAccountNonLocked()
+                || !userDetails.isCredentialsNonExpired() || !userDetails.isEnabled()) {
+            return false;
+        }
+        return hasOnlySimpleAuthorities(token.getAuthorities())
+                && hasOnlySimpleAuthorities(userDetails.getAuthorities());
+    }
+
+    private static boolean hasOnlySimpleAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        for (GrantedAuthority authority : authorities) {
+            if (!(authority instanceof SimpleGrantedAuthority)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeAuthentication(Output out, Authentication authentication) {
+        MyUserDetails userDetails = (MyUserDetails) authentication.getPrincipal();
+        UserDTO userDTO = userDetails.getUserDTO();
+        out.writeVarLong(userDTO.getId() == null ? -1 : userDTO.getId());
+        out.writeString(userDTO.getUsername());
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        out.writeVarLong(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeString(authority.getAuthority());
+        }
+    }
+
+    private static Authentication readAuthentication(Input in) {
+        long id = in.readVarLong();
+        String username = in.readString();
+        int authorityCount = (int) in.readVarLong();
+        List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+        for (int i = 0; i < authorityCount; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readString()));
+        }
+        MyUserDetails userDetails = new MyUserDetails(new UserDTO(id < 0 ? null : id, username), null);
+        userDetails.setAuthorities(new ArrayList<>(authorities));
+        return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+    }
+
+    /**
+     * 가변 길이 정수(zigzag + LEB128)와 길이 접두 문자열을 기록하는 출력 버퍼
+     */
+    private static class Output extends ByteArrayOutputStream {
+        Output() {
+            super(64);
+        }
+
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            write((int) zigzag);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    /**
+     * Output 으로 기록한 값을 읽는 입력 버퍼
+     */
+    private static class Input {
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int read() {
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 63) {
+                    throw new SerializationException("Malformed variable length number");
+                }
+                b = read();
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length < 0) {
+                return null;
+            }
+            if (length > bytes.length - position) {
+                throw new SerializationException("Truncated compact session value");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        byte[] readRemaining() {
+            byte[] remaining = new byte[bytes.length - position];
+            System.arraycopy(bytes, position, remaining, 0, remaining.length);
+            position = bytes.length;
+            return remaining;
+        }
+    }
+}
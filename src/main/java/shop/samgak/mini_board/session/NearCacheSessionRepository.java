@@ -0,0 +1,456 @@
+package shop.samgak.mini_board.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.session.Session;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.SessionProperties;
+import shop.samgak.mini_board.utility.ExpiringCache;
+
+/**
+ * Redis 세션 저장소 앞에 로컬 캐시를 두는 SessionRepository
+ * Spring Session 의 RedisSessionRepository 와 같은 키와 해시 필드 구조를 사용하므로 두 구현이 같은 세션을 읽고 쓸 수 있습니다.
+ *
+ * 조회한 세션 해시는 직렬화된 바이트 그대로 짧은 시간 동안 보관하고, 요청마다 새 객체로 역직렬화하여
+ * 같은 세션의 동시 요청이 속성 객체를 공유하지 않도록 합니다.
+ * 저장 시에는 변경된 필드만 Redis 에 기록(write-through)한 뒤 로컬 캐시를 갱신하고,
+ * 다른 인스턴스가 캐시를 비우도록 pub/sub 채널에 세션 ID를 발행합니다.
+ * 마지막 접근 시간만 바뀐 경우에는 touchInterval 이 지나기 전까지 기록을 미뤄 짧은 시간에 몰린 요청이 Redis 를 다시 거치지 않게 합니다.
+ * 이 때문에 세션은 최대 touchInterval 만큼 일찍 만료될 수 있습니다.
+ *
+ * Redis 에서 읽는 동안 무효화 메시지가 도착하면 읽은 값이 이미 오래된 것일 수 있으므로,
+ * 세션 ID별 무효화 순번을 읽기 전후로 비교하여 그 사이 무효화된 세션은 캐시에 넣지 않습니다.
+ *
+ * 로그인한 세션은 RedisIndexedSessionRepository 와 같은 사용자명 인덱스(Set)에 세션 ID를 기록하여
+ * 다른 인스턴스의 세션도 사용자명으로 바로 찾을 수 있습니다. 만료된 세션 ID는 조회할 때 인덱스에서 제거합니다.
+ */
+@Slf4j
+public class NearCacheSessionRepository
+        implements FindByIndexNameSessionRepository<NearCacheSessionRepository.NearCacheSession>, MessageListener {
+    private static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+    // RedisIndexedSessionRepository 와 같은 사용자명 인덱스 키
+    private static final String PRINCIPAL_KEY_PREFIX = "spring:session:index:" + PRINCIPAL_NAME_INDEX_NAME + ":";
+    private static final PrincipalNameIndexResolver<Session> PRINCIPAL_RESOLVER = new PrincipalNameIndexResolver<>();
+    private static final String CREATION_TIME = "creationTime";
+    private static final String LAST_ACCESSED_TIME = "lastAccessedTime";
+    private static final String MAX_INACTIVE_INTERVAL = "maxInactiveInterval";
+    private static final String ATTRIBUTE_PREFIX = "sessionAttr:";
+    // 무효화 순번 슬롯 수 (2의 거듭제곱), 같은 슬롯을 쓰는 다른 세션의 무효화는 캐시를 한 번 건너뛰게 할 뿐임
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final ExpiringCache<String, Map<String, byte[]>> cache;
+    private final byte[] channel;
+    private final long touchIntervalMillis;
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+    // 세션 ID 해시로 나눈 슬롯별 무효화 순번
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public NearCacheSessionRepository(RedisTemplate<String, byte[]> redisTemplate, RedisSerializer<Object> serializer,
+            SessionProperties.NearCache properties) {
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.cache = new ExpiringCache<>(properties.getTtl(), properties.getMaxEntries());
+        this.channel = properties.getChannel().getBytes(StandardCharsets.UTF_8);
+        this.touchIntervalMillis = properties.getTouchInterval().toMillis();
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        NearCacheSession session = new NearCacheSession(new MapSession(), null, true);
+        session.markAllChanged();
+        return session;
+    }
+
+    @Override
+    public void save(NearCacheSession session) {
+        String id = session.getId();
+        String previousId = session.originalId;
+        boolean idChanged = !id.equals(previousId);
+        if (!session.isNew && idChanged && !renameSession(previousId, id)) {
+            // 이전 키가 이미 없으므로 새 키에 전체 필드를 기록
+            session.markAllChanged();
+        }
+        session.originalId = id;
+
+        String principalName = PRINCIPAL_RESOLVER.resolveIndexValueFor(session);
+        String previousPrincipalName = session.originalPrincipalName;
+        boolean indexChanged = idChanged || !Objects.equals(principalName, previousPrincipalName);
+
+        if (!session.hasChangesToWrite(touchIntervalMillis) && !indexChanged) {
+            return;
+        }
+
+        Map<String, byte[]> puts = new HashMap<>();
+        List<String> removes = new ArrayList<>();
+        session.delta.forEach((field, value) -> {
+            if (value == null) {
+                removes.add(field);
+            } else {
+                puts.put(field, serializer.serialize(value));
+            }
+        });
+        String key = SESSION_KEY_PREFIX + id;
+        long ttlMillis = session.getMaxInactiveInterval().toMillis();
+        byte[] message = (nodeId + ":" + id).getBytes(StandardCharsets.UTF_8);
+        long invalidation = invalidationOf(id);
+
+        // 필드 갱신, 만료 시간 설정, 무효화 메시지 발행을 한 번의 왕복으로 처리
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            if (!removes.isEmpty()) {
+                connection.hashCommands().hDel(rawKey, toBytes(removes));
+            }
+            if (!puts.isEmpty()) {
+                Map<byte[], byte[]> rawPuts = new HashMap<>();
+                puts.forEach((field, value) -> rawPuts.put(field.getBytes(StandardCharsets.UTF_8), value));
+                connection.hashCommands().hMSet(rawKey, rawPuts);
+            }
+            if (ttlMillis > 0) {
+                connection.keyCommands().pExpire(rawKey, ttlMillis);
+            }
+            if (indexChanged) {
+                if (previousPrincipalName != null) {
+                    connection.setCommands().sRem(principalKey(previousPrincipalName), toBytes(previousId));
+                }
+                if (principalName != null) {
+                    connection.setCommands().sAdd(principalKey(principalName), toBytes(id));
+                }
+            }
+            connection.publish(channel, message);
+            return null;
+        });
+        session.originalPrincipalName = principalName;
+
+        Map<String, byte[]> cached = cache.get(id);
+        if (cached != null || session.isNew) {
+            Map<String, byte[]> updated = cached == null ? new HashMap<>() : new HashMap<>(cached);
+            removes.forEach(updated::remove);
+            updated.putAll(puts);
+            putIfNotInvalidated(id, updated, invalidation);
+        }
+        session.changesWritten();
+    }
+
+    @Override
+    public NearCacheSession findById(String id) {
+        Map<String, byte[]> fields = cache.get(id);
+        if (fields == null) {
+            long invalidation = invalidationOf(id);
+            fields = loadFields(id);
+            if (fields.isEmpty()) {
+                return null;
+            }
+            putIfNotInvalidated(id, fields, invalidation);
+        }
+        MapSession loaded = toMapSession(id, fields);
+        if (loaded.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new NearCacheSession(loaded, id, false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Map<String, byte[]> fields = cache.get(id);
+        if (fields == null) {
+            fields = loadFields(id);
+        }
+        String principalName = fields.isEmpty() ? null
+                : PRINCIPAL_RESOLVER.resolveIndexValueFor(toMapSession(id, fields));
+        invalidate(id);
+        byte[] message = (nodeId + ":" + id).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(toBytes(SESSION_KEY_PREFIX + id));
+            if (principalName != null) {
+                connection.setCommands().sRem(principalKey(principalName), toBytes(id));
+            }
+            connection.publish(channel, message);
+            return null;
+        });
+    }
+
+    /**
+     * 사용자명 인덱스로 세션을 조회합니다.
+     * 인덱스 Set 하나를 읽으므로 전체 세션 수와 관계없이 해당 사용자의 세션 수만큼만 조회합니다.
+     * 이미 만료된 세션 ID는 인덱스에서 제거합니다.
+     */
+    @Override
+    public Map<String, NearCacheSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+            return Collections.emptyMap();
+        }
+        Set<byte[]> members = redisTemplate.execute(
+                (RedisCallback<Set<byte[]>>) connection -> connection.setCommands().sMembers(principalKey(indexValue)));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, NearCacheSession> sessions = new HashMap<>();
+        List<String> staleIds = new ArrayList<>();
+        for (byte[] member : members) {
+            String sessionId = new String(member, StandardCharsets.UTF_8);
+            NearCacheSession session = findById(sessionId);
+            if (session == null) {
+                staleIds.add(sessionId);
+            } else {
+                sessions.put(sessionId, session);
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands()
+                    .sRem(principalKey(indexValue), staleIds.stream().map(NearCacheSessionRepository::toBytes)
+                            .toArray(byte[][]::new)));
+        }
+        return sessions;
+    }
+
+    /**
+     * 다른 인스턴스가 세션을 변경했다는 메시지를 받으면 캐시에서 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String sessionId = body.substring(separator + 1);
+        log.trace("Evicting near-cached session [{}] changed on another node", sessionId);
+        invalidate(sessionId);
+    }
+
+    /**
+     * 세션의 무효화 순번을 올린 뒤 캐시에서 제거
+     * 순번을 먼저 올리므로 제거 전에 Redis 에서 읽기 시작한 조회는 읽은 값을 캐시에 넣지 않음
+     */
+    private void invalidate(String id) {
+        invalidations.incrementAndGet(stripe(id));
+        cache.evict(id);
+    }
+
+    private long invalidationOf(String id) {
+        return invalidations.get(stripe(id));
+    }
+
+    /**
+     * Redis 에서 읽기 시작한 뒤 무효화되지 않은 경우에만 캐시에 저장
+     *
+     * @param invalidation 읽기 시작 전의 무효화 순번
+     */
+    private void putIfNotInvalidated(String id, Map<String, byte[]> fields, long invalidation) {
+        cache.put(id, fields);
+        // 저장과 무효화가 겹친 경우에도 저장한 값을 남기지 않도록 저장 후 한 번 더 확인
+        if (invalidationOf(id) != invalidation) {
+            log.trace("Session [{}] was invalidated while loading, not caching", id);
+            cache.evict(id);
+        }
+    }
+
+    private static int stripe(String id) {
+        int hash = id.hashCode();
+        return (hash ^ (hash >>> 16)) & (INVALIDATION_STRIPES - 1);
+    }
+
+    private Map<String, byte[]> loadFields(String id) {
+        Map<String, byte[]> fields = new HashMap<>();
+        redisTemplate.<String, byte[]>opsForHash().entries(SESSION_KEY_PREFIX + id).forEach(fields::put);
+        return fields;
+    }
+
+    private MapSession toMapSession(String id, Map<String, byte[]> fields) {
+        MapSession session = new MapSession(id);
+        fields.forEach((field, bytes) -> {
+            Object value = serializer.deserialize(bytes);
+            if (field.equals(CREATION_TIME)) {
+                session.setCreationTime(Instant.ofEpochMilli(((Number) value).longValue()));
+            } else if (field.equals(LAST_ACCESSED_TIME)) {
+                session.setLastAccessedTime(Instant.ofEpochMilli(((Number) value).longValue()));
+            } else if (field.equals(MAX_INACTIVE_INTERVAL)) {
+                session.setMaxInactiveInterval(Duration.ofSeconds(((Number) value).longValue()));
+            } else if (field.startsWith(ATTRIBUTE_PREFIX)) {
+                session.setAttribute(field.substring(ATTRIBUTE_PREFIX.length()), value);
+            }
+        });
+        return session;
+    }
+
+    private boolean renameSession(String oldId, String newId) {
+        invalidate(oldId);
+        try {
+            redisTemplate.rename(SESSION_KEY_PREFIX + oldId, SESSION_KEY_PREFIX + newId);
+            return true;
+        } catch (NonTransientDataAccessException e) {
+            log.debug("Session [{}] no longer exists while renaming to [{}]", oldId, newId);
+            return false;
+        } finally {
+            publish(oldId);
+        }
+    }
+
+    private void publish(String sessionId) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection
+                    .publish(channel, (nodeId + ":" + sessionId).getBytes(StandardCharsets.UTF_8)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish session invalidation for [{}]", sessionId, e);
+        }
+    }
+
+    private static byte[] principalKey(String principalName) {
+        return toBytes(PRINCIPAL_KEY_PREFIX + principalName);
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] toBytes(List<String> fields) {
+        byte[][] raw = new byte[fields.size()][];
+        for (int i = 0; i < fields.size(); i++) {
+            raw[i] = fields.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return raw;
+    }
+
+    /**
+     * 변경된 필드를 기록해 두었다가 저장 시 함께 기록하는 세션
+     */
+    public static final class NearCacheSession implements Session {
+        private final MapSession cached;
+        private final Map<String, Object> delta = new HashMap<>();
+        private final Instant persistedLastAccessedTime;
+        private String originalId;
+        private String originalPrincipalName;
+        private boolean isNew;
+
+        NearCacheSession(MapSession cached, String originalId, boolean isNew) {
+            this.cached = cached;
+            this.originalId = originalId == null ? cached.getId() : originalId;
+            this.isNew = isNew;
+            this.persistedLastAccessedTime = cached.getLastAccessedTime();
+            this.originalPrincipalName = isNew ? null : PRINCIPAL_RESOLVER.resolveIndexValueFor(cached);
+        }
+
+        @Override
+        public String getId() {
+            return cached.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return cached.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return cached.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return cached.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            cached.setAttribute(attributeName, attributeValue);
+            delta.put(ATTRIBUTE_PREFIX + attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            cached.removeAttribute(attributeName);
+            delta.put(ATTRIBUTE_PREFIX + attributeName, null);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return cached.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            cached.setLastAccessedTime(lastAccessedTime);
+            delta.put(LAST_ACCESSED_TIME, lastAccessedTime.toEpochMilli());
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return cached.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            cached.setMaxInactiveInterval(interval);
+            delta.put(MAX_INACTIVE_INTERVAL, (int) interval.getSeconds());
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return cached.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return cached.isExpired();
+        }
+
+        private void markAllChanged() {
+            delta.put(CREATION_TIME, cached.getCreationTime().toEpochMilli());
+            delta.put(LAST_ACCESSED_TIME, cached.getLastAccessedTime().toEpochMilli());
+            delta.put(MAX_INACTIVE_INTERVAL, (int) cached.getMaxInactiveInterval().getSeconds());
+            for (String attributeName : cached.getAttributeNames()) {
+                delta.put(ATTRIBUTE_PREFIX + attributeName, cached.getAttribute(attributeName));
+            }
+        }
+
+        /**
+         * 기록할 변경이 있는지 확인
+         * 마지막 접근 시간만 바뀌었고 마지막으로 기록한 뒤 touchIntervalMillis 가 지나지 않았으면 기록하지 않음
+         */
+        private boolean hasChangesToWrite(long touchIntervalMillis) {
+            if (delta.isEmpty()) {
+                return false;
+            }
+            if (isNew || delta.size() > 1 || !delta.containsKey(LAST_ACCESSED_TIME)) {
+                return true;
+            }
+            long elapsed = cached.getLastAccessedTime().toEpochMilli() - persistedLastAccessedTime.toEpochMilli();
+            if (elapsed < touchIntervalMillis) {
+                delta.clear();
+                return false;
+            }
+            return true;
+        }
+
+        private void changesWritten() {
+            delta.clear();
+            isNew = false;
+        }
+    }
+}
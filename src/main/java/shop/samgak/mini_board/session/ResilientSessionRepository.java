@@ -0,0 +1,323 @@
+package shop.samgak.mini_board.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.session.Session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.utility.CircuitBreaker;
+
+/**
+ * Redis 세션 저장소 앞에서 Redis 장애를 감지하고, 장애 중에는 로컬 세션 저장소로 대신 처리하는 세션 저장소
+ * Redis 호출이 연속으로 실패하면 회로 차단기가 열려 이후 요청은 Redis 응답을 기다리지 않고 로컬 저장소를 사용합니다.
+ * 로컬 저장소는 크기가 제한된 LRU 맵이며, 가득 차면 가장 오래 사용하지 않은 세션부터 제거합니다.
+ *
+ * Redis 가 복구되면 로컬 세션은 다음 저장 시점에 새 Redis 세션으로 옮겨집니다.
+ * Redis 세션 ID 는 저장소가 만들기 때문에 옮긴 세션의 ID 는 바뀌며, SessionRepositoryFilter 가 새 쿠키를 내려줍니다.
+ * 장애 중에는 Redis 에만 있는 기존 세션을 읽을 수 없으므로 해당 사용자는 다시 로그인해야 합니다.
+ *
+ * Redis 세션 저장소 호출 시간은 작업별로 latency.redis 타이머에 기록합니다. (로컬 저장소 처리 시간은 제외)
+ */
+@Slf4j
+public class ResilientSessionRepository
+        implements FindByIndexNameSessionRepository<ResilientSessionRepository.ResilientSession> {
+    private static final PrincipalNameIndexResolver<Session> PRINCIPAL_RESOLVER = new PrincipalNameIndexResolver<>();
+
+    private final FindByIndexNameSessionRepository<Session> redisRepository;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, Session> localSessions;
+    private final MapSessionRepository localRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param redisRepository  Redis 세션 저장소
+     * @param circuitBreaker   Redis 호출 회로 차단기
+     * @param localMaxSessions 로컬에 보관할 최대 세션 수
+     * @param meterRegistry    Redis 호출 시간을 기록할 MeterRegistry
+     */
+    @SuppressWarnings("unchecked")
+    public ResilientSessionRepository(FindByIndexNameSessionRepository<? extends Session> redisRepository,
+            CircuitBreaker circuitBreaker, int localMaxSessions, MeterRegistry meterRegistry) {
+        this.redisRepository = (FindByIndexNameSessionRepository<Session>) redisRepository;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.localSessions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                return size() > localMaxSessions;
+            }
+        });
+        this.localRepository = new MapSessionRepository(localSessions);
+    }
+
+    @Override
+    public ResilientSession createSession() {
+        // 세션 생성은 Redis 에 접근하지 않으므로 차단기 상태만 확인
+        if (circuitBreaker.isClosed()) {
+            return new ResilientSession(redisRepository.createSession(), false);
+        }
+        return new ResilientSession(localRepository.createSession(), true);
+    }
+
+    @Override
+    public void save(ResilientSession session) {
+        if (session.local) {
+            // 차단기가 열려 있어도 유지 시간이 지났으면 이 저장을 시험 호출로 사용
+            if (!moveToRedis(session)) {
+                localRepository.save((MapSession) session.delegate);
+            }
+            return;
+        }
+        if (circuitBreaker.allowRequest()) {
+            try {
+                callRedis(() -> timeRedis("save", () -> redisRepository.save(session.delegate)));
+                return;
+            } catch (DataAccessException e) {
+                logFailure("save", e);
+            }
+        }
+        // Redis 에 기록하지 못한 세션은 같은 ID 로 로컬 저장소에 보관
+        MapSession localSession = new MapSession(session.delegate);
+        localRepository.save(localSession);
+        session.switchTo(localSession, true);
+    }
+
+    @Override
+    public ResilientSession findById(String id) {
+        // 장애 중에 바뀐 세션은 로컬에 있으므로 먼저 확인
+        MapSession localSession = localRepository.findById(id);
+        if (localSession != null) {
+            return new ResilientSession(localSession, true);
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+        try {
+            Session session = callRedis(() -> timeRedis("findById", () -> redisRepository.findById(id)));
+            return session == null ? null : new ResilientSession(session, false);
+        } catch (DataAccessException e) {
+            logFailure("findById", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        localRepository.deleteById(id);
+        if (!circuitBreaker.allowRequest()) {
+            return;
+        }
+        try {
+            callRedis(() -> timeRedis("deleteById", () -> redisRepository.deleteById(id)));
+        } catch (DataAccessException e) {
+            logFailure("deleteById", e);
+        }
+    }
+
+    @Override
+    public Map<String, ResilientSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, ResilientSession> sessions = new HashMap<>();
+        if (circuitBreaker.allowRequest()) {
+            try {
+                callRedis(() -> timeRedis("findByIndexNameAndIndexValue",
+                        () -> redisRepository.findByIndexNameAndIndexValue(indexName, indexValue)))
+                        .forEach((id, session) -> sessions.put(id, new ResilientSession(session, false)));
+            } catch (DataAccessException e) {
+                logFailure("findByIndexNameAndIndexValue", e);
+            }
+        }
+        if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+            // 로컬 세션은 장애 중에만 쌓이고 개수가 제한되어 있으므로 전체를 확인
+            synchronized (localSessions) {
+                for (Session session : localSessions.values()) {
+                    if (!session.isExpired() && indexValue.equals(PRINCIPAL_RESOLVER.resolveIndexValueFor(session))) {
+                        sessions.put(session.getId(), new ResilientSession(new MapSession(session), true));
+                    }
+                }
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * 로컬 세션을 새 Redis 세션으로 옮깁니다.
+     *
+     * @param session 로컬 세션
+     * @return 옮겼으면 true
+     */
+    private boolean moveToRedis(ResilientSession session) {
+        if (!circuitBreaker.allowRequest()) {
+            return false;
+        }
+        MapSession localSession = (MapSession) session.delegate;
+        Session redisSession;
+        try {
+            redisSession = callRedis(() -> {
+                Session created = redisRepository.createSession();
+                for (String attributeName : localSession.getAttributeNames()) {
+                    created.setAttribute(attributeName, localSession.getAttribute(attributeName));
+                }
+                created.setMaxInactiveInterval(localSession.getMaxInactiveInterval());
+                created.setLastAccessedTime(localSession.getLastAccessedTime());
+                timeRedis("save", () -> redisRepository.save(created));
+                // 장애 전에 Redis 에 남아 있던 같은 ID 의 세션은 로컬 세션보다 오래된 값이므로 제거
+                timeRedis("deleteById", () -> redisRepository.deleteById(localSession.getOriginalId()));
+                return created;
+            });
+        } catch (DataAccessException e) {
+            logFailure("moveToRedis", e);
+            return false;
+        }
+        localRepository.deleteById(localSession.getOriginalId());
+        localRepository.deleteById(localSession.getId());
+        log.debug("Moved local session [{}] to Redis session [{}]", localSession.getId(), redisSession.getId());
+        session.switchTo(redisSession, false);
+        return true;
+    }
+
+    /**
+     * allowRequest 로 허용된 Redis 호출을 실행하고 결과를 회로 차단기에 기록합니다.
+     * DataAccessException 이 아닌 예외(직렬화 실패 등)도 실패로 기록한 뒤 그대로 던지므로,
+     * 시험 호출이 결과를 남기지 않아 차단기가 HALF_OPEN 에 머무르는 일이 없습니다.
+     */
+    private <T> T callRedis(Supplier<T> call) {
+        boolean succeeded = false;
+        try {
+            T result = call.get();
+            succeeded = true;
+            return result;
+        } finally {
+            if (succeeded) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+        }
+    }
+
+    private void callRedis(Runnable call) {
+        callRedis(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> T timeRedis(String operation, Supplier<T> call) {
+        return redisTimer(operation).record(call);
+    }
+
+    private void timeRedis(String operation, Runnable call) {
+        redisTimer(operation).record(call);
+    }
+
+    private Timer redisTimer(String operation) {
+        return Timer.builder("latency.redis")
+                .description("Time spent in Redis session repository calls")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private void logFailure(String operation, DataAccessException e) {
+        log.warn("Redis session [{}] failed, using local session store: {}", operation, e.getMessage());
+    }
+
+    /**
+     * Redis 세션 또는 로컬 세션을 감싸는 세션
+     * 저장 시점에 Redis 상태에 따라 감싼 세션이 바뀔 수 있으므로 SessionRepositoryFilter 에는 항상 이 객체를 전달합니다.
+     */
+    public static final class ResilientSession implements Session {
+        private Session delegate;
+        private boolean local;
+
+        ResilientSession(Session delegate, boolean local) {
+            this.delegate = delegate;
+            this.local = local;
+        }
+
+        private void switchTo(Session delegate, boolean local) {
+            this.delegate = delegate;
+            this.local = local;
+        }
+
+        /**
+         * @return 로컬 저장소의 세션이면 true
+         */
+        public boolean isLocal() {
+            return local;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
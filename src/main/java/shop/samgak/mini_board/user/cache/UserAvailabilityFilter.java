@@ -0,0 +1,169 @@
+package shop.samgak.mini_board.user.cache;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.user.dto.UserIdentityDTO;
+import shop.samgak.mini_board.user.repositories.UserRepository;
+import shop.samgak.mini_board.utility.BloomFilter;
+
+/**
+ * 사용자명/이메일 사용 여부를 DB 조회 없이 판단하기 위한 블룸 필터
+ * 필터에 없다고 판단되면 확실히 사용되지 않은 값이므로 DB를 조회하지 않고, 있을 수 있다고 판단될 때만 DB를 조회합니다.
+ * 대소문자와 앞뒤 공백을 정규화한 값을 저장하므로 정확히 일치하는 값에 대해 잘못된 음성 판단이 발생하지 않습니다.
+ * 필터는 인스턴스마다 따로 유지되므로 다른 인스턴스에서 가입한 사용자는 반영되지 않으며,
+ * 이 경우 DB의 고유 제약 조건으로 중복 가입을 막습니다.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityFilter {
+    private final UserRepository userRepository;
+    private final CacheProperties.Availability properties;
+
+    // 필터가 만들어지기 전에는 null 이며, 이때는 항상 DB를 조회
+    private volatile Filters current;
+    // 다시 만드는 중인 필터, 그 사이에 가입한 사용자도 함께 추가
+    private volatile Filters building;
+    // DB 조회 중에 잠금을 유지하므로 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public UserAvailabilityFilter(UserRepository userRepository, CacheProperties cacheProperties) {
+        this.userRepository = userRepository;
+        this.properties = cacheProperties.getAvailability();
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 사용자로 필터를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            log.info("User availability bloom filter is disabled");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB의 사용자명과 이메일을 ID 순서로 나누어 읽어 필터를 새로 만듭니다.
+     * 사용자 수의 2배를 수용하도록 크기를 정하므로 이후 가입이 늘어도 오탐률이 천천히 증가합니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFilters();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFilters() {
+        long startedAt = System.nanoTime();
+        long userCount = userRepository.count();
+        long capacity = Math.max(properties.getExpectedInsertions(), userCount * 2);
+        Filters next = new Filters(capacity, properties.getFalsePositiveRate());
+        building = next;
+        try {
+            int batchSize = properties.getRebuildBatchSize();
+            PageRequest page = PageRequest.of(0, batchSize);
+            long lastId = 0;
+            List<UserIdentityDTO> batch;
+            do {
+                batch = userRepository.findIdentitiesAfter(lastId, page);
+                for (UserIdentityDTO identity : batch) {
+                    next.add(identity.getUsername(), identity.getEmail());
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == batchSize);
+            current = next;
+        } finally {
+            building = null;
+        }
+
+        BloomFilter usernames = next.usernames;
+        long bytesPerMillion = Math.round((double) usernames.getBitSize() / capacity * 1_000_000 / 8);
+        log.info("Built user availability bloom filter in [{}] ms: users [{}], capacity [{}], hash functions [{}], "
+                + "memory [{}] bytes (username + email), [{}] bytes per million users per filter, "
+                + "expected false positive rate [{}] now / [{}] at capacity",
+                (System.nanoTime() - startedAt) / 1_000_000, next.count.get(), capacity, usernames.getHashCount(),
+                usernames.getMemoryBytes() + next.emails.getMemoryBytes(), bytesPerMillion,
+                String.format("%.4f", usernames.expectedFalsePositiveRate(next.count.get())),
+                String.format("%.4f", usernames.expectedFalsePositiveRate(capacity)));
+    }
+
+    /**
+     * 사용자명이 사용 중일 수 있는지 확인합니다.
+     *
+     * @param username 사용자명
+     * @return 사용 중이 아닌 것이 확실하면 false
+     */
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames.mightContain(normalize(username));
+    }
+
+    /**
+     * 이메일이 사용 중일 수 있는지 확인합니다.
+     *
+     * @param email 이메일
+     * @return 사용 중이 아닌 것이 확실하면 false
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(normalize(email));
+    }
+
+    /**
+     * 새로 가입한 사용자를 필터에 추가합니다.
+     * 다시 만드는 중인 필터를 먼저 확인해야 교체 시점에 가입한 사용자가 빠지지 않습니다.
+     *
+     * @param username 사용자명
+     * @param email    이메일
+     */
+    public void add(String username, String email) {
+        Filters rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.add(username, email);
+        }
+        Filters filters = current;
+        if (filters != null && filters != rebuilding) {
+            filters.add(username, email);
+            if (filters.count.get() == filters.usernames.getExpectedInsertions() + 1) {
+                log.warn("User availability bloom filter exceeded its capacity [{}], false positive rate will grow "
+                        + "until the next rebuild", filters.usernames.getExpectedInsertions());
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        private final AtomicLong count = new AtomicLong();
+
+        Filters(long capacity, double falsePositiveRate) {
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        void add(String username, String email) {
+            usernames.put(normalize(username));
+            emails.put(normalize(email));
+            count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package shop.samgak.mini_board.user.cache;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.repositories.UserRepository;
+import shop.samgak.mini_board.utility.ExpiringCache;
+
+/**
+ * 사용자 ID로 조회한 가벼운 사용자 정보(ID, 사용자명)를 짧은 시간 동안 보관하는 로컬 캐시
+ * 게시물/댓글 작성 때마다 같은 사용자 행을 다시 읽지 않도록 합니다.
+ * 비밀번호 해시는 캐시하지 않으므로 어느 인스턴스에서 비밀번호를 바꾸든 이전 비밀번호로는 바로 로그인할 수 없습니다.
+ */
+@Slf4j
+@Component
+public class UserLookupCache {
+    private final UserRepository userRepository;
+
+    private final ExpiringCache<Long, UserDTO> usersById;
+
+    public UserLookupCache(UserRepository userRepository, CacheProperties cacheProperties) {
+        this.userRepository = userRepository;
+
+        CacheProperties.UserLookup userLookup = cacheProperties.getUserLookup();
+        this.usersById = new ExpiringCache<>(userLookup.getTtl(), userLookup.getMaxEntries());
+    }
+
+    /**
+     * ID로 사용자 정보를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 정보, 없으면 null
+     */
+    public UserDTO getById(Long userId) {
+        return usersById.get(userId, key -> userRepository.findDTOById(key).orElse(null));
+    }
+
+    /**
+     * 사용자명으로 인증 정보를 조회합니다.
+     * 인증 정보는 매번 DB에서 읽고, 사용자 정보만 ID 캐시에 저장합니다.
+     *
+     * @param username 사용자명
+     * @return 인증 정보, 없으면 null
+     */
+    public UserCredentialDTO getCredentials(String username) {
+        UserCredentialDTO credentials = userRepository.findCredentialsByUsername(username).orElse(null);
+        if (credentials != null) {
+            usersById.put(credentials.getId(), credentials.toUserDTO());
+        }
+        return credentials;
+    }
+
+    /**
+     * ID의 사용자 정보를 캐시에서 제거합니다.
+     * 캐시된 사용자가 DB에 없는 것으로 확인된 경우 호출합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        log.debug("Evicting cached user of ID [{}]", userId);
+        usersById.evict(userId);
+    }
+}
@@ -1,22 +1,30 @@
 package shop.samgak.mini_board.user.controllers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.regex.Pattern;
 
 import org.apache.commons.validator.routines.EmailValidator;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import shop.samgak.mini_board.user.dto.UserDTO;
@@ -39,13 +47,22 @@ public class UserController {
 
     // 비밀번호 패턴 정규식 정의 (숫자, 소문자, 대문자, 특수문자를 포함하고 최소 8자 이상)
     private static final String PASSWORD_PATTERN = "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[!@#$%^&*]).{8,}$";
+    // 요청마다 정규식을 다시 컴파일하지 않도록 미리 컴파일
+    private static final Pattern PASSWORD_REGEX = Pattern.compile(PASSWORD_PATTERN);
 
     // 세션에 사용자 이름 및 이메일을 저장하는 키 상수 정의
     public static final String SESSION_CHECKED_USER = "checked_user_name";
     public static final String SESSION_CHECKED_EMAIL = "checked_email";
 
+    // 사용자 목록 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     // 사용자 서비스 객체 주입
     final UserService userService;
+    final ObjectMapper objectMapper;
 
     /**
      * 사용자 이름 사용 가능 여부를 체크하는 엔드포인트
@@ -58,7 +75,7 @@ public class UserController {
     public ResponseEntity<ApiResponse> checkUsername(@RequestBody @Valid CheckUsernameRequest request,
             HttpSession session) {
 
-        log.info("Checking username availability: [{}]", request.username);
+        log.debug("Checking username availability: [{}]", request.username);
         boolean isExistUserName = userService.existUsername(request.username);
         if (!isExistUserName) {
             session.setAttribute(SESSION_CHECKED_USER, request.username);
@@ -79,7 +96,7 @@ public class UserController {
     @PostMapping("check/email")
     public ResponseEntity<ApiResponse> checkEmail(@RequestBody @Valid CheckEmailRequest request,
             HttpSession session) {
-        log.info("Checking email availability: [{}]", request.email);
+        log.debug("Checking email availability: [{}]", request.email);
         EmailValidator validator = EmailValidator.getInstance();
         if (!validator.isValid(request.email)) {
             return ResponseEntity.badRequest()
@@ -105,8 +122,8 @@ public class UserController {
     @PostMapping("check/password")
     public ResponseEntity<ApiDataResponse> checkPassword(
             @RequestBody @Valid CheckPasswordRequest request) {
-        log.info("Checking password format for: [{}]", request.password);
-        boolean isValid = request.password.matches(PASSWORD_PATTERN);
+        log.debug("Checking password format");
+        boolean isValid = PASSWORD_REGEX.matcher(request.password).matches();
         return ResponseEntity
                 .ok(new ApiDataResponse("Password format check", isValid));
     }
@@ -120,7 +137,7 @@ public class UserController {
      */
     @PostMapping("register")
     public ResponseEntity<ApiResponse> register(@RequestBody @Valid RegisterRequest request, HttpSession session) {
-        log.info("trying to register user with username: [{}] and email: [{}]", request.username, request.email);
+        log.debug("trying to register user with username: [{}] and email: [{}]", request.username, request.email);
         boolean isExistEmail = userService.existEmail(request.email);
         if (isExistEmail) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -170,7 +187,7 @@ public class UserController {
      */
     @GetMapping("check/status")
     public ResponseEntity<ApiResponse> checkLoginStatus() {
-        log.info("Checking login status");
+        log.debug("Checking login status");
         return ResponseEntity.ok(new ApiDataResponse("Login status", AuthUtils.checkLogin()));
     }
 
@@ -182,11 +199,52 @@ public class UserController {
      */
     @GetMapping("me")
     public ResponseEntity<ApiResponse> me(HttpServletRequest request) {
-        log.info("Fetching current logged-in user information");
+        log.debug("Fetching current logged-in user information");
         UserDTO userDTO = AuthUtils.getCurrentUser();
         return ResponseEntity.ok(new ApiDataResponse("Login status", userDTO));
     }
 
+    /**
+     * 사용자 목록을 ID 순서로 한 페이지씩 반환하는 엔드포인트 (관리자 전용, SecurityConfig 참고)
+     * 
+     * @param after 이전 페이지 응답의 nextAfterId (처음에는 0)
+     * @param size  페이지 크기 (최대 100)
+     * @return 사용자 목록과 다음 페이지 요청에 사용할 ID
+     */
+    @GetMapping("list")
+    public ResponseEntity<ApiResponse> list(@RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.debug("Fetching users after ID [{}] with page size [{}]", after, pageSize);
+        return ResponseEntity.ok(new ApiDataResponse("success", userService.getPage(after, pageSize)));
+    }
+
+    /**
+     * 전체 사용자 목록을 한 줄에 한 명씩 NDJSON 으로 내보내는 엔드포인트 (관리자 전용, SecurityConfig 참고)
+     * DB 커서에서 읽는 대로 응답에 기록하므로 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 
+     * @return 사용자 정보를 스트리밍하는 응답
+     */
+    @GetMapping(value = "export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.debug("Exporting all users as NDJSON");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                userService.exportAll(userDTO -> {
+                    try {
+                        generator.writeObject(userDTO);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+
     /**
      * 비밀번호 변경을 처리하는 엔드포인트
      * 
@@ -195,7 +253,7 @@ public class UserController {
      */
     @PutMapping("password")
     public ResponseEntity<ApiResponse> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
-        log.info("Attempting to change password for current user");
+        log.debug("Attempting to change password for current user");
         UserDTO user = AuthUtils.getCurrentUser();
         userService.changePassword(user.getUsername(), request.password);
         return ResponseEntity.ok(new ApiSuccessResponse("Password change successful"));
@@ -219,7 +277,7 @@ public class UserController {
      * 비밀번호 변경 요청을 위한 레코드 정의
      */
     public record ChangePasswordRequest(
-            @NotNull(message = "Missing required parameter") @Pattern(regexp = PASSWORD_PATTERN, message = "Invalid password format") String password) {
+            @NotNull(message = "Missing required parameter") @jakarta.validation.constraints.Pattern(regexp = PASSWORD_PATTERN, message = "Invalid password format") String password) {
     }
 
     /**
@@ -0,0 +1,36 @@
+package shop.samgak.mini_board.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 시 비밀번호 확인에 필요한 값만 담는 DTO 클래스
+ * 이메일, 생성일 등 인증에 사용하지 않는 컬럼은 읽지 않음
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class UserCredentialDTO {
+    /**
+     * 사용자 ID
+     */
+    private Long id;
+    /**
+     * 사용자명
+     */
+    private String username;
+    /**
+     * 비밀번호 해시
+     */
+    private String password;
+
+    /**
+     * 비밀번호를 제외한 사용자 정보로 변환
+     *
+     * @return UserDTO 객체
+     */
+    public UserDTO toUserDTO() {
+        return new UserDTO(id, username);
+    }
+}
@@ -0,0 +1,27 @@
+package shop.samgak.mini_board.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자명/이메일 중복 확인용 인덱스를 만들 때 사용하는 DTO 클래스
+ * 비밀번호 등 다른 컬럼은 읽지 않도록 필요한 값만 포함
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class UserIdentityDTO {
+    /**
+     * 사용자 ID
+     */
+    private Long id;
+    /**
+     * 사용자명
+     */
+    private String username;
+    /**
+     * 이메일
+     */
+    private String email;
+}
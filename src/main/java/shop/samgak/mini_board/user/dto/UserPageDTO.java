@@ -0,0 +1,25 @@
+package shop.samgak.mini_board.user.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 목록의 한 페이지를 담는 DTO 클래스
+ * 다음 페이지는 nextAfterId 이후의 사용자를 요청하여 조회
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class UserPageDTO {
+    /**
+     * ID 오름차순 사용자 목록
+     */
+    private List<UserDTO> users;
+    /**
+     * 다음 페이지 요청 시 사용할 마지막 사용자 ID, 마지막 페이지이면 null
+     */
+    private Long nextAfterId;
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,11 +18,23 @@ import lombok.NoArgsConstructor;
  * 사용자 정보를 저장하는 엔티티 클래스
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email") })
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class User {
+    /**
+     * 사용자 이름 고유 제약 조건 이름 (sample.sql, migration/001_users_unique_constraints.sql 과 같음)
+     */
+    public static final String UK_USERNAME = "UK_username";
+
+    /**
+     * 사용자 이메일 고유 제약 조건 이름
+     */
+    public static final String UK_EMAIL = "UK_email";
+
     /**
      * 사용자 ID (기본 키)
      */
@@ -1,10 +1,24 @@
 package shop.samgak.mini_board.user.repositories;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.dto.UserIdentityDTO;
 import shop.samgak.mini_board.user.entities.User;
 
 /**
@@ -27,4 +41,75 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 해당 사용자명을 가진 사용자 정보(Optional로 반환하여 존재하지 않을 수 있음)
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * ID로 사용자 ID와 사용자명만 조회하는 메서드
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보(Optional로 반환하여 존재하지 않을 수 있음)
+     */
+    @Query("select new shop.samgak.mini_board.user.dto.UserDTO(u.id, u.username) from User u where u.id = :userId")
+    Optional<UserDTO> findDTOById(@Param("userId") Long userId);
+
+    /**
+     * 사용자명으로 로그인에 필요한 ID, 사용자명, 비밀번호 해시만 조회하는 메서드
+     * 
+     * @param username 사용자명
+     * @return 인증 정보(Optional로 반환하여 존재하지 않을 수 있음)
+     */
+    @Query("select new shop.samgak.mini_board.user.dto.UserCredentialDTO(u.id, u.username, u.password) "
+            + "from User u where u.username = :username")
+    Optional<UserCredentialDTO> findCredentialsByUsername(@Param("username") String username);
+
+    /**
+     * 지정한 ID 이후의 사용자명과 이메일을 ID 순서로 조회하는 메서드
+     * 전체 사용자를 한 번에 메모리에 올리지 않고 나누어 읽을 때 사용합니다.
+     * 
+     * @param afterId  이전 묶음의 마지막 사용자 ID (처음에는 0)
+     * @param pageable 한 번에 읽을 개수 (정렬은 쿼리에서 지정)
+     * @return 사용자 ID, 사용자명, 이메일 목록
+     */
+    @Query("select new shop.samgak.mini_board.user.dto.UserIdentityDTO(u.id, u.username, u.email) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserIdentityDTO> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 지정한 ID 이후의 사용자 ID와 사용자명을 ID 순서로 조회하는 메서드
+     * OFFSET 대신 마지막 ID 조건으로 다음 페이지를 읽어 뒤쪽 페이지도 인덱스 범위 조회로 처리합니다.
+     * 
+     * @param afterId  이전 페이지의 마지막 사용자 ID (처음에는 0)
+     * @param pageable 한 페이지의 크기 (정렬은 쿼리에서 지정)
+     * @return 사용자 정보 목록
+     */
+    @Query("select new shop.samgak.mini_board.user.dto.UserDTO(u.id, u.username) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserDTO> findDTOsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 전체 사용자의 ID와 사용자명을 ID 순서로 커서를 통해 읽는 메서드
+     * JDBC fetch size 만큼씩 가져오며 영속성 컨텍스트에 엔티티를 쌓지 않으므로 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 읽기 전용 트랜잭션 안에서 호출하고, 사용 후 Stream 을 닫아야 합니다.
+     * 
+     * @return 사용자 정보 Stream
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select new shop.samgak.mini_board.user.dto.UserDTO(u.id, u.username) from User u order by u.id")
+    Stream<UserDTO> streamAllDTOs();
+
+    /**
+     * 저장된 비밀번호 해시가 바뀌지 않은 경우에만 새 해시로 교체하는 메서드
+     * 로그인 시 해시를 다시 만드는 동안 사용자가 비밀번호를 변경했다면 덮어쓰지 않습니다.
+     * 
+     * @param userId      사용자 ID
+     * @param oldPassword 기존 비밀번호 해시
+     * @param newPassword 새 비밀번호 해시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newPassword where u.id = :userId and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId, @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
 }
@@ -1,19 +1,29 @@
 package shop.samgak.mini_board.user.services;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.dto.UserPageDTO;
 
 /**
  * 사용자 관련 비즈니스 로직을 정의하는 인터페이스
  */
 public interface UserService {
     /**
-     * 모든 사용자 정보를 가져오는 메서드
+     * 지정한 ID 이후의 사용자 정보를 한 페이지 가져오는 메서드
      *
-     * @return 모든 사용자의 UserDTO 목록
+     * @param afterId 이전 페이지의 마지막 사용자 ID (처음에는 0)
+     * @param size    페이지 크기
+     * @return 사용자 목록과 다음 페이지 요청에 사용할 ID
      */
-    List<UserDTO> getAll();
+    UserPageDTO getPage(Long afterId, int size);
+
+    /**
+     * 모든 사용자 정보를 메모리에 모으지 않고 하나씩 전달하는 메서드
+     *
+     * @param consumer 사용자 정보를 받을 함수
+     */
+    void exportAll(Consumer<UserDTO> consumer);
 
     /**
      * 새로운 사용자를 저장하는 메서드
@@ -2,32 +2,46 @@ package shop.samgak.mini_board.user.services;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
+import shop.samgak.mini_board.user.cache.UserAvailabilityFilter;
 import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.dto.UserPageDTO;
 import shop.samgak.mini_board.user.entities.User;
-import shop.samgak.mini_board.user.mapper.UserMapper;
 import shop.samgak.mini_board.user.repositories.UserRepository;
 
 @Service
+@Timed("latency.service")
 @Slf4j
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     final UserRepository userRepository;
-    final UserMapper userMapper;
     final PasswordEncoder passwordEncoder;
+    final UserAvailabilityFilter userAvailabilityFilter;
 
     @Override
-    public List<UserDTO> getAll() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+    public UserPageDTO getPage(Long afterId, int size) {
+        List<UserDTO> users = userRepository.findDTOsAfter(afterId, PageRequest.ofSize(size));
+        Long nextAfterId = users.size() < size ? null : users.get(users.size() - 1).getId();
+        return new UserPageDTO(users, nextAfterId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<UserDTO> consumer) {
+        try (Stream<UserDTO> users = userRepository.streamAllDTOs()) {
+            users.forEach(consumer);
+        }
     }
 
     @Override
@@ -35,16 +49,26 @@ public class UserServiceImpl implements UserService {
         User user = new User(null, username, email, passwordEncoder.encode(password), Instant.now(), Instant.now(),
                 null);
         user = userRepository.save(user);
+        userAvailabilityFilter.add(username, email);
         return user.getId();
     }
 
     @Override
     public boolean existUsername(String username) {
+        // 블룸 필터에 없으면 확실히 사용되지 않은 사용자명이므로 DB를 조회하지 않음
+        if (!userAvailabilityFilter.mightContainUsername(username)) {
+            log.debug("Username [{}] is not in the availability filter", username);
+            return false;
+        }
         return userRepository.findByUsername(username).isPresent();
     }
 
     @Override
     public boolean existEmail(String email) {
+        if (!userAvailabilityFilter.mightContainEmail(email)) {
+            log.debug("Email [{}] is not in the availability filter", email);
+            return false;
+        }
         return userRepository.findByEmail(email).isPresent();
     }
 
@@ -0,0 +1,132 @@
+package shop.samgak.mini_board.utility;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합에 대한 스레드 안전한 블룸 필터
+ * mightContain 이 false 를 반환하면 해당 값은 확실히 추가된 적이 없고,
+ * true 를 반환하면 설정한 오탐률 안에서 추가되었을 수 있습니다.
+ * 해시 두 개를 조합하는 이중 해싱(Kirsch-Mitzenmacher) 방식으로 k개의 비트 위치를 계산합니다.
+ */
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  예상 항목 수만큼 추가했을 때의 목표 오탐률 (0과 1 사이)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        // m = -n ln(p) / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitSize = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+        this.expectedInsertions = expectedInsertions;
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    /**
+     * 값을 필터에 추가합니다.
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 값이 추가되었을 가능성이 있는지 확인합니다.
+     *
+     * @param value 확인할 값
+     * @return 추가되지 않은 것이 확실하면 false
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 주어진 항목 수를 추가했을 때의 예상 오탐률 (1 - e^(-kn/m))^k
+     *
+     * @param insertions 추가된 항목 수
+     * @return 예상 오탐률
+     */
+    public double expectedFalsePositiveRate(long insertions) {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitSize), hashCount);
+    }
+
+    /**
+     * @return 비트 배열 크기 (비트 단위)
+     */
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    /**
+     * @return 값마다 설정하는 비트 수
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return 생성 시 지정한 예상 항목 수
+     */
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * @return 비트 배열이 차지하는 메모리 (바이트 단위)
+     */
+    public long getMemoryBytes() {
+        return bitSize / 8;
+    }
+
+    /**
+     * 문자열의 UTF-16 코드 단위에 대한 FNV-1a 64비트 해시에 MurmurHash3 finalizer 를 적용
+     */
+    private static long hash(String value, long seed) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,122 @@
+package shop.samgak.mini_board.utility;
+
+import java.time.Duration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 저장소 호출이 연속으로 실패하면 일정 시간 동안 호출을 막는 간단한 회로 차단기
+ * CLOSED 상태에서 연속 실패가 기준 횟수에 도달하면 OPEN 으로 바뀌어 호출을 바로 거절합니다.
+ * OPEN 유지 시간이 지나면 HALF_OPEN 으로 바뀌어 한 번의 시험 호출만 허용하고, 그 결과에 따라 CLOSED 또는 OPEN 으로 돌아갑니다.
+ * 시험 호출 결과가 OPEN 유지 시간 안에 기록되지 않으면 실패로 보고 OPEN 으로 돌아가므로 HALF_OPEN 에 머무르지 않습니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private long halfOpenedAtNanos;
+
+    /**
+     * @param name             로그에 표시할 이름
+     * @param failureThreshold OPEN 으로 바뀌는 연속 실패 횟수
+     * @param openDuration     OPEN 상태 유지 시간
+     */
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출을 시도해도 되는지 확인합니다.
+     * OPEN 유지 시간이 지났으면 HALF_OPEN 으로 바꾸고 이 호출을 시험 호출로 허용합니다.
+     * 허용된 호출은 결과를 recordSuccess 또는 recordFailure 로 알려야 합니다.
+     *
+     * @return 호출해도 되면 true
+     */
+    public synchronized boolean allowRequest() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenedAtNanos = System.nanoTime();
+                log.info("Circuit [{}] is half-open, allowing a trial call", name);
+                yield true;
+            }
+            // 시험 호출이 끝날 때까지 다른 호출은 거절
+            case HALF_OPEN -> {
+                if (System.nanoTime() - halfOpenedAtNanos >= openDurationNanos) {
+                    // 결과를 알리지 않은 시험 호출은 실패로 보고 다시 OPEN 유지 시간만큼 기다림
+                    log.warn("Circuit [{}] trial call did not report a result, reopening", name);
+                    state = State.OPEN;
+                    openedAtNanos = System.nanoTime();
+                }
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * 상태를 바꾸지 않고 정상 상태인지 확인합니다.
+     *
+     * @return CLOSED 상태이면 true
+     */
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * 허용된 호출이 성공했음을 기록합니다.
+     */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit [{}] closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * 허용된 호출이 실패했음을 기록합니다.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            log.warn("Circuit [{}] opened after [{}] consecutive failures", name, consecutiveFailures);
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 현재 상태 (OPEN 유지 시간이 지났어도 다음 allowRequest 호출 전까지는 OPEN)
+     *
+     * @return 현재 상태
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간 (초 단위, 최소 1초)
+     *
+     * @return 재시도까지 대기할 시간
+     */
+    public synchronized long getRetryAfterSeconds() {
+        long remaining = openDurationNanos - (System.nanoTime() - openedAtNanos);
+        return Math.max(1, Duration.ofNanos(Math.max(0, remaining)).toSeconds());
+    }
+}
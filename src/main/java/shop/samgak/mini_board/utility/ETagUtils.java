@@ -0,0 +1,56 @@
+package shop.samgak.mini_board.utility;
+
+import shop.samgak.mini_board.exceptions.PreconditionFailedException;
+
+/**
+ * 리소스 버전과 ETag 사이의 변환을 처리하는 유틸리티 클래스
+ * ETag는 버전 번호를 담은 강한 검증자("버전") 형식을 사용하여 If-Match 조건부 쓰기에 사용할 수 있습니다.
+ * 조회수는 읽을 때마다 서버가 올리는 값이라 검증 대상 상태로 보지 않으며 버전을 올리지 않습니다.
+ */
+public class ETagUtils {
+
+    /**
+     * 버전 번호로 ETag 문자열을 생성
+     *
+     * @param version 리소스 버전
+     * @return ETag 문자열, 버전이 없으면 null
+     */
+    public static String fromVersion(Long version) {
+        if (version == null) {
+            return null;
+        }
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 기대하는 버전 번호를 읽어옵니다.
+     * 헤더가 없거나 "*"이면 버전 조건이 없는 것으로 보고 null을 반환합니다.
+     * 여러 값이 전달되면 첫 번째 값을 사용합니다.
+     * If-Match 는 강한 비교를 사용하므로(RFC 9110) 약한 검증자(W/)는 어떤 버전과도 일치하지 않습니다.
+     *
+     * @param ifMatch If-Match 헤더 값
+     * @return 기대하는 버전, 조건이 없으면 null
+     * @throws PreconditionFailedException 약한 검증자이거나 이 서버가 발급한 형식의 ETag가 아닌 경우
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String first = ifMatch.split(",")[0].trim();
+        if (first.equals("*")) {
+            return null;
+        }
+        if (first.startsWith("W/")) {
+            throw new PreconditionFailedException("Weak entity tags never match in If-Match: " + ifMatch);
+        }
+        String value = first;
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match any current entity tag: " + ifMatch);
+        }
+    }
+}
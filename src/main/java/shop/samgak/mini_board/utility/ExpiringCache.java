@@ -0,0 +1,130 @@
+package shop.samgak.mini_board.utility;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 짧은 TTL을 가지는 간단한 로컬 캐시
+ * 접근 순서를 유지하는 LinkedHashMap 으로 구현하여, 항목 수가 최대치를 넘으면 가장 오래 사용하지 않은 항목 하나만 제거합니다.
+ * 만료된 항목은 조회할 때 제거하며, 저장할 때 전체 항목을 훑지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class ExpiringCache<K, V> {
+
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * @param ttl        항목 유지 시간
+     * @param maxEntries 최대 항목 수
+     */
+    public ExpiringCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 조회합니다.
+     *
+     * @param key 키
+     * @return 만료되지 않은 값, 없으면 null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 loader로 값을 만들어 저장합니다.
+     * loader가 null을 반환하면 저장하지 않습니다. loader 는 잠금 밖에서 호출합니다.
+     *
+     * @param key    키
+     * @param loader 값이 없을 때 호출할 함수
+     * @return 캐시된 값 또는 새로 만든 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 값을 저장합니다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * 만료되지 않은 값이 없을 때만 값을 저장합니다.
+     *
+     * @param key   키
+     * @param value 값
+     * @return 값을 저장했으면 true, 이미 유효한 값이 있으면 false
+     */
+    public synchronized boolean putIfAbsent(K key, V value) {
+        long now = System.nanoTime();
+        Entry<V> existing = entries.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return false;
+        }
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        return true;
+    }
+
+    /**
+     * 특정 키의 값을 제거합니다.
+     *
+     * @param key 키
+     */
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 모든 값을 제거합니다.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 현재 저장된 항목 수 (만료되었지만 정리되지 않은 항목 포함)
+     *
+     * @return 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
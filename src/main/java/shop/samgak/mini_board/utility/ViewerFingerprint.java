@@ -0,0 +1,51 @@
+package shop.samgak.mini_board.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 세션이나 쿠키 없이 같은 방문자의 반복 요청을 구분하기 위한 지문 생성 유틸리티
+ * 클라이언트 주소, User-Agent, Accept-Language 를 해시한 값이므로 원래 값은 보관하지 않습니다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 클라이언트 주소가 복원되어야 합니다.
+ */
+public class ViewerFingerprint {
+    // SHA-256 앞 16바이트만 사용
+    private static final int FINGERPRINT_BYTES = 16;
+
+    private ViewerFingerprint() {
+    }
+
+    /**
+     * 요청의 방문자 지문을 생성합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 32자리 16진수 지문
+     */
+    public static String of(HttpServletRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, request.getRemoteAddr());
+        update(digest, request.getHeader(HttpHeaders.USER_AGENT));
+        update(digest, request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        byte[] hash = digest.digest();
+        return HexFormat.of().formatHex(hash, 0, FINGERPRINT_BYTES);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // 값 사이의 경계를 구분하기 위한 구분자
+        digest.update((byte) 0);
+    }
+}
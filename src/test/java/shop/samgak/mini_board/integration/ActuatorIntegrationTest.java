@@ -0,0 +1,160 @@
+package shop.samgak.mini_board.integration;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 통합 테스트 클래스 - actuator 엔드포인트 노출과 접근 제한, 지연 시간 지표 설정을 테스트
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "shop.samgak.mini-board.admin.usernames=user")
+public class ActuatorIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RestClient restClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.hostname:localhost}")
+    private String hostname;
+
+    @Value("${app.secure:false}")
+    private boolean secure;
+
+    @BeforeEach
+    public void setup() {
+        String baseUrl = (secure ? "https" : "http") + "://" + hostname + ":" + port;
+        restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    /**
+     * 관리자로 설정한 사용자로 로그인하여 세션 쿠키를 반환합니다.
+     */
+    private String loginAsAdmin() {
+        ResponseEntity<String> loginResponse = restClient.post()
+                .uri("/api/auth/login")
+                .body(Map.of("username", "user", "password", "password"))
+                .retrieve()
+                .toEntity(String.class);
+        assertThat(loginResponse.getStatusCode()).isEqualTo(OK);
+        List<String> cookies = loginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
+        assertThat(cookies).isNotEmpty();
+        return String.join("; ", cookies);
+    }
+
+    /**
+     * 요청을 한 번 처리한 뒤 /actuator/latency 에서 HTTP 요청 타이머의 백분위와 SLO 구간을 조회할 수 있는지 테스트합니다.
+     */
+    @Test
+    public void testLatencyEndpointExposesHttpPercentilesAndSlo() throws Exception {
+        restClient.get()
+                .uri("/actuator/health")
+                .retrieve()
+                .toBodilessEntity();
+
+        ResponseEntity<String> response = restClient.get()
+                .uri("/actuator/latency")
+                .header(HttpHeaders.COOKIE, loginAsAdmin())
+                .retrieve()
+                .toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        JsonNode timers = objectMapper.readTree(response.getBody()).path("http.server.requests");
+        assertThat(timers.isArray()).isTrue();
+        assertThat(timers).isNotEmpty();
+        JsonNode timer = timers.get(0);
+        assertThat(timer.path("percentiles").has("p99")).isTrue();
+        assertThat(timer.path("slo").has("50ms")).isTrue();
+        assertThat(timer.path("slo").has("1s")).isTrue();
+    }
+
+    /**
+     * 타이머 이름을 지정하여 타이머 하나만 조회할 수 있는지 테스트합니다.
+     */
+    @Test
+    public void testLatencyEndpointSelectsTimerByName() throws Exception {
+        restClient.get()
+                .uri("/actuator/health")
+                .retrieve()
+                .toBodilessEntity();
+
+        ResponseEntity<String> response = restClient.get()
+                .uri("/actuator/latency/http.server.requests")
+                .header(HttpHeaders.COOKIE, loginAsAdmin())
+                .retrieve()
+                .toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(objectMapper.readTree(response.getBody()).isArray()).isTrue();
+    }
+
+    /**
+     * 로그인하지 않은 사용자는 JFR 기록 엔드포인트에 접근할 수 없는지 테스트합니다.
+     */
+    @Test
+    public void testJfrEndpointRequiresAuthentication() {
+        try {
+            restClient.post()
+                    .uri("/actuator/jfr")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body("{}")
+                    .retrieve()
+                    .toBodilessEntity();
+            fail("Expected 401");
+        } catch (HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(UNAUTHORIZED);
+        }
+    }
+
+    /**
+     * 로그인하지 않은 사용자는 설정값을 조회할 수 없고, 관리자에게도 토큰 설정값은 가려지는지 테스트합니다.
+     */
+    @Test
+    public void testEnvEndpointRequiresAdminAndMasksTokenSettings() throws Exception {
+        try {
+            restClient.get()
+                    .uri("/actuator/env")
+                    .retrieve()
+                    .toBodilessEntity();
+            fail("Expected 401");
+        } catch (HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(UNAUTHORIZED);
+        }
+
+        ResponseEntity<String> response = restClient.get()
+                .uri("/actuator/env/shop.samgak.mini-board.token.issuer")
+                .header(HttpHeaders.COOKIE, loginAsAdmin())
+                .retrieve()
+                .toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(objectMapper.readTree(response.getBody()).path("property").path("value").asText())
+                .isEqualTo("******");
+    }
+}
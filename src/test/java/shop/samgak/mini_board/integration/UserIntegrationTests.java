@@ -221,4 +221,49 @@ public class UserIntegrationTests {
         assertThat(data.get("id")).isEqualTo(1);
         assertThat(data.get("username")).isEqualTo("user");
     }
+
+    /**
+     * 관리자가 아닌 로그인 사용자가 전체 사용자 목록과 내보내기에 접근할 때의 테스트
+     * 일반 사용자는 다른 사용자를 나열할 수 없어야 함
+     */
+    @Test
+    public void testListAndExportForbiddenForNonAdmin() {
+        ResponseEntity<String> loginResponse = restClient.post()
+                .uri("/api/auth/login")
+                .body(Map.of("username", "user", "password", "password"))
+                .retrieve()
+                .toEntity(String.class);
+        assertThat(loginResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> cookies = loginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
+        assertThat(cookies).isNotEmpty();
+
+        for (String uri : List.of("/api/users/list", "/api/users/export")) {
+            try {
+                restClient.get()
+                        .uri(uri)
+                        .header(HttpHeaders.COOKIE, String.join("; ", cookies))
+                        .retrieve()
+                        .toEntity(String.class);
+                fail("Expected 403 for " + uri);
+            } catch (HttpClientErrorException e) {
+                assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+            }
+        }
+    }
+
+    /**
+     * 로그인하지 않은 상태에서 전체 사용자 목록을 요청할 때의 테스트
+     */
+    @Test
+    public void testListUnauthorized() {
+        try {
+            restClient.get()
+                    .uri("/api/users/list")
+                    .retrieve()
+                    .toEntity(String.class);
+            fail("Expected 401");
+        } catch (HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
 }
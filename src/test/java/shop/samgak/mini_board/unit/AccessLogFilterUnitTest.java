@@ -0,0 +1,88 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import shop.samgak.mini_board.config.AccessLogProperties;
+import shop.samgak.mini_board.monitoring.AccessLogFilter;
+
+/**
+ * 접근 로그 필터가 엔드포인트별 비율로 요청을 고르고, 오류 응답은 항상 기록하며, 민감한 파라미터를 가리는지 확인합니다.
+ */
+public class AccessLogFilterUnitTest {
+        private AccessLogProperties properties;
+        private ListAppender<ILoggingEvent> appender;
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @BeforeEach
+        public void setUp() {
+                properties = new AccessLogProperties();
+                appender = new ListAppender<>();
+                appender.start();
+                ((Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME)).addAppender(appender);
+                request = new MockHttpServletRequest("GET", "/api/posts/3");
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+                response = new MockHttpServletResponse();
+        }
+
+        @AfterEach
+        public void tearDown() {
+                ((Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME)).detachAppender(appender);
+        }
+
+        @Test
+        public void testRequestIsLoggedAsJsonWithRedactedParameters() throws Exception {
+                request.setQueryString("page=2&password=secret1&Token=abc");
+                AccessLogFilter filter = new AccessLogFilter(properties);
+
+                filter.doFilter(request, response, respondingWith(HttpServletResponse.SC_OK));
+
+                assertThat(appender.list).hasSize(1);
+                String line = appender.list.get(0).getFormattedMessage();
+                assertThat(line).contains("\"method\":\"GET\"", "\"uri\":\"/api/posts/{id}\"",
+                                "\"path\":\"/api/posts/3\"", "\"status\":200",
+                                "\"query\":\"page=2&password=***&Token=***\"");
+                assertThat(line).doesNotContain("secret1", "abc");
+        }
+
+        @Test
+        public void testUnsampledEndpointIsSkipped() throws Exception {
+                properties.setSampleRates(Map.of("/api/posts/{id}", 0.0));
+                AccessLogFilter filter = new AccessLogFilter(properties);
+
+                filter.doFilter(request, response, respondingWith(HttpServletResponse.SC_OK));
+
+                assertThat(appender.list).isEmpty();
+        }
+
+        @Test
+        public void testServerErrorIsAlwaysLogged() throws Exception {
+                properties.setSampleRates(Map.of("/api/posts/{id}", 0.0));
+                AccessLogFilter filter = new AccessLogFilter(properties);
+
+                filter.doFilter(request, response, respondingWith(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+
+                assertThat(appender.list).hasSize(1);
+                assertThat(appender.list.get(0).getFormattedMessage()).contains("\"status\":503",
+                                "\"sampleRate\":1.0");
+        }
+
+        private static FilterChain respondingWith(int status) {
+                return (servletRequest, servletResponse) -> ((HttpServletResponse) servletResponse).setStatus(status);
+        }
+}
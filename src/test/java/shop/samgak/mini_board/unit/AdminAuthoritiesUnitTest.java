@@ -0,0 +1,60 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import shop.samgak.mini_board.config.AdminProperties;
+import shop.samgak.mini_board.security.AdminAuthorities;
+import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * 설정된 관리자에게만 ROLE_ADMIN 권한이 추가되는지 확인합니다.
+ */
+public class AdminAuthoritiesUnitTest {
+        private AdminProperties adminProperties;
+        private AdminAuthorities adminAuthorities;
+
+        @BeforeEach
+        public void setUp() {
+                adminProperties = new AdminProperties();
+                adminAuthorities = new AdminAuthorities(adminProperties);
+        }
+
+        @Test
+        public void testConfiguredAdminGetsAdminRole() {
+                adminProperties.setUsernames(List.of("admin"));
+                MyUserDetails userDetails = new MyUserDetails(new UserDTO(1L, "admin"), null);
+
+                adminAuthorities.grant(userDetails);
+
+                assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                .containsExactly("ROLE_USER", AdminAuthorities.ROLE_ADMIN);
+        }
+
+        @Test
+        public void testOtherUserKeepsUserRoleOnly() {
+                adminProperties.setUsernames(List.of("admin"));
+                MyUserDetails userDetails = new MyUserDetails(new UserDTO(2L, "user"), null);
+
+                adminAuthorities.grant(userDetails);
+
+                assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                .containsExactly("ROLE_USER");
+        }
+
+        @Test
+        public void testNoAdminByDefault() {
+                MyUserDetails userDetails = new MyUserDetails(new UserDTO(1L, "admin"), null);
+
+                adminAuthorities.grant(userDetails);
+
+                assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                .containsExactly("ROLE_USER");
+        }
+}
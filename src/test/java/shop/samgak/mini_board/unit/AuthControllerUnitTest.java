@@ -1,16 +1,24 @@
 package shop.samgak.mini_board.unit;
 
+import java.time.Instant;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,19 +27,30 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import shop.samgak.mini_board.config.TokenProperties;
+import shop.samgak.mini_board.exceptions.ServerBusyException;
 import shop.samgak.mini_board.exceptions.UserNotFoundException;
+import shop.samgak.mini_board.security.AdminAuthorities;
 import shop.samgak.mini_board.security.AuthController;
 import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.security.RefreshTokenDenylist;
+import shop.samgak.mini_board.security.TokenService;
+import shop.samgak.mini_board.security.TokenService.RefreshToken;
+import shop.samgak.mini_board.user.cache.UserLookupCache;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
 import shop.samgak.mini_board.user.dto.UserDTO;
 
 @ActiveProfiles("test")
@@ -48,6 +67,24 @@ public class AuthControllerUnitTest {
         @MockBean
         private UserDetailsService userDetailsService;
 
+        @MockBean
+        private TokenService tokenService;
+
+        @MockBean
+        private TokenProperties tokenProperties;
+
+        @MockBean
+        private UserLookupCache userLookupCache;
+
+        @MockBean
+        private SessionAuthenticationStrategy sessionAuthenticationStrategy;
+
+        @MockBean
+        private AdminAuthorities adminAuthorities;
+
+        @MockBean
+        private RefreshTokenDenylist refreshTokenDenylist;
+
         @Autowired
         private ObjectMapper objectMapper;
 
@@ -78,6 +115,40 @@ public class AuthControllerUnitTest {
                                 .andExpect(jsonPath("$.code").value("SUCCESS"));
         }
 
+        @Test
+        public void testLoginStatelessIssuesTokens() throws Exception {
+                String username = "testUser";
+                String password = "testPassword";
+
+                MyUserDetails userDetails = new MyUserDetails(new UserDTO(1L, username), null);
+                Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
+                                userDetails.getAuthorities());
+
+                when(tokenProperties.isStateless()).thenReturn(true);
+                when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                                .thenReturn(authentication);
+                when(tokenService.issueAccessToken(any(MyUserDetails.class))).thenReturn("access-token");
+                when(userLookupCache.getCredentials(username))
+                                .thenReturn(new UserCredentialDTO(1L, username, "password-hash"));
+                when(tokenService.issueRefreshToken(any(UserDTO.class), eq("password-hash")))
+                                .thenReturn("refresh-token");
+                when(tokenService.getAccessTokenTtlSeconds()).thenReturn(900L);
+
+                MvcResult result = mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                Map.of("username", username, "password", password))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.message").value("Login successful"))
+                                .andExpect(jsonPath("$.data.accessToken").value("access-token"))
+                                .andExpect(jsonPath("$.data.refreshToken").value("refresh-token"))
+                                .andExpect(jsonPath("$.data.tokenType").value("Bearer"))
+                                .andExpect(jsonPath("$.data.expiresIn").value(900))
+                                .andReturn();
+
+                assertThat(result.getRequest().getSession(false)).isNull();
+        }
+
         @Test
         public void testLoginFailure() throws Exception {
                 String username = "invalidUser";
@@ -96,6 +167,24 @@ public class AuthControllerUnitTest {
                                 .andExpect(jsonPath("$.code").value("FAILURE"));
         }
 
+        @Test
+        public void testLoginServerBusy() throws Exception {
+                String username = "testUser";
+                String password = "testPassword";
+
+                when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                                .thenThrow(new ServerBusyException("Server is busy, please retry later", 1));
+
+                mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                Map.of("username", username, "password", password))))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(jsonPath("$.code").value("FAILURE"));
+        }
+
         @Test
         public void testLoginFailureMissingUsername() throws Exception {
                 String password = "testPassword";
@@ -156,4 +245,65 @@ public class AuthControllerUnitTest {
                                 .andExpect(jsonPath("$.message").value("Authentication is required"))
                                 .andExpect(jsonPath("$.code").value("FAILURE"));
         }
+
+        @Test
+        public void testRefreshRotatesToken() throws Exception {
+                RefreshToken refreshToken = new RefreshToken(1L, "token-id", "version",
+                                Instant.now().plusSeconds(60));
+                when(tokenService.parseRefreshToken("old-refresh")).thenReturn(refreshToken);
+                when(userLookupCache.getById(1L)).thenReturn(new UserDTO(1L, "testUser"));
+                when(userLookupCache.getCredentials("testUser"))
+                                .thenReturn(new UserCredentialDTO(1L, "testUser", "password-hash"));
+                when(tokenService.matchesPasswordVersion(refreshToken, "password-hash")).thenReturn(true);
+                when(refreshTokenDenylist.revoke("token-id", refreshToken.expiresAt())).thenReturn(true);
+                when(tokenService.issueAccessToken(any(MyUserDetails.class))).thenReturn("access-token");
+                when(tokenService.issueRefreshToken(any(UserDTO.class), eq("password-hash")))
+                                .thenReturn("new-refresh");
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("refreshToken", "old-refresh"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.accessToken").value("access-token"))
+                                .andExpect(jsonPath("$.data.refreshToken").value("new-refresh"));
+
+                verify(refreshTokenDenylist).revoke("token-id", refreshToken.expiresAt());
+        }
+
+        @Test
+        public void testRefreshRejectsReusedToken() throws Exception {
+                RefreshToken refreshToken = new RefreshToken(1L, "token-id", "version",
+                                Instant.now().plusSeconds(60));
+                when(tokenService.parseRefreshToken("used-refresh")).thenReturn(refreshToken);
+                when(userLookupCache.getById(1L)).thenReturn(new UserDTO(1L, "testUser"));
+                when(userLookupCache.getCredentials("testUser"))
+                                .thenReturn(new UserCredentialDTO(1L, "testUser", "password-hash"));
+                when(tokenService.matchesPasswordVersion(refreshToken, "password-hash")).thenReturn(true);
+                when(refreshTokenDenylist.revoke("token-id", refreshToken.expiresAt())).thenReturn(false);
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("refreshToken", "used-refresh"))))
+                                .andExpect(status().isUnauthorized());
+
+                verify(tokenService, never()).issueAccessToken(any(MyUserDetails.class));
+        }
+
+        @Test
+        public void testRefreshRejectsTokenIssuedBeforePasswordChange() throws Exception {
+                RefreshToken refreshToken = new RefreshToken(1L, "token-id", "old-version",
+                                Instant.now().plusSeconds(60));
+                when(tokenService.parseRefreshToken("old-refresh")).thenReturn(refreshToken);
+                when(userLookupCache.getById(1L)).thenReturn(new UserDTO(1L, "testUser"));
+                when(userLookupCache.getCredentials("testUser"))
+                                .thenReturn(new UserCredentialDTO(1L, "testUser", "new-password-hash"));
+                when(tokenService.matchesPasswordVersion(refreshToken, "new-password-hash")).thenReturn(false);
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("refreshToken", "old-refresh"))))
+                                .andExpect(status().isUnauthorized());
+
+                verify(refreshTokenDenylist, never()).revoke(anyString(), any(Instant.class));
+        }
 }
@@ -0,0 +1,57 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import shop.samgak.mini_board.utility.BloomFilter;
+
+/**
+ * 블룸 필터가 추가한 값을 놓치지 않고, 실제 오탐률이 예상 오탐률 근처에 머무는지 확인합니다.
+ */
+public class BloomFilterUnitTest {
+        private static final int INSERTIONS = 100_000;
+        private static final double FALSE_POSITIVE_RATE = 0.01;
+
+        @Test
+        public void testNoFalseNegativesAfterPut() {
+                BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+                for (int i = 0; i < INSERTIONS; i++) {
+                        filter.put("user" + i);
+                }
+
+                for (int i = 0; i < INSERTIONS; i++) {
+                        assertThat(filter.mightContain("user" + i)).as("user" + i).isTrue();
+                }
+        }
+
+        @Test
+        public void testMeasuredFalsePositiveRateIsCloseToExpected() {
+                BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+                for (int i = 0; i < INSERTIONS; i++) {
+                        filter.put("user" + i);
+                }
+
+                // 추가하지 않은 값만 확인하여 오탐 비율을 측정
+                int probes = 200_000;
+                int falsePositives = 0;
+                for (int i = 0; i < probes; i++) {
+                        if (filter.mightContain("absent" + i + "@example.com")) {
+                                falsePositives++;
+                        }
+                }
+                double measured = (double) falsePositives / probes;
+                double expected = filter.expectedFalsePositiveRate(INSERTIONS);
+
+                assertThat(expected).isLessThanOrEqualTo(FALSE_POSITIVE_RATE * 1.1);
+                assertThat(measured).isBetween(expected * 0.5, expected * 1.5);
+        }
+
+        @Test
+        public void testEmptyFilterContainsNothing() {
+                BloomFilter filter = new BloomFilter(1_000, FALSE_POSITIVE_RATE);
+
+                assertThat(filter.mightContain("user")).isFalse();
+                assertThat(filter.expectedFalsePositiveRate(0)).isZero();
+        }
+}
@@ -0,0 +1,112 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import shop.samgak.mini_board.config.PasswordHashProperties;
+import shop.samgak.mini_board.exceptions.GlobalExceptionHandler;
+import shop.samgak.mini_board.exceptions.ServerBusyException;
+import shop.samgak.mini_board.security.BoundedPasswordEncoder;
+import shop.samgak.mini_board.utility.ApiResponse;
+
+/**
+ * 비밀번호 해시 스레드 풀과 대기열이 가득 차면 503 으로 거절하고, 지표를 등록하는지 확인합니다.
+ * 스레드 한 개, 대기열 한 칸으로 만들어 포화 상태를 재현합니다.
+ */
+public class BoundedPasswordEncoderUnitTest {
+        private PasswordEncoder delegate;
+        private SimpleMeterRegistry meterRegistry;
+        private BoundedPasswordEncoder encoder;
+        private CountDownLatch release;
+
+        @BeforeEach
+        public void setUp() {
+                delegate = mock(PasswordEncoder.class);
+                meterRegistry = new SimpleMeterRegistry();
+                release = new CountDownLatch(1);
+                PasswordHashProperties properties = new PasswordHashProperties();
+                properties.setPoolSize(1);
+                properties.setQueueCapacity(1);
+                properties.setMaxWait(Duration.ofSeconds(10));
+                properties.setRetryAfter(Duration.ofSeconds(3));
+                encoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+        }
+
+        @AfterEach
+        public void tearDown() {
+                release.countDown();
+                encoder.destroy();
+        }
+
+        @Test
+        public void testRejectsWhenQueueIsFull() throws Exception {
+                when(delegate.encode("password")).thenAnswer(invocation -> {
+                        release.await();
+                        return "hash";
+                });
+
+                // 첫 요청은 스레드를 차지하고 두 번째 요청은 대기열 한 칸을 차지
+                CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("password"));
+                awaitGauge("password.hash.active", 1);
+                CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("password"));
+                awaitGauge("password.hash.queue.size", 1);
+
+                ServerBusyException exception = catchThrowableOfType(() -> encoder.encode("password"),
+                                ServerBusyException.class);
+
+                assertThat(exception.getRetryAfterSeconds()).isEqualTo(3);
+                assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+                ResponseEntity<ApiResponse> response = new GlobalExceptionHandler().handleServerBusyException(exception);
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+                // 막혀 있던 요청은 풀려난 뒤 정상적으로 끝남
+                release.countDown();
+                assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+                assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        }
+
+        @Test
+        public void testRegistersMetrics() {
+                when(delegate.encode("password")).thenReturn("hash");
+                when(delegate.matches("password", "hash")).thenReturn(true);
+
+                assertThat(encoder.encode("password")).isEqualTo("hash");
+                assertThat(encoder.matches("password", "hash")).isTrue();
+
+                assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count())
+                                .isEqualTo(1);
+                assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count())
+                                .isEqualTo(1);
+                assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(2);
+                assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isZero();
+                assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isZero();
+                assertThat(meterRegistry.find("password.hash.active").gauge()).isNotNull();
+        }
+
+        private void awaitGauge(String name, double expected) throws InterruptedException {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (meterRegistry.get(name).gauge().value() < expected) {
+                        if (System.nanoTime() > deadline) {
+                                throw new AssertionError("Gauge " + name + " did not reach " + expected);
+                        }
+                        Thread.sleep(10);
+                }
+        }
+}
@@ -0,0 +1,118 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import shop.samgak.mini_board.config.PasswordHashProperties;
+import shop.samgak.mini_board.security.CalibratedBCryptPasswordEncoder;
+
+/**
+ * bcrypt 비용 값 재해시 판단, 자동 결정 범위, 클러스터 공유 비용 값 사용을 확인합니다.
+ */
+public class CalibratedBCryptPasswordEncoderUnitTest {
+        private static final String KEY = "mini-board:password:bcrypt-strength";
+
+        private PasswordHashProperties properties;
+        private StringRedisTemplate redisTemplate;
+        private ValueOperations<String, String> valueOperations;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+                properties = new PasswordHashProperties();
+                properties.setClusterStrengthKey(KEY);
+                redisTemplate = mock(StringRedisTemplate.class);
+                valueOperations = mock(ValueOperations.class);
+                when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        }
+
+        @Test
+        public void testUpgradeEncodingOnlyForLowerStrength() {
+                CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6);
+
+                assertThat(encoder.upgradeEncoding(BCrypt.hashpw("password", BCrypt.gensalt(5)))).isTrue();
+                assertThat(encoder.upgradeEncoding(BCrypt.hashpw("password", BCrypt.gensalt(6)))).isFalse();
+                // 다른 인스턴스가 더 높은 비용으로 만든 해시는 낮추지 않음
+                assertThat(encoder.upgradeEncoding(BCrypt.hashpw("password", BCrypt.gensalt(7)))).isFalse();
+                assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isTrue();
+        }
+
+        @Test
+        public void testConfiguredStrengthSkipsCalibrationAndRedis() {
+                properties.setStrength(7);
+
+                CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.create(properties,
+                                redisTemplate);
+
+                assertThat(encoder.getStrength()).isEqualTo(7);
+                verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        public void testCalibrationIsClampedToMinStrength() {
+                properties.setTargetHashTime(Duration.ofNanos(1));
+                properties.setMinStrength(4);
+                properties.setMaxStrength(6);
+
+                assertThat(CalibratedBCryptPasswordEncoder.create(properties, null).getStrength()).isEqualTo(4);
+        }
+
+        @Test
+        public void testCalibrationIsClampedToMaxStrength() {
+                properties.setTargetHashTime(Duration.ofHours(1));
+                properties.setMinStrength(4);
+                properties.setMaxStrength(6);
+
+                assertThat(CalibratedBCryptPasswordEncoder.create(properties, null).getStrength()).isEqualTo(6);
+        }
+
+        @Test
+        public void testClusterStrengthIsUsed() {
+                properties.setTargetHashTime(Duration.ofNanos(1));
+                properties.setMinStrength(4);
+                properties.setMaxStrength(6);
+                when(valueOperations.get(KEY)).thenReturn("5");
+
+                CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.create(properties,
+                                redisTemplate);
+
+                verify(valueOperations).setIfAbsent(KEY, "4");
+                assertThat(encoder.getStrength()).isEqualTo(5);
+        }
+
+        @Test
+        public void testClusterStrengthOutOfRangeIsIgnored() {
+                properties.setTargetHashTime(Duration.ofNanos(1));
+                properties.setMinStrength(4);
+                properties.setMaxStrength(6);
+                when(valueOperations.get(KEY)).thenReturn("20");
+
+                assertThat(CalibratedBCryptPasswordEncoder.create(properties, redisTemplate).getStrength())
+                                .isEqualTo(4);
+        }
+
+        @Test
+        public void testRedisFailureFallsBackToCalibratedStrength() {
+                properties.setTargetHashTime(Duration.ofNanos(1));
+                properties.setMinStrength(4);
+                properties.setMaxStrength(6);
+                when(valueOperations.setIfAbsent(anyString(), anyString()))
+                                .thenThrow(new RedisConnectionFailureException("down"));
+
+                assertThat(CalibratedBCryptPasswordEncoder.create(properties, redisTemplate).getStrength())
+                                .isEqualTo(4);
+        }
+}
@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,7 +28,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
+import shop.samgak.mini_board.comment.cache.CommentListCache.CommentListEntry;
 import shop.samgak.mini_board.comment.controllers.CommentController;
 import shop.samgak.mini_board.comment.dto.CommentDTO;
 import shop.samgak.mini_board.comment.services.CommentService;
@@ -71,12 +74,12 @@ public class CommentControllerUnitTest {
                                 null, null);
                 String content1 = "First Comment";
                 String content2 = "Second Comment";
-                CommentDTO comment1 = new CommentDTO(commentId1, user, post, null, content1, null, null);
-                CommentDTO comment2 = new CommentDTO(commentId2, user, post, null, content2, null, null);
+                CommentDTO comment1 = new CommentDTO(commentId1, user, post, null, content1, null, null, null);
+                CommentDTO comment2 = new CommentDTO(commentId2, user, post, null, content2, null, null, null);
 
                 mockComments.add(comment1);
                 mockComments.add(comment2);
-                when(commentService.get(1L)).thenReturn(mockComments);
+                when(commentService.getList(1L)).thenReturn(new CommentListEntry(mockComments, null, 0, 0));
 
                 mockMvc.perform(get("/api/posts/{postId}/comments", postId)
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -89,12 +92,36 @@ public class CommentControllerUnitTest {
                                 .andExpect(jsonPath("$.message").value("success"));
         }
 
+        @Test
+        @WithMockMyUserDetails
+        public void testGetCommentsNotModified() throws Exception {
+                Long postId = 1L;
+                String eTag = "W/\"1-2-2-1700000000000\"";
+
+                UserDTO user = new UserDTO(1L, "user");
+                List<CommentDTO> mockComments = List.of(
+                                new CommentDTO(1L, user, null, null, "First Comment", null, null, null),
+                                new CommentDTO(2L, user, null, null, "Second Comment", null, null, null));
+                when(commentService.getList(postId)).thenReturn(new CommentListEntry(mockComments, eTag, 0, 0));
+
+                mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                                .andExpect(jsonPath("$.data.length()").value(2));
+
+                mockMvc.perform(get("/api/posts/{postId}/comments", postId)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                                .andExpect(content().string(""));
+        }
+
         @Test
         @WithMockMyUserDetails
         public void testGetCommentByIdNotFound() throws Exception {
                 Long postId = 1L;
 
-                when(commentService.get(postId))
+                when(commentService.getList(postId))
                                 .thenThrow(new ResourceNotFoundException(
                                                 "Comment not found with Post ID : [" + postId + "]"));
 
@@ -170,7 +197,7 @@ public class CommentControllerUnitTest {
                 Long commentId = 1L;
                 String content = "Updated Content";
 
-                doNothing().when(commentService).update(commentId, postId, content, 1L);
+                doNothing().when(commentService).update(commentId, postId, content, 1L, null);
 
                 mockMvc.perform(put("/api/posts/{postId}/comments/{commentId}", postId, commentId)
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -203,7 +230,7 @@ public class CommentControllerUnitTest {
                 Long commentId = 1L;
                 Long userId = 1L;
 
-                doNothing().when(commentService).delete(commentId, postId, userId);
+                doNothing().when(commentService).delete(commentId, postId, userId, null);
 
                 mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, commentId))
                                 .andExpect(status().isOk())
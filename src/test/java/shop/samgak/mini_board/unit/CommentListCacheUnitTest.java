@@ -0,0 +1,144 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import shop.samgak.mini_board.comment.cache.CommentListCache;
+import shop.samgak.mini_board.comment.dto.CommentDTO;
+import shop.samgak.mini_board.config.CacheProperties;
+
+/**
+ * 댓글 목록 캐시의 만료, 다른 인스턴스로의 무효화 메시지 발행과 수신을 확인합니다.
+ */
+public class CommentListCacheUnitTest {
+        private static final String CHANNEL = "mini-board:comment:invalidate";
+
+        private CacheProperties cacheProperties;
+        private StringRedisTemplate redisTemplate;
+
+        @BeforeEach
+        public void setUp() {
+                cacheProperties = new CacheProperties();
+                cacheProperties.getComment().setChannel(CHANNEL);
+                redisTemplate = mock(StringRedisTemplate.class);
+        }
+
+        @Test
+        public void testExpiredListIsNotReturned() {
+                cacheProperties.getComment().setTtl(Duration.ZERO);
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+
+                assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        public void testWritePublishesInvalidation() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+
+                cache.append(1L, comment(2L));
+
+                ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+                verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+                assertThat(message.getValue()).endsWith(":1");
+                assertThat(cache.get(1L).comments()).hasSize(2);
+        }
+
+        @Test
+        public void testWriteSucceedsWhenPublishFails() {
+                doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(anyString(),
+                                anyString());
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+
+                cache.remove(1L, 1L);
+
+                assertThat(cache.get(1L).comments()).isEmpty();
+        }
+
+        @Test
+        public void testInvalidationFromOtherNodeEvictsAndBlocksStaleLoad() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+                long sequence = cache.currentSequence(1L);
+
+                cache.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                                "other-node:1".getBytes(StandardCharsets.UTF_8)), null);
+
+                assertThat(cache.get(1L)).isNull();
+                // 메시지를 받기 전에 시작한 DB 조회 결과는 저장하지 않음
+                cache.put(1L, List.of(comment(1L)), sequence);
+                assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        public void testOwnInvalidationIsIgnored() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+                cache.append(1L, comment(2L));
+                ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+                verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+
+                cache.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                                message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+                assertThat(cache.get(1L).comments()).hasSize(2);
+        }
+
+        @Test
+        public void testAppendIgnoresCommentAlreadyLoaded() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                // 저장 직후 다른 요청이 DB에서 새 댓글까지 포함한 목록을 읽어 캐시에 넣은 경우
+                cache.put(1L, List.of(comment(1L), comment(2L)), cache.currentSequence(1L));
+
+                cache.append(1L, comment(2L));
+
+                assertThat(cache.get(1L).comments()).extracting(CommentDTO::getId).containsExactly(1L, 2L);
+        }
+
+        @Test
+        public void testUpdateEvictsListInsteadOfGuessingVersion() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                cache.put(1L, List.of(comment(1L)), cache.currentSequence(1L));
+                long sequence = cache.currentSequence(1L);
+
+                cache.update(1L);
+
+                assertThat(cache.get(1L)).isNull();
+                // 수정 전에 시작한 DB 조회 결과는 저장하지 않음
+                cache.put(1L, List.of(comment(1L)), sequence);
+                assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        public void testWriteToOtherPostDoesNotBlockCaching() {
+                CommentListCache cache = new CommentListCache(cacheProperties, redisTemplate);
+                long sequence = cache.currentSequence(1L);
+
+                cache.append(2L, comment(10L));
+                cache.put(1L, List.of(comment(1L)), sequence);
+
+                assertThat(cache.get(1L)).isNotNull();
+        }
+
+        private static CommentDTO comment(Long id) {
+                return new CommentDTO(id, null, null, null, "content " + id, null, null, 0L);
+        }
+}
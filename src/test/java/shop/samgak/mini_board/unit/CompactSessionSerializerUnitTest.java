@@ -0,0 +1,146 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import shop.samgak.mini_board.config.RedisConfig;
+import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.session.CompactSessionSerializer;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * 세션 값 바이너리 직렬화의 타입별 왕복 변환과 JSON 으로 기록된 기존 값 읽기를 확인합니다.
+ */
+public class CompactSessionSerializerUnitTest {
+        private static final byte MAGIC = (byte) 0xC5;
+
+        private RedisSerializer<Object> json;
+        private CompactSessionSerializer compact;
+
+        @BeforeEach
+        public void setUp() {
+                json = new GenericJackson2JsonRedisSerializer(
+                                RedisConfig.createObjectMapper(getClass().getClassLoader()));
+                compact = new CompactSessionSerializer(json, true, true);
+        }
+
+        @Test
+        public void testSimpleValuesRoundTripWithTags() {
+                assertRoundTrip("checked_user_name", 1);
+                assertRoundTrip(1_700_000_000_000L, 2);
+                assertRoundTrip(1800, 3);
+                assertRoundTrip(Boolean.TRUE, 4);
+                assertRoundTrip("", 1);
+                assertRoundTrip("한글 사용자", 1);
+        }
+
+        @Test
+        public void testVarintBoundaries() {
+                for (long value : new long[] { 0, 1, -1, 63, -64, 64, 127, 128, 16_383, 16_384,
+                                Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE }) {
+                        assertThat(compact.deserialize(compact.serialize(value))).isEqualTo(value);
+                }
+                // 작은 값은 1바이트로 기록 (MAGIC + 태그 + 값)
+                assertThat(compact.serialize(5L)).hasSize(3);
+                assertThat(compact.serialize(-5L)).hasSize(3);
+        }
+
+        @Test
+        public void testLongListRoundTripIsMutable() {
+                byte[] bytes = compact.serialize(new ArrayList<>(List.of(1L, 300L, 70_000L)));
+                assertThat(bytes[1]).isEqualTo((byte) 5);
+
+                @SuppressWarnings("unchecked")
+                List<Long> list = (List<Long>) compact.deserialize(bytes);
+                assertThat(list).containsExactly(1L, 300L, 70_000L);
+                list.add(4L);
+                assertThat(list).hasSize(4);
+        }
+
+        @Test
+        public void testSecurityContextRoundTrip() {
+                MyUserDetails userDetails = new MyUserDetails(new UserDTO(7L, "user"), null);
+                SecurityContext context = new SecurityContextImpl(
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+                byte[] bytes = compact.serialize(context);
+                assertThat(bytes[0]).isEqualTo(MAGIC);
+                assertThat(bytes[1]).isEqualTo((byte) 6);
+
+                SecurityContext restored = (SecurityContext) compact.deserialize(bytes);
+                MyUserDetails principal = (MyUserDetails) restored.getAuthentication().getPrincipal();
+                assertThat(principal.getUserDTO().getId()).isEqualTo(7L);
+                assertThat(principal.getUsername()).isEqualTo("user");
+                assertThat(principal.getPassword()).isNull();
+                assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+                assertThat(restored.getAuthentication().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                .containsExactly("ROLE_USER");
+        }
+
+        @Test
+        public void testUnknownTypeUsesFallbackTag() {
+                Map<String, Object> value = new HashMap<>(Map.of("key", "value"));
+
+                byte[] bytes = compact.serialize(value);
+
+                assertThat(bytes[0]).isEqualTo(MAGIC);
+                assertThat(bytes[1]).isEqualTo((byte) 127);
+                assertThat(compact.deserialize(bytes)).isEqualTo(value);
+        }
+
+        @Test
+        public void testLegacyJsonIsRead() {
+                assertThat(compact.deserialize(json.serialize("checked_user_name"))).isEqualTo("checked_user_name");
+                assertThat(compact.deserialize(json.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+        }
+
+        @Test
+        public void testLegacyJsonRejectedWhenDisabled() {
+                CompactSessionSerializer strict = new CompactSessionSerializer(json, true, false);
+
+                assertThatThrownBy(() -> strict.deserialize(json.serialize("value")))
+                                .isInstanceOf(SerializationException.class);
+        }
+
+        @Test
+        public void testWriteCompactDisabledWritesJsonReadableByBoth() {
+                CompactSessionSerializer jsonWriter = new CompactSessionSerializer(json, false, true);
+
+                byte[] bytes = jsonWriter.serialize("value");
+
+                assertThat(bytes[0]).isNotEqualTo(MAGIC);
+                assertThat(json.deserialize(bytes)).isEqualTo("value");
+                assertThat(compact.deserialize(bytes)).isEqualTo("value");
+        }
+
+        @Test
+        public void testTruncatedValueIsRejected() {
+                byte[] bytes = compact.serialize("checked_user_name");
+                byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+                assertThatThrownBy(() -> compact.deserialize(truncated)).isInstanceOf(SerializationException.class);
+        }
+
+        private void assertRoundTrip(Object value, int tag) {
+                byte[] bytes = compact.serialize(value);
+                assertThat(bytes[0]).isEqualTo(MAGIC);
+                assertThat(bytes[1]).isEqualTo((byte) tag);
+                assertThat(compact.deserialize(bytes)).isEqualTo(value);
+        }
+}
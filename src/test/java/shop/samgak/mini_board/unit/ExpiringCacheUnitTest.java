@@ -0,0 +1,43 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import shop.samgak.mini_board.utility.ExpiringCache;
+
+/**
+ * 로컬 캐시가 최대 항목 수를 넘을 때 가장 오래 사용하지 않은 항목만 제거하는지 확인합니다.
+ */
+public class ExpiringCacheUnitTest {
+
+        @Test
+        public void testEvictsLeastRecentlyUsedEntryOnly() {
+                ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(1), 2);
+                cache.put("a", "A");
+                cache.put("b", "B");
+                // a 를 조회하여 최근 사용 항목으로 만든 뒤 새 항목 추가
+                cache.get("a");
+                cache.put("c", "C");
+
+                assertThat(cache.size()).isEqualTo(2);
+                assertThat(cache.get("a")).isEqualTo("A");
+                assertThat(cache.get("b")).isNull();
+                assertThat(cache.get("c")).isEqualTo("C");
+        }
+
+        @Test
+        public void testExpiredEntryIsReplacedByPutIfAbsent() throws InterruptedException {
+                ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMillis(10), 10);
+                assertThat(cache.putIfAbsent("a", "A")).isTrue();
+                assertThat(cache.putIfAbsent("a", "B")).isFalse();
+
+                Thread.sleep(20);
+
+                assertThat(cache.get("a")).isNull();
+                assertThat(cache.putIfAbsent("a", "B")).isTrue();
+                assertThat(cache.get("a")).isEqualTo("B");
+        }
+}
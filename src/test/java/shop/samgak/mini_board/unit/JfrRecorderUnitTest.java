@@ -0,0 +1,113 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import shop.samgak.mini_board.config.JfrProperties;
+import shop.samgak.mini_board.monitoring.jfr.JfrRecorder;
+import shop.samgak.mini_board.monitoring.jfr.ViewCountEvent;
+
+/**
+ * JFR 기록을 시작, 중지, 저장하고 게시판 이벤트가 기록 파일에 담기는지, 기록 개수와 보관 범위가 제한되는지 확인합니다.
+ */
+public class JfrRecorderUnitTest {
+        private JfrRecorder jfrRecorder;
+
+        @BeforeEach
+        public void setUp() {
+                jfrRecorder = new JfrRecorder(new JfrProperties());
+        }
+
+        @AfterEach
+        public void tearDown() {
+                jfrRecorder.closeAll();
+        }
+
+        @Test
+        public void testDumpContainsBoardEvents() throws Exception {
+                Recording recording = jfrRecorder.start("test", null, null, null);
+
+                ViewCountEvent event = new ViewCountEvent();
+                event.target = ViewCountEvent.TARGET_POST;
+                event.id = 42L;
+                event.updated = true;
+                event.commit();
+
+                assertThat(jfrRecorder.stop(recording.getId()).getState()).isEqualTo(RecordingState.STOPPED);
+                Path file = jfrRecorder.dump(recording.getId());
+                try {
+                        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                                        .filter(recorded -> recorded.getEventType().getName()
+                                                        .equals("shop.samgak.mini_board.ViewCount"))
+                                        .toList();
+                        assertThat(events).hasSize(1);
+                        assertThat(events.get(0).getLong("id")).isEqualTo(42L);
+                        assertThat(events.get(0).getString("target")).isEqualTo("post");
+                } finally {
+                        Files.deleteIfExists(file);
+                }
+        }
+
+        @Test
+        public void testUnknownRecordingIsIgnored() throws Exception {
+                assertThat(jfrRecorder.stop(-1)).isNull();
+                assertThat(jfrRecorder.dump(-1)).isNull();
+                assertThat(jfrRecorder.close(-1)).isFalse();
+        }
+
+        @Test
+        public void testOnlyOneRecordingRunsAtATime() throws Exception {
+                Recording recording = jfrRecorder.start("first", null, null, null);
+
+                assertThatThrownBy(() -> jfrRecorder.start("second", null, null, null))
+                                .isInstanceOf(IllegalStateException.class);
+                assertThat(jfrRecorder.getRecordings()).hasSize(1);
+
+                // 중지한 기록은 내려받을 수 있도록 남아 있지만 새 기록 시작을 막지 않음
+                jfrRecorder.stop(recording.getId());
+                assertThat(jfrRecorder.start("second", null, null, null).getState())
+                                .isEqualTo(RecordingState.RUNNING);
+        }
+
+        @Test
+        public void testRetentionIsLimitedBySettings() throws Exception {
+                JfrProperties properties = new JfrProperties();
+
+                // 0 은 JFR 에서 제한 없음이므로 설정값 사용
+                Recording unlimited = jfrRecorder.start(null, null, Duration.ZERO, 0L);
+                assertThat(unlimited.getMaxAge()).isEqualTo(properties.getMaxAge());
+                assertThat(unlimited.getMaxSize()).isEqualTo(properties.getMaxSize());
+                jfrRecorder.close(unlimited.getId());
+
+                Recording tooLarge = jfrRecorder.start(null, null, Duration.ofDays(7), Long.MAX_VALUE);
+                assertThat(tooLarge.getMaxAge()).isEqualTo(properties.getMaxAge());
+                assertThat(tooLarge.getMaxSize()).isEqualTo(properties.getMaxSize());
+                jfrRecorder.close(tooLarge.getId());
+
+                Recording smaller = jfrRecorder.start(null, null, Duration.ofMinutes(5), 1024L * 1024);
+                assertThat(smaller.getMaxAge()).isEqualTo(Duration.ofMinutes(5));
+                assertThat(smaller.getMaxSize()).isEqualTo(1024L * 1024);
+        }
+
+        @Test
+        public void testCloseRemovesRecording() throws Exception {
+                Recording recording = jfrRecorder.start(null, null, null, null);
+
+                assertThat(jfrRecorder.close(recording.getId())).isTrue();
+                assertThat(jfrRecorder.getRecordings()).isEmpty();
+                assertThat(recording.getState()).isEqualTo(RecordingState.CLOSED);
+        }
+}
@@ -0,0 +1,68 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import shop.samgak.mini_board.monitoring.LatencyEndpoint;
+import shop.samgak.mini_board.monitoring.LatencyEndpoint.TimerSummary;
+
+/**
+ * latency 엔드포인트가 타이머별 백분위와 설정한 SLO 구간의 처리 비율을 계산하는지 확인합니다.
+ */
+public class LatencyEndpointUnitTest {
+        private SimpleMeterRegistry meterRegistry;
+        private MetricsProperties metricsProperties;
+        private LatencyEndpoint latencyEndpoint;
+
+        @BeforeEach
+        public void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
+                metricsProperties = new MetricsProperties();
+                metricsProperties.getDistribution().getSlo().put("latency", new ServiceLevelObjectiveBoundary[] {
+                                ServiceLevelObjectiveBoundary.valueOf("10ms"),
+                                ServiceLevelObjectiveBoundary.valueOf("1s") });
+                latencyEndpoint = new LatencyEndpoint(meterRegistry, metricsProperties);
+        }
+
+        @Test
+        public void testPercentilesAndSloBucketsAreReported() {
+                Timer timer = Timer.builder("latency.db")
+                                .tag("repository", "PostRepository")
+                                .publishPercentiles(0.5, 0.99)
+                                .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofSeconds(1))
+                                .register(meterRegistry);
+                timer.record(Duration.ofMillis(5));
+                timer.record(Duration.ofMillis(5));
+                timer.record(Duration.ofMillis(5));
+                timer.record(Duration.ofMillis(500));
+
+                Map<String, List<TimerSummary>> timers = latencyEndpoint.latency();
+
+                assertThat(timers).containsOnlyKeys("latency.db");
+                TimerSummary summary = timers.get("latency.db").get(0);
+                assertThat(summary.tags()).containsEntry("repository", "PostRepository");
+                assertThat(summary.count()).isEqualTo(4);
+                assertThat(summary.percentiles()).containsOnlyKeys("p50", "p99");
+                assertThat(summary.slo()).containsOnlyKeys("10ms", "1s");
+                assertThat(summary.slo().get("10ms").ratio()).isEqualTo(0.75);
+                assertThat(summary.slo().get("1s").ratio()).isEqualTo(1.0);
+        }
+
+        @Test
+        public void testUntrackedTimersAreExcludedAndSelectable() {
+                meterRegistry.timer("other.timer").record(Duration.ofMillis(1));
+
+                assertThat(latencyEndpoint.latency()).isEmpty();
+                assertThat(latencyEndpoint.latency("other.timer")).hasSize(1);
+        }
+}
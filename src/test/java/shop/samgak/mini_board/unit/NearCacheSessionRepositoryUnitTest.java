@@ -0,0 +1,176 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import shop.samgak.mini_board.config.RedisConfig;
+import shop.samgak.mini_board.config.SessionProperties;
+import shop.samgak.mini_board.session.CompactSessionSerializer;
+import shop.samgak.mini_board.session.NearCacheSessionRepository;
+import shop.samgak.mini_board.session.NearCacheSessionRepository.NearCacheSession;
+
+/**
+ * 세션 로컬 캐시의 write-through 저장, 변경된 필드만 기록, 접근 시간 기록 간격,
+ * Redis 에서 읽는 중 도착한 무효화 처리를 확인합니다.
+ * Redis 는 세션 해시를 메모리에 보관하는 mock 으로 대신합니다.
+ */
+public class NearCacheSessionRepositoryUnitTest {
+        private static final String KEY_PREFIX = "spring:session:sessions:";
+
+        private final Map<String, Map<String, byte[]>> hashes = new ConcurrentHashMap<>();
+
+        private RedisTemplate<String, byte[]> redisTemplate;
+        private HashOperations<String, Object, Object> hashOperations;
+        private RedisConnection connection;
+        private RedisHashCommands hashCommands;
+        private SessionProperties.NearCache properties;
+        private NearCacheSessionRepository repository;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+                redisTemplate = mock(RedisTemplate.class);
+                hashOperations = mock(HashOperations.class);
+                connection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+                hashCommands = connection.hashCommands();
+
+                when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+                when(hashOperations.entries(anyString())).thenAnswer(invocation -> new HashMap<>(
+                                hashes.getOrDefault(invocation.<String>getArgument(0), Map.of())));
+                when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+                        invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+                        return List.of();
+                });
+                doAnswer(invocation -> {
+                        String key = new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+                        Map<byte[], byte[]> puts = invocation.getArgument(1);
+                        Map<String, byte[]> hash = hashes.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+                        puts.forEach((field, value) -> hash.put(new String(field, StandardCharsets.UTF_8), value));
+                        return null;
+                }).when(hashCommands).hMSet(any(byte[].class), anyMap());
+
+                properties = new SessionProperties.NearCache();
+                properties.setTouchInterval(Duration.ofSeconds(10));
+                repository = new NearCacheSessionRepository(redisTemplate,
+                                new CompactSessionSerializer(new GenericJackson2JsonRedisSerializer(
+                                                RedisConfig.createObjectMapper(getClass().getClassLoader())), true,
+                                                true),
+                                properties);
+        }
+
+        @Test
+        public void testNewSessionIsWrittenThroughAndServedFromCache() {
+                NearCacheSession session = repository.createSession();
+                session.setAttribute("user", "testUser");
+                repository.save(session);
+
+                assertThat(hashes.get(KEY_PREFIX + session.getId())).containsKeys("creationTime",
+                                "lastAccessedTime", "maxInactiveInterval", "sessionAttr:user");
+
+                NearCacheSession found = repository.findById(session.getId());
+                assertThat(found.<String>getAttribute("user")).isEqualTo("testUser");
+                // 저장 시 캐시를 채웠으므로 Redis 에서 다시 읽지 않음
+                verify(hashOperations, never()).entries(anyString());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void testSaveWritesOnlyChangedFields() {
+                NearCacheSession session = repository.createSession();
+                session.setAttribute("user", "testUser");
+                repository.save(session);
+
+                NearCacheSession found = repository.findById(session.getId());
+                found.setAttribute("viewedPosts", 3L);
+                repository.save(found);
+
+                ArgumentCaptor<Map<byte[], byte[]>> puts = ArgumentCaptor.forClass(Map.class);
+                verify(hashCommands, times(2)).hMSet(any(byte[].class), puts.capture());
+                assertThat(puts.getValue().keySet()).extracting(field -> new String(field, StandardCharsets.UTF_8))
+                                .containsExactly("sessionAttr:viewedPosts");
+                assertThat(repository.findById(session.getId()).<Long>getAttribute("viewedPosts")).isEqualTo(3L);
+        }
+
+        @Test
+        public void testLastAccessedTimeIsWrittenOnlyAfterTouchInterval() {
+                NearCacheSession session = repository.createSession();
+                repository.save(session);
+                Instant lastAccessedTime = session.getLastAccessedTime();
+
+                // 기록 간격 안의 접근은 Redis 에 기록하지 않음
+                NearCacheSession found = repository.findById(session.getId());
+                found.setLastAccessedTime(lastAccessedTime.plusSeconds(5));
+                repository.save(found);
+                verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+
+                // 기록 간격이 지난 접근은 기록
+                found = repository.findById(session.getId());
+                found.setLastAccessedTime(lastAccessedTime.plusSeconds(11));
+                repository.save(found);
+                verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        public void testInvalidationDuringLoadIsNotCached() {
+                NearCacheSession session = repository.createSession();
+                session.setAttribute("user", "before");
+                repository.save(session);
+                String id = session.getId();
+                repository.onMessage(new DefaultMessage(new byte[0], ("other-node:" + id).getBytes()), null);
+
+                // Redis 에서 이전 값을 읽는 동안 다른 인스턴스가 세션을 바꾸고 무효화 메시지를 보냄
+                when(hashOperations.entries(KEY_PREFIX + id)).thenAnswer(invocation -> {
+                        Map<String, byte[]> stale = new HashMap<>(hashes.get(KEY_PREFIX + id));
+                        repository.onMessage(new DefaultMessage(new byte[0], ("other-node:" + id).getBytes()), null);
+                        return stale;
+                }).thenAnswer(invocation -> new HashMap<>(hashes.get(KEY_PREFIX + id)));
+
+                repository.findById(id);
+                repository.findById(id);
+
+                // 읽는 중 무효화되었으므로 첫 조회 결과를 캐시하지 않고 다시 읽음
+                verify(hashOperations, times(2)).entries(KEY_PREFIX + id);
+        }
+
+        @Test
+        public void testInvalidationFromOtherNodeEvictsCache() {
+                NearCacheSession session = repository.createSession();
+                repository.save(session);
+                String id = session.getId();
+
+                repository.findById(id);
+                verify(hashOperations, never()).entries(anyString());
+
+                repository.onMessage(new DefaultMessage(new byte[0], ("other-node:" + id).getBytes()), null);
+                repository.findById(id);
+                verify(hashOperations, times(1)).entries(KEY_PREFIX + id);
+        }
+}
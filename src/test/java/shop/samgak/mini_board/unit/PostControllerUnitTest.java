@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,14 +20,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import shop.samgak.mini_board.exceptions.PreconditionFailedException;
 import shop.samgak.mini_board.exceptions.ResourceNotFoundException;
 import shop.samgak.mini_board.post.controllers.PostController;
 import shop.samgak.mini_board.post.dto.PostDTO;
@@ -111,6 +115,21 @@ public class PostControllerUnitTest {
                                 .andExpect(jsonPath("$.code").value("FAILURE"));
         }
 
+        @Test
+        public void testGetPostByIdNotModified() throws Exception {
+                Long postId = 1L;
+
+                when(postService.getVersion(postId)).thenReturn(3L);
+
+                mockMvc.perform(get("/api/posts/{id}", postId)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                                .andExpect(content().string(""));
+
+                verify(postService, never()).getPostById(postId);
+        }
+
         @Test
         public void createPostUserNotFound() throws Exception {
                 String title = "Test Title";
@@ -198,6 +217,70 @@ public class PostControllerUnitTest {
                                 .andExpect(jsonPath("$.code").value("FAILURE"));
         }
 
+        @Test
+        @WithMockMyUserDetails
+        public void updatePostPreconditionFailed() throws Exception {
+                Long postId = 1L;
+                String title = "Updated Title";
+
+                when(postService.update(eq(postId), eq(title), isNull(), any(UserDTO.class), eq(2L)))
+                                .thenThrow(new PreconditionFailedException(
+                                                "Post [1] has version [3] but version [2] was expected"));
+
+                mockMvc.perform(put("/api/posts/{id}", postId)
+                                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("title", title))))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(jsonPath("$.code").value("FAILURE"));
+        }
+
+        @Test
+        @WithMockMyUserDetails
+        public void updatePostWeakIfMatchPreconditionFailed() throws Exception {
+                Long postId = 1L;
+
+                mockMvc.perform(put("/api/posts/{id}", postId)
+                                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("title", "Updated Title"))))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.code").value("FAILURE"));
+
+                verify(postService, never()).update(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @WithMockMyUserDetails
+        public void patchPostTitleOnly() throws Exception {
+                Long postId = 1L;
+                String title = "Patched Title";
+
+                mockMvc.perform(patch("/api/posts/{id}", postId)
+                                .contentType(PostController.MERGE_PATCH_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(Map.of("title", title))))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(jsonPath("$.code").value("SUCCESS"));
+
+                verify(postService).update(eq(postId), eq(title), isNull(), any(UserDTO.class), isNull());
+        }
+
+        @Test
+        @WithMockMyUserDetails
+        public void patchPostRemoveRequiredField() throws Exception {
+                Long postId = 1L;
+
+                mockMvc.perform(patch("/api/posts/{id}", postId)
+                                .contentType(PostController.MERGE_PATCH_JSON_VALUE)
+                                .content("{\"title\":null}"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.code").value("FAILURE"));
+
+                verify(postService, never()).update(anyLong(), any(), any(), any(), any());
+        }
+
         @Test
         @WithMockMyUserDetails
         public void deletePostSuccess() throws Exception {
@@ -206,7 +289,7 @@ public class PostControllerUnitTest {
                 String username = "username";
 
                 UserDTO userDTO = new UserDTO(id, username);
-                doNothing().when(postService).delete(1L, userDTO);
+                doNothing().when(postService).delete(1L, userDTO, null);
 
                 mockMvc.perform(delete("/api/posts/{id}", postId))
                                 .andExpect(status().isOk())
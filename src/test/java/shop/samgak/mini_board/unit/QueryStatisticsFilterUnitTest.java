@@ -0,0 +1,136 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import shop.samgak.mini_board.config.QueryMonitoringProperties;
+import shop.samgak.mini_board.monitoring.QueryStatistics;
+import shop.samgak.mini_board.monitoring.QueryStatisticsFilter;
+import shop.samgak.mini_board.monitoring.QueryStatisticsHolder;
+
+/**
+ * 요청별 JDBC 문장 통계 필터가 헤더와 지표를 남기고 반복 실행된 SQL 을 N+1 로 잡아내는지 확인합니다.
+ * DataSource 대신 필터 체인 안에서 현재 요청의 통계에 직접 기록합니다.
+ */
+public class QueryStatisticsFilterUnitTest {
+        private static final String POST_FILES_SQL = "select pf.id from post_files pf where pf.post_id=?";
+
+        private QueryMonitoringProperties properties;
+        private SimpleMeterRegistry meterRegistry;
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @BeforeEach
+        public void setUp() {
+                properties = new QueryMonitoringProperties();
+                meterRegistry = new SimpleMeterRegistry();
+                request = new MockHttpServletRequest("GET", "/api/posts");
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts");
+                response = new MockHttpServletResponse();
+        }
+
+        @Test
+        public void testStatisticsAreExposedAsHeadersAndMetrics() throws Exception {
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, true);
+
+                filter.doFilter(request, response, executing(3, POST_FILES_SQL));
+
+                assertThat(response.getHeader(QueryStatisticsFilter.STATEMENTS_HEADER)).isEqualTo("3");
+                assertThat(response.getHeader(QueryStatisticsFilter.ROWS_HEADER)).isEqualTo("3");
+                assertThat(meterRegistry.get("jdbc.request.statements").tag("uri", "/api/posts").summary()
+                                .totalAmount()).isEqualTo(3);
+                assertThat(meterRegistry.find("jdbc.request.repeated").counter()).isNull();
+                assertThat(QueryStatisticsHolder.current()).isNull();
+        }
+
+        @Test
+        public void testHeadersAreHiddenWhenDisabled() throws Exception {
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, false);
+
+                filter.doFilter(request, response, executing(1, POST_FILES_SQL));
+
+                assertThat(response.getHeader(QueryStatisticsFilter.STATEMENTS_HEADER)).isNull();
+                assertThat(meterRegistry.get("jdbc.request.statements").summary().count()).isEqualTo(1);
+        }
+
+        @Test
+        public void testRepeatedStatementIsCountedAsPossibleNPlusOne() throws Exception {
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, true);
+
+                // 게시물 10개의 첨부 파일을 하나씩 불러오는 경우
+                filter.doFilter(request, response, executing(10, POST_FILES_SQL));
+
+                assertThat(meterRegistry.get("jdbc.request.repeated").tag("uri", "/api/posts").counter().count())
+                                .isEqualTo(1);
+        }
+
+        @Test
+        public void testRepeatedStatementFailsRequestWhenConfigured() throws Exception {
+                properties.setFailOnRepeat(true);
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, true);
+
+                assertThatThrownBy(() -> filter.doFilter(request, response, executing(10, POST_FILES_SQL)))
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessageContaining(POST_FILES_SQL);
+                // 본문을 쓰기 전에 실패하므로 200 응답이 나가지 않음
+                assertThat(response.isCommitted()).isFalse();
+                assertThat(response.getContentAsString()).isEmpty();
+                assertThat(meterRegistry.get("jdbc.request.repeated").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        public void testRepeatedStatementFailsRequestWithoutBody() {
+                properties.setFailOnRepeat(true);
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, false);
+
+                // 304 처럼 본문 없이 끝난 응답도 필터가 끝나기 전에 확인
+                assertThatThrownBy(() -> filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+                        QueryStatistics statistics = QueryStatisticsHolder.current();
+                        for (int i = 0; i < 10; i++) {
+                                statistics.recordStatement(POST_FILES_SQL, 1_000);
+                        }
+                })).isInstanceOf(IllegalStateException.class);
+                assertThat(response.isCommitted()).isFalse();
+        }
+
+        @Test
+        public void testRepeatedStatementAfterCommitIsOnlyRecorded() throws Exception {
+                properties.setFailOnRepeat(true);
+                QueryStatisticsFilter filter = new QueryStatisticsFilter(properties, meterRegistry, false);
+
+                // 본문을 쓴 뒤에 실행한 문장은 응답을 바꿀 수 없으므로 지표와 경고만 남김
+                filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+                        servletResponse.getWriter().write("{}");
+                        servletResponse.flushBuffer();
+                        QueryStatistics statistics = QueryStatisticsHolder.current();
+                        for (int i = 0; i < 10; i++) {
+                                statistics.recordStatement(POST_FILES_SQL, 1_000);
+                        }
+                });
+
+                assertThat(response.getContentAsString()).isEqualTo("{}");
+                assertThat(meterRegistry.get("jdbc.request.repeated").counter().count()).isEqualTo(1);
+        }
+
+        /**
+         * 같은 SQL 을 count 번 실행하고 각각 한 행씩 읽은 뒤 본문을 쓰는 필터 체인
+         */
+        private static FilterChain executing(int count, String sql) {
+                return (servletRequest, servletResponse) -> {
+                        QueryStatistics statistics = QueryStatisticsHolder.current();
+                        for (int i = 0; i < count; i++) {
+                                statistics.recordStatement(sql, 1_000);
+                                statistics.recordRow(100);
+                        }
+                        servletResponse.getWriter().write("{}");
+                };
+        }
+}
@@ -0,0 +1,61 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import shop.samgak.mini_board.config.RedisResilienceProperties;
+import shop.samgak.mini_board.exceptions.ServerBusyException;
+import shop.samgak.mini_board.security.RedisSessionInspector;
+
+/**
+ * 세션 조회 도구의 회로 차단기가 연결 실패에만 열리고 잘못된 요청으로는 열리지 않는지 확인합니다.
+ */
+public class RedisSessionInspectorUnitTest {
+        private RedisTemplate<String, Object> redisTemplate;
+        private RedisSessionInspector inspector;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+                redisTemplate = mock(RedisTemplate.class);
+                RedisResilienceProperties properties = new RedisResilienceProperties();
+                properties.setFailureThreshold(3);
+                inspector = new RedisSessionInspector(redisTemplate, mock(RedisSerializer.class), properties);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void testInvalidRequestsDoNotOpenCircuit() {
+                when(redisTemplate.execute(any(RedisCallback.class)))
+                                .thenThrow(new InvalidDataAccessApiUsageException("ERR invalid cursor"));
+
+                // 잘못된 커서를 여러 번 보내도 Redis 는 응답하고 있으므로 계속 호출
+                for (int i = 0; i < 10; i++) {
+                        assertThatThrownBy(() -> inspector.scan("bad-cursor", "*", 10))
+                                        .isInstanceOf(InvalidDataAccessApiUsageException.class);
+                }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void testConnectionFailuresOpenCircuit() {
+                when(redisTemplate.execute(any(RedisCallback.class)))
+                                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+                for (int i = 0; i < 3; i++) {
+                        assertThatThrownBy(() -> inspector.scan("0", "*", 10))
+                                        .isInstanceOf(RedisConnectionFailureException.class);
+                }
+                assertThatThrownBy(() -> inspector.scan("0", "*", 10)).isInstanceOf(ServerBusyException.class);
+        }
+}
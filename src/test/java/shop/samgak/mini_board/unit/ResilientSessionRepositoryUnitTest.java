@@ -0,0 +1,239 @@
+package shop.samgak.mini_board.unit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import shop.samgak.mini_board.session.ResilientSessionRepository;
+import shop.samgak.mini_board.session.ResilientSessionRepository.ResilientSession;
+import shop.samgak.mini_board.utility.CircuitBreaker;
+
+/**
+ * Redis 대신 응답 지연을 주입할 수 있는 로컬 세션 저장소를 사용하여
+ * Redis 가 느려져도 세션 처리 지연이 예산 안에 머무는지, 회로 차단기가 HALF_OPEN 에 머무르지 않는지 확인합니다.
+ */
+public class ResilientSessionRepositoryUnitTest {
+        // Lettuce 명령 타임아웃(spring.data.redis.timeout)에 해당하는 값
+        private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(50);
+        private static final int REQUESTS = 1000;
+
+        private LatencyInjectingSessionRepository redis;
+
+        @BeforeEach
+        public void setUp() {
+                redis = new LatencyInjectingSessionRepository(COMMAND_TIMEOUT);
+        }
+
+        @Test
+        public void testTailLatencyStaysWithinBudgetWhileRedisIsSlow() {
+                ResilientSessionRepository repository = new ResilientSessionRepository(redis,
+                                new CircuitBreaker("redis", 5, Duration.ofMinutes(1)), 10000,
+                                new SimpleMeterRegistry());
+                redis.setLatency(Duration.ofSeconds(2));
+
+                long[] latencies = new long[REQUESTS];
+                for (int i = 0; i < REQUESTS; i++) {
+                        long startedAt = System.nanoTime();
+                        // 세션 쿠키를 가진 요청 하나의 처리: 조회 후 없으면 새로 만들어 저장
+                        ResilientSession session = repository.findById("session-" + i);
+                        if (session == null) {
+                                session = repository.createSession();
+                        }
+                        session.setAttribute("viewedPosts", i);
+                        repository.save(session);
+                        latencies[i] = System.nanoTime() - startedAt;
+                }
+
+                Arrays.sort(latencies);
+                Duration p99 = Duration.ofNanos(latencies[(int) (REQUESTS * 0.99) - 1]);
+                Duration max = Duration.ofNanos(latencies[REQUESTS - 1]);
+                // 차단기가 열리기 전 몇 번만 타임아웃을 기다리고, 이후 요청은 Redis 를 기다리지 않음
+                assertThat(p99).isLessThan(Duration.ofMillis(10));
+                assertThat(max).isLessThan(COMMAND_TIMEOUT.multipliedBy(2).plusMillis(100));
+                assertThat(redis.getCalls()).isLessThanOrEqualTo(5);
+        }
+
+        @Test
+        public void testLocalSessionMovesToRedisAfterRecovery() throws Exception {
+                ResilientSessionRepository repository = new ResilientSessionRepository(redis,
+                                new CircuitBreaker("redis", 1, Duration.ofMillis(100)), 10000,
+                                new SimpleMeterRegistry());
+                redis.setLatency(Duration.ofSeconds(2));
+
+                // Redis 장애 중에 만든 세션은 로컬 저장소에 보관
+                repository.findById("unknown");
+                ResilientSession session = repository.createSession();
+                session.setAttribute("user", "testUser");
+                repository.save(session);
+                assertThat(session.isLocal()).isTrue();
+                String localId = session.getId();
+                assertThat(redis.getStored()).isEmpty();
+
+                // Redis 복구 후 다음 저장 시점에 새 ID 로 Redis 에 옮겨짐
+                redis.setLatency(Duration.ZERO);
+                Thread.sleep(150);
+                ResilientSession restored = repository.findById(localId);
+                assertThat(restored).isNotNull();
+                repository.save(restored);
+
+                assertThat(restored.isLocal()).isFalse();
+                assertThat(restored.getId()).isNotEqualTo(localId);
+                assertThat(redis.getStored()).containsOnlyKeys(restored.getId());
+                assertThat((String) redis.getStored().get(restored.getId()).getAttribute("user")).isEqualTo("testUser");
+                assertThat(repository.findById(localId)).isNull();
+        }
+
+        @Test
+        public void testSessionsUseRedisWhileHealthy() {
+                ResilientSessionRepository repository = new ResilientSessionRepository(redis,
+                                new CircuitBreaker("redis", 5, Duration.ofMinutes(1)), 10000,
+                                new SimpleMeterRegistry());
+
+                ResilientSession session = repository.createSession();
+                session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "testUser");
+                repository.save(session);
+
+                assertThat(session.isLocal()).isFalse();
+                assertThat(redis.getStored()).containsOnlyKeys(session.getId());
+                assertThat(repository.findByPrincipalName("testUser")).containsOnlyKeys(session.getId());
+        }
+
+        @Test
+        public void testTrialCallFailingWithOtherExceptionReopensCircuit() throws Exception {
+                CircuitBreaker circuitBreaker = new CircuitBreaker("redis", 1, Duration.ofMillis(100));
+                ResilientSessionRepository repository = new ResilientSessionRepository(redis, circuitBreaker, 10000,
+                                new SimpleMeterRegistry());
+                redis.setLatency(Duration.ofSeconds(2));
+                repository.findById("unknown");
+                assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+                // 시험 호출이 DataAccessException 이 아닌 예외로 끝나도 실패로 기록되어 OPEN 으로 돌아감
+                redis.setLatency(Duration.ZERO);
+                redis.setFailure(new SerializationException("Cannot deserialize session"));
+                Thread.sleep(150);
+                assertThatThrownBy(() -> repository.findById("unknown")).isInstanceOf(SerializationException.class);
+                assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+                // 다음 시험 호출이 성공하면 CLOSED 로 돌아감
+                redis.setFailure(null);
+                Thread.sleep(150);
+                assertThat(repository.findById("unknown")).isNull();
+                assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        public void testUnreportedTrialCallReopensCircuitAfterTimeout() throws Exception {
+                CircuitBreaker circuitBreaker = new CircuitBreaker("redis", 1, Duration.ofMillis(100));
+                circuitBreaker.recordFailure();
+
+                Thread.sleep(150);
+                // 결과를 알리지 않는 시험 호출
+                assertThat(circuitBreaker.allowRequest()).isTrue();
+                assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+                assertThat(circuitBreaker.allowRequest()).isFalse();
+
+                // 시험 호출 결과를 기다리는 시간이 지나면 OPEN 으로 돌아가고, 다시 유지 시간이 지나면 시험 호출 허용
+                Thread.sleep(150);
+                assertThat(circuitBreaker.allowRequest()).isFalse();
+                assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+                Thread.sleep(150);
+                assertThat(circuitBreaker.allowRequest()).isTrue();
+                circuitBreaker.recordSuccess();
+                assertThat(circuitBreaker.isClosed()).isTrue();
+        }
+
+        /**
+         * Redis 세션 저장소 역할을 하는 메모리 저장소
+         * 주입한 지연이 명령 타임아웃보다 길면 Lettuce 처럼 타임아웃만큼 기다린 뒤 QueryTimeoutException 을 던집니다.
+         */
+        private static class LatencyInjectingSessionRepository implements FindByIndexNameSessionRepository<MapSession> {
+                private final Duration commandTimeout;
+                private final Map<String, MapSession> stored = new ConcurrentHashMap<>();
+                private volatile Duration latency = Duration.ZERO;
+                private volatile RuntimeException failure;
+                private volatile int calls;
+
+                LatencyInjectingSessionRepository(Duration commandTimeout) {
+                        this.commandTimeout = commandTimeout;
+                }
+
+                void setLatency(Duration latency) {
+                        this.latency = latency;
+                }
+
+                void setFailure(RuntimeException failure) {
+                        this.failure = failure;
+                }
+
+                Map<String, MapSession> getStored() {
+                        return stored;
+                }
+
+                int getCalls() {
+                        return calls;
+                }
+
+                private void roundTrip() {
+                        calls++;
+                        Duration current = latency;
+                        boolean timedOut = current.compareTo(commandTimeout) > 0;
+                        try {
+                                Thread.sleep(timedOut ? commandTimeout.toMillis() : current.toMillis());
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                        if (timedOut) {
+                                throw new QueryTimeoutException("Redis command timed out");
+                        }
+                        if (failure != null) {
+                                throw failure;
+                        }
+                }
+
+                @Override
+                public MapSession createSession() {
+                        return new MapSession();
+                }
+
+                @Override
+                public void save(MapSession session) {
+                        roundTrip();
+                        stored.remove(session.getOriginalId());
+                        stored.put(session.getId(), new MapSession(session));
+                }
+
+                @Override
+                public MapSession findById(String id) {
+                        roundTrip();
+                        MapSession session = stored.get(id);
+                        return session == null ? null : new MapSession(session);
+                }
+
+                @Override
+                public void deleteById(String id) {
+                        roundTrip();
+                        stored.remove(id);
+                }
+
+                @Override
+                public Map<String, MapSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+                        roundTrip();
+                        return stored.values().stream()
+                                        .filter(session -> indexValue.equals(session.getAttribute(indexName)))
+                                        .collect(Collectors.toMap(MapSession::getId, MapSession::new));
+                }
+        }
+}
@@ -0,0 +1,78 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import shop.samgak.mini_board.config.TokenProperties;
+import shop.samgak.mini_board.security.MyUserDetails;
+import shop.samgak.mini_board.security.TokenService;
+import shop.samgak.mini_board.security.TokenService.RefreshToken;
+import shop.samgak.mini_board.user.dto.UserDTO;
+
+/**
+ * 토큰 서명 키 설정 검사와 갱신 토큰의 비밀번호 버전 확인을 검증합니다.
+ */
+public class TokenServiceUnitTest {
+        private TokenProperties tokenProperties;
+
+        @BeforeEach
+        public void setUp() {
+                tokenProperties = new TokenProperties();
+                tokenProperties.setStateless(true);
+                tokenProperties.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        }
+
+        @Test
+        public void testStatelessWithoutSecretFailsStartup() {
+                tokenProperties.setSecret("");
+
+                assertThatThrownBy(() -> new TokenService(tokenProperties))
+                                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        public void testSessionModeWithoutSecretStarts() {
+                tokenProperties.setStateless(false);
+                tokenProperties.setSecret("");
+
+                assertThat(new TokenService(tokenProperties)).isNotNull();
+        }
+
+        @Test
+        public void testRefreshTokenMatchesOnlyCurrentPassword() {
+                TokenService tokenService = new TokenService(tokenProperties);
+
+                RefreshToken refreshToken = tokenService
+                                .parseRefreshToken(tokenService.issueRefreshToken(new UserDTO(1L, "user"), "old-hash"));
+
+                assertThat(refreshToken.userId()).isEqualTo(1L);
+                assertThat(refreshToken.tokenId()).isNotBlank();
+                assertThat(tokenService.matchesPasswordVersion(refreshToken, "old-hash")).isTrue();
+                assertThat(tokenService.matchesPasswordVersion(refreshToken, "new-hash")).isFalse();
+        }
+
+        @Test
+        public void testAccessTokenIsNotAcceptedAsRefreshToken() {
+                TokenService tokenService = new TokenService(tokenProperties);
+
+                String accessToken = tokenService.issueAccessToken(new MyUserDetails(new UserDTO(1L, "user"), null));
+
+                assertThat(tokenService.parseRefreshToken(accessToken)).isNull();
+        }
+
+        @Test
+        public void testTokenSignedWithOtherKeyIsRejected() {
+                String refreshToken = new TokenService(tokenProperties)
+                                .issueRefreshToken(new UserDTO(1L, "user"), "hash");
+                byte[] otherKey = new byte[32];
+                otherKey[0] = 1;
+                tokenProperties.setSecret(Base64.getEncoder().encodeToString(otherKey));
+
+                assertThat(new TokenService(tokenProperties).parseRefreshToken(refreshToken)).isNull();
+        }
+}
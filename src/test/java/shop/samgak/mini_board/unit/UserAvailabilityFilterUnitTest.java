@@ -0,0 +1,87 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.user.cache.UserAvailabilityFilter;
+import shop.samgak.mini_board.user.dto.UserIdentityDTO;
+import shop.samgak.mini_board.user.entities.User;
+import shop.samgak.mini_board.user.repositories.UserRepository;
+import shop.samgak.mini_board.user.services.UserServiceImpl;
+
+/**
+ * 사용자명/이메일 블룸 필터가 없다고 판단한 값만 DB 조회를 건너뛰고,
+ * 있을 수 있다고 판단한 값은 DB 로 확인하는지 확인합니다.
+ */
+public class UserAvailabilityFilterUnitTest {
+        private UserRepository userRepository;
+        private UserAvailabilityFilter filter;
+        private UserServiceImpl userService;
+
+        @BeforeEach
+        public void setUp() {
+                userRepository = mock(UserRepository.class);
+                filter = new UserAvailabilityFilter(userRepository, new CacheProperties());
+                userService = new UserServiceImpl(userRepository, mock(PasswordEncoder.class), filter);
+        }
+
+        @Test
+        public void testUnknownUsernameSkipsDatabase() {
+                rebuildWith(new UserIdentityDTO(1L, "user", "user@example.com"));
+
+                assertThat(userService.existUsername("newcomer")).isFalse();
+                verify(userRepository, never()).findByUsername(any());
+        }
+
+        @Test
+        public void testMightContainFallsBackToDatabase() {
+                rebuildWith(new UserIdentityDTO(1L, "user", "user@example.com"));
+                when(userRepository.findByUsername(" User ")).thenReturn(Optional.of(new User()));
+                when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.empty());
+
+                // 정규화된 값이 필터에 있으므로 DB 결과를 그대로 따름
+                assertThat(userService.existUsername(" User ")).isTrue();
+                assertThat(userService.existEmail("user@example.com")).isFalse();
+                verify(userRepository).findByUsername(" User ");
+                verify(userRepository).findByEmail("user@example.com");
+        }
+
+        @Test
+        public void testQueriesDatabaseBeforeFilterIsBuilt() {
+                when(userRepository.findByUsername("user")).thenReturn(Optional.of(new User()));
+
+                assertThat(filter.mightContainUsername("user")).isTrue();
+                assertThat(userService.existUsername("user")).isTrue();
+                verify(userRepository).findByUsername("user");
+        }
+
+        @Test
+        public void testAddedUserIsVisibleWithoutRebuild() {
+                rebuildWith();
+
+                filter.add("joined", "joined@example.com");
+
+                assertThat(filter.mightContainUsername("JOINED")).isTrue();
+                assertThat(filter.mightContainEmail("joined@example.com")).isTrue();
+        }
+
+        private void rebuildWith(UserIdentityDTO... identities) {
+                when(userRepository.count()).thenReturn((long) identities.length);
+                when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(identities));
+                filter.rebuild();
+        }
+}
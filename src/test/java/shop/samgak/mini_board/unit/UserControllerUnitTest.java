@@ -22,13 +22,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import shop.samgak.mini_board.security.WithMockMyUserDetails;
 import shop.samgak.mini_board.user.controllers.UserController;
 import shop.samgak.mini_board.user.controllers.UserController.RegisterRequest;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.dto.UserPageDTO;
 import shop.samgak.mini_board.user.services.UserService;
 
 @ActiveProfiles("test")
@@ -41,6 +48,7 @@ public class UserControllerUnitTest {
         private static final String API_USERS_REGISTER = "/api/users/register";
         private static final String API_USERS_PASSWORD = "/api/users/password";
         private static final String API_USERS_ME = "/api/users/me";
+        private static final String API_USERS_LIST = "/api/users/list";
 
         private static final String JSON_PATH_MESSAGE = "$.message";
         private static final String JSON_PATH_CODE = "$.code";
@@ -141,6 +149,53 @@ public class UserControllerUnitTest {
                                                 .value("SUCCESS"));
         }
 
+        @Test
+        public void testRegisterUniqueViolationConflict() throws Exception {
+                String username = "newUser";
+                String email = "newuser@example.com";
+                String password = "password123Q!";
+
+                // 다른 인스턴스에서 같은 사용자명으로 먼저 가입한 경우
+                when(userService.save(username, email, password)).thenThrow(new DataIntegrityViolationException(
+                                "could not execute statement",
+                                new ConstraintViolationException("ORA-00001", new SQLException("ORA-00001"),
+                                                "SAMGAK.UK_USERNAME")));
+
+                mockMvc.perform(post(API_USERS_REGISTER)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .session(checkedSession(username, email))
+                                .content(objectMapper.writeValueAsString(
+                                                new RegisterRequest(username, email, password))))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath(JSON_PATH_MESSAGE).value("Username is already in use"));
+        }
+
+        @Test
+        public void testRegisterOtherIntegrityViolationIsNotConflict() throws Exception {
+                String username = "newUser";
+                String email = "newuser@example.com";
+                String password = "password123Q!";
+
+                when(userService.save(username, email, password)).thenThrow(new DataIntegrityViolationException(
+                                "could not execute statement",
+                                new ConstraintViolationException("ORA-02291", new SQLException("ORA-02291"),
+                                                "SAMGAK.SYS_C008123")));
+
+                mockMvc.perform(post(API_USERS_REGISTER)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .session(checkedSession(username, email))
+                                .content(objectMapper.writeValueAsString(
+                                                new RegisterRequest(username, email, password))))
+                                .andExpect(status().isInternalServerError());
+        }
+
+        private MockHttpSession checkedSession(String username, String email) {
+                MockHttpSession session = new MockHttpSession();
+                session.setAttribute(UserController.SESSION_CHECKED_USER, username);
+                session.setAttribute(UserController.SESSION_CHECKED_EMAIL, email);
+                return session;
+        }
+
         @Test
         @WithMockMyUserDetails
         public void testChangePasswordSuccess() throws Exception {
@@ -198,4 +253,20 @@ public class UserControllerUnitTest {
                                 .andExpect(jsonPath(JSON_PATH_CODE)
                                                 .value("FAILURE"));
         }
+
+        @Test
+        @WithMockMyUserDetails
+        public void testListUsersClampsPageSize() throws Exception {
+                List<UserDTO> users = List.of(new UserDTO(1L, "user1"), new UserDTO(2L, "user2"));
+                when(userService.getPage(0L, 100)).thenReturn(new UserPageDTO(users, 2L));
+
+                mockMvc.perform(get(API_USERS_LIST)
+                                .param("size", "1000")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath(JSON_PATH_CODE)
+                                                .value("SUCCESS"))
+                                .andExpect(jsonPath(JSON_PATH_DATA + ".users.length()").value(2))
+                                .andExpect(jsonPath(JSON_PATH_DATA + ".nextAfterId").value(2));
+        }
 }
@@ -0,0 +1,68 @@
+package shop.samgak.mini_board.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import shop.samgak.mini_board.config.CacheProperties;
+import shop.samgak.mini_board.user.cache.UserLookupCache;
+import shop.samgak.mini_board.user.dto.UserCredentialDTO;
+import shop.samgak.mini_board.user.dto.UserDTO;
+import shop.samgak.mini_board.user.repositories.UserRepository;
+
+/**
+ * 사용자 조회 캐시가 비밀번호 해시는 캐시하지 않고 사용자 정보만 보관하는지 확인합니다.
+ */
+public class UserLookupCacheUnitTest {
+        private UserRepository userRepository;
+        private UserLookupCache userLookupCache;
+
+        @BeforeEach
+        public void setUp() {
+                userRepository = mock(UserRepository.class);
+                userLookupCache = new UserLookupCache(userRepository, new CacheProperties());
+        }
+
+        @Test
+        public void testChangedPasswordIsReadOnNextLogin() {
+                when(userRepository.findCredentialsByUsername("user"))
+                                .thenReturn(Optional.of(new UserCredentialDTO(1L, "user", "old-hash")))
+                                .thenReturn(Optional.of(new UserCredentialDTO(1L, "user", "new-hash")));
+
+                assertThat(userLookupCache.getCredentials("user").getPassword()).isEqualTo("old-hash");
+                // 다른 인스턴스에서 비밀번호를 바꾼 뒤의 로그인
+                assertThat(userLookupCache.getCredentials("user").getPassword()).isEqualTo("new-hash");
+                verify(userRepository, times(2)).findCredentialsByUsername("user");
+        }
+
+        @Test
+        public void testLoginFillsUserCache() {
+                when(userRepository.findCredentialsByUsername("user"))
+                                .thenReturn(Optional.of(new UserCredentialDTO(1L, "user", "hash")));
+
+                userLookupCache.getCredentials("user");
+                UserDTO userDTO = userLookupCache.getById(1L);
+
+                assertThat(userDTO.getUsername()).isEqualTo("user");
+                verify(userRepository, never()).findDTOById(1L);
+        }
+
+        @Test
+        public void testEvictReloadsUser() {
+                when(userRepository.findDTOById(1L)).thenReturn(Optional.of(new UserDTO(1L, "user")))
+                                .thenReturn(Optional.empty());
+
+                assertThat(userLookupCache.getById(1L)).isNotNull();
+                userLookupCache.evict(1L);
+
+                assertThat(userLookupCache.getById(1L)).isNull();
+        }
+}